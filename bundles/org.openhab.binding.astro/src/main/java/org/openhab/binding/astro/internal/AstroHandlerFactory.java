@@ -20,6 +20,7 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.calc.AstroCalcCache;
 import org.openhab.binding.astro.internal.handler.AstroThingHandler;
 import org.openhab.binding.astro.internal.handler.MoonHandler;
 import org.openhab.binding.astro.internal.handler.SunHandler;
@@ -47,6 +48,7 @@ public class AstroHandlerFactory extends BaseThingHandlerFactory {
     private static final Map<String, AstroThingHandler> ASTRO_THING_HANDLERS = new HashMap<>();
     private final CronScheduler scheduler;
     private final TimeZoneProvider timeZoneProvider;
+    private final AstroCalcCache calcCache = new AstroCalcCache();
 
     @Activate
     public AstroHandlerFactory(final @Reference CronScheduler scheduler,
@@ -65,9 +67,9 @@ public class AstroHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         AstroThingHandler thingHandler = null;
         if (thingTypeUID.equals(THING_TYPE_SUN)) {
-            thingHandler = new SunHandler(thing, scheduler, timeZoneProvider);
+            thingHandler = new SunHandler(thing, scheduler, timeZoneProvider, calcCache);
         } else if (thingTypeUID.equals(THING_TYPE_MOON)) {
-            thingHandler = new MoonHandler(thing, scheduler, timeZoneProvider);
+            thingHandler = new MoonHandler(thing, scheduler, timeZoneProvider, calcCache);
         }
         if (thingHandler != null) {
             ASTRO_THING_HANDLERS.put(thing.getUID().toString(), thingHandler);
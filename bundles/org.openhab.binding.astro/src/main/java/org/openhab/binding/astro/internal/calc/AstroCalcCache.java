@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.Sun;
+
+/**
+ * The {@link AstroCalcCache} shares the data of a day (rise, set, ranges, phases, eclipses, zodiac and seasons) between
+ * all things calculating for the same location, so that it is calculated once a day only.
+ *
+ * The cached {@link Sun} and {@link Moon} instances must not be modified or published, use
+ * {@link SunCalc#getSunInfo(Calendar, Sun, double)} and {@link MoonCalc#getMoonInfo(Calendar, Moon)} to get an
+ * instance for a given time.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AstroCalcCache {
+    private static final int MAX_ENTRIES = 32;
+
+    private final Map<Key, Day<?>> days = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Day<?>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Returns the sun data of the day of the specified calendar, calculates it if it is not cached yet.
+     */
+    public Day<Sun> getSun(Calendar calendar, double latitude, double longitude, double altitude,
+            boolean useMeteorologicalSeason, SunCalc sunCalc) {
+        return get(new Key(Sun.class, latitude, longitude, altitude, useMeteorologicalSeason, calendar), () -> {
+            Sun sun = sunCalc.getSunInfo(calendar, latitude, longitude, altitude, useMeteorologicalSeason);
+            sunCalc.setEclipseElevations(sun, latitude, longitude, altitude);
+            return sun;
+        });
+    }
+
+    /**
+     * Returns the moon data of the day of the specified calendar, calculates it if it is not cached yet.
+     */
+    public Day<Moon> getMoon(Calendar calendar, double latitude, double longitude, MoonCalc moonCalc) {
+        return get(new Key(Moon.class, latitude, longitude, 0, false, calendar), () -> {
+            Moon moon = moonCalc.getMoonInfo(calendar, latitude, longitude);
+            moonCalc.setEclipseElevations(moon, latitude, longitude);
+            return moon;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> Day<T> get(Key key, Supplier<T> calculation) {
+        Day<?> day = days.get(key);
+        if (day == null) {
+            long start = System.nanoTime();
+            T value = calculation.get();
+            day = new Day<>(value, System.nanoTime() - start);
+            days.put(key, day);
+        }
+        return (Day<T>) day;
+    }
+
+    /**
+     * The data of a day and the time its calculation took.
+     */
+    public record Day<T>(T value, long calculationNanos) {
+    }
+
+    private record Key(Class<?> planet, double latitude, double longitude, double altitude,
+            boolean useMeteorologicalSeason, LocalDate date, String timeZone) {
+        Key(Class<?> planet, double latitude, double longitude, double altitude, boolean useMeteorologicalSeason,
+                Calendar calendar) {
+            this(planet, latitude, longitude, altitude, useMeteorologicalSeason,
+                    LocalDate.of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                            calendar.get(Calendar.DAY_OF_MONTH)),
+                    calendar.getTimeZone().getID());
+        }
+    }
+}
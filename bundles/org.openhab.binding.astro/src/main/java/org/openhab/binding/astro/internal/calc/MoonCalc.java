@@ -100,6 +100,59 @@ public class MoonCalc {
         return moon;
     }
 
+    /**
+     * Returns the moon data of the day of the specified moon for the specified calendar. The rise, set and eclipses are
+     * shared with the specified moon, apogee and perigee are recalculated only if they are before the specified
+     * calendar.
+     */
+    public Moon getMoonInfo(Calendar calendar, Moon dayMoon) {
+        Moon moon = new Moon();
+        moon.setRise(dayMoon.getRise());
+        moon.setSet(dayMoon.getSet());
+        moon.setEclipse(dayMoon.getEclipse());
+
+        MoonPhase dayPhase = dayMoon.getPhase();
+        MoonPhase phase = moon.getPhase();
+        phase.setNew(dayPhase.getNew());
+        phase.setFirstQuarter(dayPhase.getFirstQuarter());
+        phase.setFull(dayPhase.getFull());
+        phase.setThirdQuarter(dayPhase.getThirdQuarter());
+
+        double julianDate = DateTimeUtils.dateToJulianDate(calendar);
+        double decimalYear = DateTimeUtils.getDecimalYear(calendar);
+        if (dayMoon.getApogee().getDate().before(calendar)) {
+            double apogeeJd = getApogee(julianDate, decimalYear);
+            moon.getApogee().setDate(DateTimeUtils.toCalendar(apogeeJd));
+            moon.getApogee().setDistance(getDistance(apogeeJd));
+        } else {
+            moon.setApogee(dayMoon.getApogee());
+        }
+        if (dayMoon.getPerigee().getDate().before(calendar)) {
+            double perigeeJd = getPerigee(julianDate, decimalYear);
+            moon.getPerigee().setDate(DateTimeUtils.toCalendar(perigeeJd));
+            moon.getPerigee().setDistance(getDistance(perigeeJd));
+        } else {
+            moon.setPerigee(dayMoon.getPerigee());
+        }
+        return moon;
+    }
+
+    /**
+     * Calculates the elevation of the moon at the dates of the eclipses.
+     */
+    public void setEclipseElevations(Moon moon, double latitude, double longitude) {
+        Eclipse eclipse = moon.getEclipse();
+        Moon eclipseMoon = new Moon();
+        eclipse.getKinds().forEach(eclipseKind -> {
+            Calendar eclipseDate = eclipse.getDate(eclipseKind);
+            if (eclipseDate != null) {
+                setAzimuthElevationZodiac(DateTimeUtils.dateToJulianDate(eclipseDate), latitude, longitude,
+                        eclipseMoon);
+                eclipse.set(eclipseKind, eclipseDate, eclipseMoon.getPosition());
+            }
+        });
+    }
+
     /**
      * Calculates the moon illumination and distance.
      */
@@ -59,8 +59,22 @@ public class SeasonCalc {
             atMidnightOfFirstMonthDay(season.getWinter());
         }
 
-        season.setName(!isSouthernHemisphere ? getCurrentSeasonNameNorthern(calendar)
-                : getCurrentSeasonNameSouthern(calendar));
+        season.setName(!isSouthernHemisphere ? getCurrentSeasonNameNorthern(season, calendar)
+                : getCurrentSeasonNameSouthern(season, calendar));
+        return season;
+    }
+
+    /**
+     * Returns a copy of the specified seasons of the year with the season name of the specified calendar.
+     */
+    public Season getSeason(Season seasons, Calendar calendar, double latitude) {
+        Season season = new Season();
+        season.setSpring(seasons.getSpring());
+        season.setSummer(seasons.getSummer());
+        season.setAutumn(seasons.getAutumn());
+        season.setWinter(seasons.getWinter());
+        season.setName(latitude >= 0.0 ? getCurrentSeasonNameNorthern(season, calendar)
+                : getCurrentSeasonNameSouthern(season, calendar));
         return season;
     }
 
@@ -75,19 +89,19 @@ public class SeasonCalc {
     /**
      * Returns the current season name for the northern hemisphere.
      */
-    private SeasonName getCurrentSeasonNameNorthern(Calendar calendar) {
+    private SeasonName getCurrentSeasonNameNorthern(Season season, Calendar calendar) {
         long currentMillis = calendar.getTimeInMillis();
-        if (currentMillis < currentSeason.getSpring().getTimeInMillis()
-                || currentMillis >= currentSeason.getWinter().getTimeInMillis()) {
+        if (currentMillis < season.getSpring().getTimeInMillis()
+                || currentMillis >= season.getWinter().getTimeInMillis()) {
             return SeasonName.WINTER;
-        } else if (currentMillis >= currentSeason.getSpring().getTimeInMillis()
-                && currentMillis < currentSeason.getSummer().getTimeInMillis()) {
+        } else if (currentMillis >= season.getSpring().getTimeInMillis()
+                && currentMillis < season.getSummer().getTimeInMillis()) {
             return SeasonName.SPRING;
-        } else if (currentMillis >= currentSeason.getSummer().getTimeInMillis()
-                && currentMillis < currentSeason.getAutumn().getTimeInMillis()) {
+        } else if (currentMillis >= season.getSummer().getTimeInMillis()
+                && currentMillis < season.getAutumn().getTimeInMillis()) {
             return SeasonName.SUMMER;
-        } else if (currentMillis >= currentSeason.getAutumn().getTimeInMillis()
-                && currentMillis < currentSeason.getWinter().getTimeInMillis()) {
+        } else if (currentMillis >= season.getAutumn().getTimeInMillis()
+                && currentMillis < season.getWinter().getTimeInMillis()) {
             return SeasonName.AUTUMN;
         }
         return null;
@@ -96,19 +110,19 @@ public class SeasonCalc {
     /**
      * Returns the current season name for the southern hemisphere.
      */
-    private SeasonName getCurrentSeasonNameSouthern(Calendar calendar) {
+    private SeasonName getCurrentSeasonNameSouthern(Season season, Calendar calendar) {
         long currentMillis = calendar.getTimeInMillis();
-        if (currentMillis < currentSeason.getAutumn().getTimeInMillis()
-                || currentMillis >= currentSeason.getSummer().getTimeInMillis()) {
+        if (currentMillis < season.getAutumn().getTimeInMillis()
+                || currentMillis >= season.getSummer().getTimeInMillis()) {
             return SeasonName.SUMMER;
-        } else if (currentMillis >= currentSeason.getAutumn().getTimeInMillis()
-                && currentMillis < currentSeason.getWinter().getTimeInMillis()) {
+        } else if (currentMillis >= season.getAutumn().getTimeInMillis()
+                && currentMillis < season.getWinter().getTimeInMillis()) {
             return SeasonName.AUTUMN;
-        } else if (currentMillis >= currentSeason.getWinter().getTimeInMillis()
-                && currentMillis < currentSeason.getSpring().getTimeInMillis()) {
+        } else if (currentMillis >= season.getWinter().getTimeInMillis()
+                && currentMillis < season.getSpring().getTimeInMillis()) {
             return SeasonName.WINTER;
-        } else if (currentMillis >= currentSeason.getSpring().getTimeInMillis()
-                && currentMillis < currentSeason.getSummer().getTimeInMillis()) {
+        } else if (currentMillis >= season.getSpring().getTimeInMillis()
+                && currentMillis < season.getSummer().getTimeInMillis()) {
             return SeasonName.SPRING;
         }
         return null;
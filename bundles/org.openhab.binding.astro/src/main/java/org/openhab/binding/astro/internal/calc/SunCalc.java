@@ -256,7 +256,46 @@ public class SunCalc {
         SeasonCalc seasonCalc = new SeasonCalc();
         sun.setSeason(seasonCalc.getSeason(calendar, latitude, useMeteorologicalSeason));
 
-        // phase
+        setPhase(calendar, sun);
+
+        return sun;
+    }
+
+    /**
+     * Returns the sun data of the day of the specified sun for the specified calendar. The ranges, zodiac and eclipses
+     * are shared with the specified sun, the season name and the phase are set for the specified calendar.
+     */
+    public Sun getSunInfo(Calendar calendar, Sun daySun, double latitude) {
+        Sun sun = new Sun();
+        sun.getAllRanges().putAll(daySun.getAllRanges());
+        sun.setRise(daySun.getRise());
+        sun.setSet(daySun.getSet());
+        sun.setEclipse(daySun.getEclipse());
+        sun.setZodiac(daySun.getZodiac());
+        sun.setSeason(new SeasonCalc().getSeason(daySun.getSeason(), calendar, latitude));
+        setPhase(calendar, sun);
+        return sun;
+    }
+
+    /**
+     * Calculates the elevation of the sun at the dates of the eclipses.
+     */
+    public void setEclipseElevations(Sun sun, double latitude, double longitude, Double altitude) {
+        Eclipse eclipse = sun.getEclipse();
+        Sun eclipseSun = new Sun();
+        eclipse.getKinds().forEach(eclipseKind -> {
+            Calendar eclipseDate = eclipse.getDate(eclipseKind);
+            if (eclipseDate != null) {
+                setPositionalInfo(eclipseDate, latitude, longitude, altitude, eclipseSun);
+                eclipse.set(eclipseKind, eclipseDate, eclipseSun.getPosition());
+            }
+        });
+    }
+
+    /**
+     * Sets the phase of the sun at the specified calendar.
+     */
+    private void setPhase(Calendar calendar, Sun sun) {
         for (Entry<SunPhaseName, Range> rangeEntry : sortByValue(sun.getAllRanges()).entrySet()) {
             SunPhaseName entryPhase = rangeEntry.getKey();
             if (rangeEntry.getValue().matches(calendar)) {
@@ -267,8 +306,6 @@ public class SunCalc {
                 }
             }
         }
-
-        return sun;
     }
 
     /**
@@ -37,6 +37,7 @@ import javax.measure.quantity.Angle;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.astro.internal.action.AstroActions;
+import org.openhab.binding.astro.internal.calc.AstroCalcCache;
 import org.openhab.binding.astro.internal.config.AstroChannelConfig;
 import org.openhab.binding.astro.internal.config.AstroThingConfig;
 import org.openhab.binding.astro.internal.job.Job;
@@ -77,6 +78,9 @@ public abstract class AstroThingHandler extends BaseThingHandler {
 
     protected final TimeZoneProvider timeZoneProvider;
 
+    /** Data of the day, shared with all things */
+    protected final AstroCalcCache calcCache;
+
     private final Lock monitor = new ReentrantLock();
 
     private final Set<ScheduledFuture<?>> scheduledFutures = new HashSet<>();
@@ -87,10 +91,12 @@ public abstract class AstroThingHandler extends BaseThingHandler {
 
     private @Nullable ScheduledCompletableFuture<?> dailyJob;
 
-    public AstroThingHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
+    public AstroThingHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final AstroCalcCache calcCache) {
         super(thing);
         this.cronScheduler = scheduler;
         this.timeZoneProvider = timeZoneProvider;
+        this.calcCache = calcCache;
     }
 
     @Override
@@ -334,6 +340,15 @@ public abstract class AstroThingHandler extends BaseThingHandler {
      */
     public abstract void publishPositionalInfo();
 
+    /**
+     * Logs the calculation times of the data of the day and of the interval data.
+     */
+    protected void logCalculationTimes(long dailyNanos, long positionalNanos) {
+        logger.debug("Calculation for thing {} took {} ms for the data of the day and {} ms for the interval data",
+                getThing().getUID(), TimeUnit.NANOSECONDS.toMillis(dailyNanos),
+                TimeUnit.NANOSECONDS.toMillis(positionalNanos));
+    }
+
     /**
      * Returns the {@link Planet} instance (cannot be {@code null})
      */
@@ -18,6 +18,8 @@ import java.util.GregorianCalendar;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.calc.AstroCalcCache;
+import org.openhab.binding.astro.internal.calc.AstroCalcCache.Day;
 import org.openhab.binding.astro.internal.calc.MoonCalc;
 import org.openhab.binding.astro.internal.job.DailyJobMoon;
 import org.openhab.binding.astro.internal.job.Job;
@@ -45,19 +47,23 @@ public class MoonHandler extends AstroThingHandler {
     /**
      * Constructor
      */
-    public MoonHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
-        super(thing, scheduler, timeZoneProvider);
+    public MoonHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final AstroCalcCache calcCache) {
+        super(thing, scheduler, timeZoneProvider, calcCache);
     }
 
     @Override
     public void publishPositionalInfo() {
-        moon = getMoonAt(ZonedDateTime.now());
+        Calendar now = Calendar.getInstance();
+        Day<Moon> day = getDayAt(now);
+        long start = System.nanoTime();
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
-        moonCalc.setPositionalInfo(Calendar.getInstance(), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, moon);
-
-        moon.getEclipse().setElevations(this, timeZoneProvider);
+        Moon currentMoon = moonCalc.getMoonInfo(now, day.value());
+        moonCalc.setPositionalInfo(now, latitude != null ? latitude : 0, longitude != null ? longitude : 0,
+                currentMoon);
+        moon = currentMoon;
+        logCalculationTimes(day.calculationNanos(), System.nanoTime() - start);
 
         publishPlanet();
     }
@@ -83,20 +89,21 @@ public class MoonHandler extends AstroThingHandler {
         return new DailyJobMoon(thing.getUID().getAsString(), this);
     }
 
-    private Moon getMoonAt(ZonedDateTime date) {
+    private Day<Moon> getDayAt(Calendar calendar) {
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
-        return moonCalc.getMoonInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0);
+        return calcCache.getMoon(calendar, latitude != null ? latitude : 0, longitude != null ? longitude : 0,
+                moonCalc);
     }
 
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
-        Moon localMoon = getMoonAt(date);
+        Calendar calendar = GregorianCalendar.from(date);
+        Moon localMoon = moonCalc.getMoonInfo(calendar, getDayAt(calendar).value());
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
-        moonCalc.setPositionalInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, localMoon);
+        moonCalc.setPositionalInfo(calendar, latitude != null ? latitude : 0, longitude != null ? longitude : 0,
+                localMoon);
         return localMoon.getPosition();
     }
 }
@@ -18,6 +18,8 @@ import java.util.GregorianCalendar;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.calc.AstroCalcCache;
+import org.openhab.binding.astro.internal.calc.AstroCalcCache.Day;
 import org.openhab.binding.astro.internal.calc.SunCalc;
 import org.openhab.binding.astro.internal.job.DailyJobSun;
 import org.openhab.binding.astro.internal.job.Job;
@@ -43,20 +45,24 @@ public class SunHandler extends AstroThingHandler {
     /**
      * Constructor
      */
-    public SunHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
-        super(thing, scheduler, timeZoneProvider);
+    public SunHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final AstroCalcCache calcCache) {
+        super(thing, scheduler, timeZoneProvider, calcCache);
     }
 
     @Override
     public void publishPositionalInfo() {
-        sun = getSunAt(ZonedDateTime.now());
+        Calendar now = Calendar.getInstance();
+        Day<Sun> day = getDayAt(now);
+        long start = System.nanoTime();
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
         Double altitude = thingConfig.altitude;
-        sunCalc.setPositionalInfo(Calendar.getInstance(), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, altitude != null ? altitude : 0, sun);
-
-        sun.getEclipse().setElevations(this, timeZoneProvider);
+        Sun currentSun = sunCalc.getSunInfo(now, day.value(), latitude != null ? latitude : 0);
+        sunCalc.setPositionalInfo(now, latitude != null ? latitude : 0, longitude != null ? longitude : 0,
+                altitude != null ? altitude : 0, currentSun);
+        sun = currentSun;
+        logCalculationTimes(day.calculationNanos(), System.nanoTime() - start);
 
         publishPlanet();
     }
@@ -82,17 +88,16 @@ public class SunHandler extends AstroThingHandler {
         return new DailyJobSun(thing.getUID().getAsString(), this);
     }
 
-    private Sun getSunAt(ZonedDateTime date) {
+    private Day<Sun> getDayAt(Calendar calendar) {
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
         Double altitude = thingConfig.altitude;
-        return sunCalc.getSunInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, altitude != null ? altitude : 0,
-                thingConfig.useMeteorologicalSeason);
+        return calcCache.getSun(calendar, latitude != null ? latitude : 0, longitude != null ? longitude : 0,
+                altitude != null ? altitude : 0, thingConfig.useMeteorologicalSeason, sunCalc);
     }
 
     private Sun getPositionedSunAt(ZonedDateTime date) {
-        Sun localSun = getSunAt(date);
+        Sun localSun = new Sun();
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
         Double altitude = thingConfig.altitude;
@@ -102,7 +107,7 @@ public class SunHandler extends AstroThingHandler {
     }
 
     public @Nullable ZonedDateTime getEventTime(SunPhaseName sunPhase, ZonedDateTime date, boolean begin) {
-        Range eventRange = getSunAt(date).getAllRanges().get(sunPhase);
+        Range eventRange = getDayAt(GregorianCalendar.from(date)).value().getAllRanges().get(sunPhase);
         if (eventRange != null) {
             Calendar cal = begin ? eventRange.getStart() : eventRange.getEnd();
             return ZonedDateTime.ofInstant(cal.toInstant(), date.getZone());
@@ -21,8 +21,6 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.astro.internal.handler.AstroThingHandler;
-import org.openhab.core.i18n.TimeZoneProvider;
 
 /**
  * Holds eclipse informations.
@@ -99,14 +97,4 @@ public class Eclipse {
         entries.put(eclipseKind,
                 new SimpleEntry<>(eclipseDate, position != null ? position.getElevationAsDouble() : null));
     }
-
-    public void setElevations(AstroThingHandler astroHandler, TimeZoneProvider timeZoneProvider) {
-        getKinds().forEach(eclipseKind -> {
-            Calendar eclipseDate = getDate(eclipseKind);
-            if (eclipseDate != null) {
-                set(eclipseKind, eclipseDate,
-                        astroHandler.getPositionAt(eclipseDate.toInstant().atZone(timeZoneProvider.getTimeZone())));
-            }
-        });
-    }
 }
@@ -158,6 +158,33 @@ public class MoonCalcTest {
                 moon.getPhase().getThirdQuarter().getTimeInMillis(), ACCURACY_IN_MILLIS);
     }
 
+    @Test
+    public void testGetMoonInfoFromCachedDay() {
+        AstroCalcCache cache = new AstroCalcCache();
+        AstroCalcCache.Day<Moon> day = cache.getMoon(FEB_27_2019, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, moonCalc);
+        assertSame(day, cache.getMoon(FEB_27_2019, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, moonCalc));
+
+        for (int hour = 0; hour < 24; hour++) {
+            Calendar calendar = MoonCalcTest.newCalendar(2019, Calendar.FEBRUARY, 27, hour, 30, TIME_ZONE);
+            Moon expected = moonCalc.getMoonInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+            moonCalc.setEclipseElevations(expected, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+            Moon moon = moonCalc.getMoonInfo(calendar,
+                    cache.getMoon(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, moonCalc).value());
+
+            assertEquals(expected.getRise().getStart(), moon.getRise().getStart());
+            assertEquals(expected.getSet().getStart(), moon.getSet().getStart());
+            assertEquals(expected.getPhase().getNew(), moon.getPhase().getNew());
+            assertEquals(expected.getPhase().getFull(), moon.getPhase().getFull());
+            assertEquals(expected.getApogee().getDate().getTimeInMillis(),
+                    moon.getApogee().getDate().getTimeInMillis(), ACCURACY_IN_MILLIS);
+            assertEquals(expected.getPerigee().getDistance().doubleValue(),
+                    moon.getPerigee().getDistance().doubleValue(), ACCURACY_IN_KILOMETRES);
+            assertEquals(expected.getEclipse().getTotal(), moon.getEclipse().getTotal());
+            assertEquals(expected.getEclipse().getTotalElevation(), moon.getEclipse().getTotalElevation());
+            assertEquals(expected.getEclipse().getPartialElevation(), moon.getEclipse().getPartialElevation());
+        }
+    }
+
     /***
      * Constructs a <code>GregorianCalendar</code> with the given date and time set
      * for the provided time zone.
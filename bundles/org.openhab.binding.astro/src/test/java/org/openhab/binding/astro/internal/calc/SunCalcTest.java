@@ -302,6 +302,30 @@ public class SunCalcTest {
         assertEquals(SunPhaseName.DAYLIGHT, sun.getPhase().getName());
     }
 
+    @Test
+    public void testGetSunInfoFromCachedDay() {
+        AstroCalcCache cache = new AstroCalcCache();
+        AstroCalcCache.Day<Sun> day = cache.getSun(FEB_27_2019, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE,
+                AMSTERDAM_ALTITUDE, false, sunCalc);
+        assertSame(day, cache.getSun(FEB_27_2019, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false,
+                sunCalc));
+
+        for (int hour = 0; hour < 24; hour++) {
+            Calendar calendar = SunCalcTest.newCalendar(2019, Calendar.FEBRUARY, 27, hour, 30, TIME_ZONE);
+            Sun expected = sunCalc.getSunInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE,
+                    false);
+            Sun sun = sunCalc.getSunInfo(calendar, cache.getSun(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE,
+                    AMSTERDAM_ALTITUDE, false, sunCalc).value(), AMSTERDAM_LATITUDE);
+
+            assertEquals(expected.getPhase().getName(), sun.getPhase().getName());
+            assertEquals(expected.getSeason().getName(), sun.getSeason().getName());
+            assertEquals(expected.getZodiac().getSign(), sun.getZodiac().getSign());
+            assertEquals(expected.getRise().getStart(), sun.getRise().getStart());
+            assertEquals(expected.getNight().getEnd(), sun.getNight().getEnd());
+            assertEquals(expected.getEclipse().getTotal(), sun.getEclipse().getTotal());
+        }
+    }
+
     /***
      * Constructs a <code>GregorianCalendar</code> with the given date and time set
      * for the provided time zone.
@@ -783,10 +783,12 @@ public class BlueGigaBridgeHandler extends AbstractBluetoothBridgeHandler<BlueGi
             if (initComplete) {
                 // We use the scan event to add any devices we hear to the devices list
                 // The device gets created, and then manages itself for discovery etc.
+                long startNanos = System.nanoTime();
                 BluetoothAddress sender = new BluetoothAddress(scanEvent.getSender());
                 BlueGigaBluetoothDevice device = getDevice(sender);
                 device.setAddressType(scanEvent.getAddressType());
                 deviceDiscovered(device);
+                recordCallbackLatency(startNanos);
             } else {
                 logger.trace("Ignore BlueGigaScanResponseEvent as initialization is not complete");
             }
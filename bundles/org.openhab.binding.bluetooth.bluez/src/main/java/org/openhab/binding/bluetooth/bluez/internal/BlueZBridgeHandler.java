@@ -216,8 +216,10 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
 
         if (address != null) {
             // now lets forward the event to the corresponding bluetooth device
+            long startNanos = System.nanoTime();
             BlueZBluetoothDevice device = getDevice(address);
             event.dispatch(device);
+            recordCallbackLatency(startNanos);
         }
     }
 
@@ -20,6 +20,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -51,9 +54,20 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     private final Set<BluetoothDiscoveryListener> discoveryListeners = new CopyOnWriteArraySet<>();
 
     // Map of Bluetooth devices known to this bridge.
-    // This contains the devices from the most recent scan
+    // This contains the devices from the most recent scan. The map is accessed without further locking, so device
+    // events and the discovery service do not block each other.
     private final Map<BluetoothAddress, BD> devices = new ConcurrentHashMap<>();
 
+    // Devices by the time they may become inactive, so a cleanup pass only checks the devices that are due.
+    // The wheel is replaced on initialize, so it is only scheduled on while holding the lock.
+    private final Object expiryWheelLock = new Object();
+    private ExpiryWheel<BluetoothAddress> expiryWheel = new ExpiryWheel<>(60000, 6);
+
+    // Device callback statistics since the last cleanup pass
+    private final LongAdder callbackCount = new LongAdder();
+    private final LongAdder callbackNanos = new LongAdder();
+    private final LongAccumulator maxCallbackNanos = new LongAccumulator(Long::max, 0);
+
     // Actual discovery status.
     protected volatile boolean activeScanEnabled = false;
 
@@ -90,6 +104,13 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
+        synchronized (expiryWheelLock) {
+            // A device created meanwhile is either in the map already or is scheduled on the new wheel
+            ExpiryWheel<BluetoothAddress> wheel = new ExpiryWheel<>(intervalSecs * 1000L,
+                    config.inactiveDeviceCleanupThreshold / Math.max(1, intervalSecs) + 2);
+            devices.keySet().forEach(address -> wheel.schedule(address, System.currentTimeMillis()));
+            expiryWheel = wheel;
+        }
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
                 TimeUnit.SECONDS);
     }
@@ -102,10 +123,11 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         }
         this.inactiveRemovalJob = null;
 
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                removeDevice(device);
-            }
+        for (BD device : devices.values()) {
+            removeDevice(device);
+        }
+        synchronized (expiryWheelLock) {
+            expiryWheel.clear();
         }
     }
 
@@ -114,23 +136,76 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     private void removeInactiveDevices() {
-        // clean up orphaned entries
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                if (shouldRemove(device)) {
-                    logger.debug("Removing device '{}' due to inactivity", device.getAddress());
-                    removeDevice(device);
-                }
+        // clean up orphaned entries, only the devices that reached their deadline are checked
+        int removed = 0;
+        ExpiryWheel<BluetoothAddress> wheel;
+        synchronized (expiryWheelLock) {
+            wheel = expiryWheel;
+        }
+        for (BluetoothAddress address : wheel.advance(System.currentTimeMillis())) {
+            BD device = devices.get(address);
+            if (device == null) {
+                continue;
+            }
+            if (shouldRemove(device)) {
+                logger.debug("Removing device '{}' due to inactivity", device.getAddress());
+                removeDevice(device);
+                removed++;
+            } else {
+                scheduleExpiryCheck(address, nextCheckTime(device));
             }
         }
+        logRegistryStatistics(removed);
+    }
+
+    private void scheduleExpiryCheck(BluetoothAddress address, long deadlineMillis) {
+        synchronized (expiryWheelLock) {
+            expiryWheel.schedule(address, deadlineMillis);
+        }
     }
 
     protected void removeDevice(BD device) {
-        device.dispose();
-        synchronized (devices) {
-            devices.remove(device.getAddress());
+        // only remove the map entry if it still belongs to this device, a new one may have been created meanwhile
+        if (devices.remove(device.getAddress(), device)) {
+            device.dispose();
+            discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
+        }
+    }
+
+    private long nextCheckTime(BD device) {
+        long thresholdMillis = config.inactiveDeviceCleanupThreshold * 1000L;
+        long now = System.currentTimeMillis();
+        if (device.hasListeners() || device.getConnectionState() == ConnectionState.CONNECTED) {
+            return now + thresholdMillis;
+        }
+        ZonedDateTime lastActiveTime = device.getLastSeenTime();
+        if (lastActiveTime == null) {
+            lastActiveTime = device.createTime;
+        }
+        return Math.max(now, lastActiveTime.toInstant().toEpochMilli() + thresholdMillis);
+    }
+
+    /**
+     * Records the time a device event callback took, for example the dispatch of an event from the Bluetooth stack to
+     * the device. The statistics are logged with every cleanup pass.
+     *
+     * @param startNanos the {@link System#nanoTime()} when the callback started
+     */
+    protected void recordCallbackLatency(long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        callbackCount.increment();
+        callbackNanos.add(nanos);
+        maxCallbackNanos.accumulate(nanos);
+    }
+
+    private void logRegistryStatistics(int removed) {
+        long count = callbackCount.sumThenReset();
+        long nanos = callbackNanos.sumThenReset();
+        long maxNanos = maxCallbackNanos.getThenReset();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Device registry of {}: {} devices, {} removed, {} callbacks with {} us average and {} us max",
+                    getUID(), devices.size(), removed, count, count == 0 ? 0 : nanos / count / 1000, maxNanos / 1000);
         }
-        discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
     private boolean shouldRemove(BD device) {
@@ -172,9 +247,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
-        synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
-        }
+        devices.values().forEach(this::deviceDiscovered);
     }
 
     @Override
@@ -186,9 +259,20 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     @Override
     public BD getDevice(BluetoothAddress address) {
-        synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
+        BD device = devices.get(address);
+        if (device != null) {
+            return device;
+        }
+        AtomicBoolean created = new AtomicBoolean();
+        device = Objects.requireNonNull(devices.computeIfAbsent(address, newAddress -> {
+            created.set(true);
+            return createDevice(newAddress);
+        }));
+        if (created.get()) {
+            // Scheduled once the device is in the map, so a concurrent initialize() can not miss it
+            scheduleExpiryCheck(address, System.currentTimeMillis() + config.inactiveDeviceCleanupThreshold * 1000L);
         }
+        return device;
     }
 
     protected abstract BD createDevice(BluetoothAddress address);
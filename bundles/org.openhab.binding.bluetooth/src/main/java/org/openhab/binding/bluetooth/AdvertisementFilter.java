@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link AdvertisementFilter} decides which advertisements of a single device are passed on to its thing handler.
+ * Beacons repeat the same advertisement several times a second, so advertisements whose raw, manufacturer and
+ * service data equal the last one passed on are dropped until the time window has passed. The RSSI can be limited
+ * to changes of at least a threshold, or one update per time window.
+ * <p>
+ * With a window and threshold of 0 every advertisement is passed on unchanged.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementFilter {
+
+    /**
+     * What should be done with an advertisement.
+     */
+    public enum Decision {
+        /** pass on the advertisement including its RSSI */
+        FORWARD,
+        /** pass on the advertisement, but do not update the RSSI */
+        FORWARD_WITHOUT_RSSI,
+        /** only update the RSSI, the data equals the last advertisement */
+        RSSI_ONLY,
+        /** nothing changed that has to be reported */
+        DROP
+    }
+
+    private final long windowMillis;
+    private final int rssiThreshold;
+
+    private byte @Nullable [] lastData;
+    private byte @Nullable [] lastManufacturerData;
+    private @Nullable Map<String, byte[]> lastServiceData;
+    private long lastDataTime;
+    private int lastRssi = Integer.MIN_VALUE;
+    private long lastRssiTime;
+
+    /**
+     * @param windowSeconds the time after which identical data and the RSSI are passed on again, 0 to pass on every
+     *            advertisement
+     * @param rssiThreshold the change in dBm needed to pass on the RSSI before the window has passed, 0 to pass on
+     *            the RSSI together with the data
+     */
+    public AdvertisementFilter(int windowSeconds, int rssiThreshold) {
+        this.windowMillis = Math.max(0, windowSeconds) * 1000L;
+        this.rssiThreshold = Math.max(0, rssiThreshold);
+    }
+
+    public boolean isEnabled() {
+        return windowMillis > 0 || rssiThreshold > 0;
+    }
+
+    /**
+     * Decides what to do with an advertisement and remembers what was passed on.
+     *
+     * @param notification the received advertisement
+     * @param nowMillis the current time in milliseconds
+     * @return the {@link Decision} for this advertisement
+     */
+    public synchronized Decision filter(BluetoothScanNotification notification, long nowMillis) {
+        if (!isEnabled()) {
+            return Decision.FORWARD;
+        }
+        boolean forwardData = windowMillis == 0 || nowMillis - lastDataTime >= windowMillis
+                || !Arrays.equals(lastData, notification.getData())
+                || !Arrays.equals(lastManufacturerData, notification.getManufacturerData())
+                || !sameServiceData(lastServiceData, notification.getServiceData());
+
+        int rssi = notification.getRssi();
+        boolean forwardRssi;
+        if (rssi == Integer.MIN_VALUE) {
+            // nothing to suppress, the handler treats a missing RSSI as a sign of life only
+            forwardRssi = forwardData;
+        } else if (rssiThreshold == 0) {
+            forwardRssi = forwardData;
+        } else {
+            forwardRssi = lastRssi == Integer.MIN_VALUE || Math.abs(rssi - lastRssi) >= rssiThreshold
+                    || (windowMillis > 0 && nowMillis - lastRssiTime >= windowMillis);
+        }
+
+        if (forwardData) {
+            lastData = notification.getData();
+            lastManufacturerData = notification.getManufacturerData();
+            lastServiceData = notification.getServiceData();
+            lastDataTime = nowMillis;
+        }
+        if (forwardRssi && rssi != Integer.MIN_VALUE) {
+            lastRssi = rssi;
+            lastRssiTime = nowMillis;
+        }
+
+        if (forwardData) {
+            return forwardRssi ? Decision.FORWARD : Decision.FORWARD_WITHOUT_RSSI;
+        }
+        return forwardRssi && rssi != Integer.MIN_VALUE ? Decision.RSSI_ONLY : Decision.DROP;
+    }
+
+    private static boolean sameServiceData(@Nullable Map<String, byte[]> last, Map<String, byte[]> current) {
+        if (last == null || last.size() != current.size()) {
+            return false;
+        }
+        for (Map.Entry<String, byte[]> entry : current.entrySet()) {
+            if (!Arrays.equals(last.get(entry.getKey()), entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -63,6 +63,10 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     private @Nullable ZonedDateTime lastActivityTime;
 
+    private AdvertisementFilter advertisementFilter = new AdvertisementFilter(0, 0);
+    // Registered with the device instead of this handler, so filtered advertisements never reach subclasses.
+    private final BluetoothDeviceListener filteringListener = new FilteringDeviceListener();
+
     public BeaconBluetoothHandler(Thing thing) {
         super(thing);
         deviceLock = new ReentrantLock();
@@ -91,11 +95,14 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         }
 
         adapter = (BluetoothAdapter) bridgeHandler;
+        advertisementFilter = new AdvertisementFilter(
+                getIntConfig(BluetoothBindingConstants.CONFIGURATION_ADVERTISEMENT_WINDOW),
+                getIntConfig(BluetoothBindingConstants.CONFIGURATION_RSSI_THRESHOLD));
 
         try {
             deviceLock.lock();
             device = adapter.getDevice(address);
-            device.addListener(this);
+            device.addListener(filteringListener);
         } finally {
             deviceLock.unlock();
         }
@@ -116,6 +123,11 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         updateStatus(ThingStatus.UNKNOWN);
     }
 
+    private int getIntConfig(String parameter) {
+        Object value = getConfig().get(parameter);
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
     private Channel buildChannel(String channelType, String itemType) {
         return ChannelBuilder.create(new ChannelUID(getThing().getUID(), channelType), itemType).build();
     }
@@ -135,7 +147,7 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         try {
             deviceLock.lock();
             if (device != null) {
-                device.removeListener(this);
+                device.removeListener(filteringListener);
                 device.disconnect();
                 device = null;
             }
@@ -260,4 +272,54 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         updateAdapter();
         updateAdapterLocation();
     }
+
+    /**
+     * Passes all device events on to this handler, except the advertisements dropped by the
+     * {@link AdvertisementFilter}. An advertisement whose RSSI is held back is passed on without its RSSI.
+     */
+    private class FilteringDeviceListener implements BluetoothDeviceListener {
+        @Override
+        public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
+            switch (advertisementFilter.filter(scanNotification, System.currentTimeMillis())) {
+                case FORWARD:
+                    BeaconBluetoothHandler.this.onScanRecordReceived(scanNotification);
+                    break;
+                case FORWARD_WITHOUT_RSSI:
+                    BeaconBluetoothHandler.this.onScanRecordReceived(scanNotification.withoutRssi());
+                    break;
+                case RSSI_ONLY:
+                    onActivity();
+                    updateRSSI(scanNotification.getRssi());
+                    break;
+                case DROP:
+                    onActivity();
+                    break;
+            }
+        }
+
+        @Override
+        public void onConnectionStateChange(BluetoothConnectionStatusNotification connectionNotification) {
+            BeaconBluetoothHandler.this.onConnectionStateChange(connectionNotification);
+        }
+
+        @Override
+        public void onServicesDiscovered() {
+            BeaconBluetoothHandler.this.onServicesDiscovered();
+        }
+
+        @Override
+        public void onCharacteristicUpdate(BluetoothCharacteristic characteristic, byte[] value) {
+            BeaconBluetoothHandler.this.onCharacteristicUpdate(characteristic, value);
+        }
+
+        @Override
+        public void onDescriptorUpdate(BluetoothDescriptor bluetoothDescriptor, byte[] value) {
+            BeaconBluetoothHandler.this.onDescriptorUpdate(bluetoothDescriptor, value);
+        }
+
+        @Override
+        public void onAdapterChanged(BluetoothAdapter adapter) {
+            BeaconBluetoothHandler.this.onAdapterChanged(adapter);
+        }
+    }
 }
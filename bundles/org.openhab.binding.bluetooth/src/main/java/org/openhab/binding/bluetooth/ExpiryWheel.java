@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ExpiryWheel} is a hashed timing wheel that tells which keys have reached their deadline, without having to
+ * look at every key on each tick. Keys are put into the slot of their deadline, a tick only hands out the keys of the
+ * slots that have passed since the previous tick. Deadlines further away than one turn of the wheel are handed out
+ * early and have to be scheduled again by the caller.
+ * <p>
+ * {@link #schedule} is thread safe, {@link #advance} has to be called from a single thread.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ExpiryWheel<K> {
+    private final long tickMillis;
+    private final List<Set<K>> slots;
+    private volatile long lastTick = -1;
+
+    /**
+     * @param tickMillis the duration of one slot in milliseconds
+     * @param slotCount the number of slots, one turn of the wheel covers slotCount * tickMillis
+     */
+    ExpiryWheel(long tickMillis, int slotCount) {
+        this.tickMillis = Math.max(1, tickMillis);
+        slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < Math.max(1, slotCount); i++) {
+            slots.add(ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    void schedule(K key, long deadlineMillis) {
+        // a deadline in a slot that was already handed out goes into the next one, not one turn later
+        long tick = Math.max(deadlineMillis / tickMillis, lastTick + 1);
+        slots.get((int) Math.floorMod(tick, (long) slots.size())).add(key);
+    }
+
+    /**
+     * Removes and returns all keys of the slots up to the current time.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return the keys whose deadline may have been reached
+     */
+    List<K> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        // at most one turn of the wheel, which also covers the very first tick
+        long firstTick = Math.max(lastTick + 1, nowTick - slots.size() + 1);
+        List<K> due = new ArrayList<>();
+        for (long tick = firstTick; tick <= nowTick; tick++) {
+            Set<K> slot = slots.get((int) Math.floorMod(tick, (long) slots.size()));
+            for (K key : slot) {
+                if (slot.remove(key)) {
+                    due.add(key);
+                }
+            }
+        }
+        lastTick = Math.max(lastTick, nowTick);
+        return due;
+    }
+
+    void clear() {
+        slots.forEach(Set::clear);
+    }
+}
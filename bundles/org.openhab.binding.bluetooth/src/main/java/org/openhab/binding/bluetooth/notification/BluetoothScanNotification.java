@@ -163,4 +163,21 @@ public class BluetoothScanNotification extends BluetoothNotification {
     public String getDeviceName() {
         return name;
     }
+
+    /**
+     * Creates a copy of this notification without the receive signal strength, e.g. for an advertisement whose RSSI
+     * is held back by a filter. The data arrays are shared with this notification.
+     *
+     * @return the copy with an RSSI of {@link Integer#MIN_VALUE}
+     */
+    public BluetoothScanNotification withoutRssi() {
+        BluetoothScanNotification copy = new BluetoothScanNotification();
+        copy.address = address;
+        copy.data = data;
+        copy.manufacturerData = manufacturerData;
+        copy.serviceData = serviceData;
+        copy.beaconType = beaconType;
+        copy.name = name;
+        return copy;
+    }
 }
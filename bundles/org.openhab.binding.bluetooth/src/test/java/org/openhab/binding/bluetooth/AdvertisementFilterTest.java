@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.AdvertisementFilter.Decision;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link AdvertisementFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementFilterTest {
+
+    private static BluetoothScanNotification advertisement(int rssi, byte... manufacturerData) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        notification.setManufacturerData(manufacturerData);
+        return notification;
+    }
+
+    @Test
+    public void testDisabledFilterForwardsEverything() {
+        AdvertisementFilter filter = new AdvertisementFilter(0, 0);
+        assertEquals(Decision.FORWARD, filter.filter(advertisement(-60, (byte) 1), 0));
+        assertEquals(Decision.FORWARD, filter.filter(advertisement(-60, (byte) 1), 1));
+    }
+
+    @Test
+    public void testIdenticalDataIsDroppedWithinWindow() {
+        AdvertisementFilter filter = new AdvertisementFilter(10, 0);
+        assertEquals(Decision.FORWARD, filter.filter(advertisement(-60, (byte) 1), 1000));
+        assertEquals(Decision.DROP, filter.filter(advertisement(-70, (byte) 1), 2000));
+        assertEquals(Decision.FORWARD, filter.filter(advertisement(-70, (byte) 2), 3000));
+        assertEquals(Decision.DROP, filter.filter(advertisement(-70, (byte) 2), 12999));
+        assertEquals(Decision.FORWARD, filter.filter(advertisement(-70, (byte) 2), 13000));
+    }
+
+    @Test
+    public void testServiceDataIsCompared() {
+        AdvertisementFilter filter = new AdvertisementFilter(10, 0);
+        BluetoothScanNotification first = advertisement(-60);
+        first.setServiceData(Map.of("uuid", new byte[] { 1 }));
+        BluetoothScanNotification same = advertisement(-60);
+        same.setServiceData(Map.of("uuid", new byte[] { 1 }));
+        BluetoothScanNotification changed = advertisement(-60);
+        changed.setServiceData(Map.of("uuid", new byte[] { 2 }));
+
+        assertEquals(Decision.FORWARD, filter.filter(first, 1000));
+        assertEquals(Decision.DROP, filter.filter(same, 2000));
+        assertEquals(Decision.FORWARD, filter.filter(changed, 3000));
+    }
+
+    @Test
+    public void testRssiThreshold() {
+        AdvertisementFilter filter = new AdvertisementFilter(60, 5);
+        assertEquals(Decision.FORWARD, filter.filter(advertisement(-60, (byte) 1), 1000));
+        // same data, RSSI change below the threshold
+        assertEquals(Decision.DROP, filter.filter(advertisement(-63, (byte) 1), 2000));
+        // same data, RSSI change reaches the threshold
+        assertEquals(Decision.RSSI_ONLY, filter.filter(advertisement(-65, (byte) 1), 3000));
+        // new data, RSSI change below the threshold
+        assertEquals(Decision.FORWARD_WITHOUT_RSSI, filter.filter(advertisement(-66, (byte) 2), 4000));
+        // window passed, both are reported again
+        assertEquals(Decision.FORWARD, filter.filter(advertisement(-66, (byte) 2), 64000));
+    }
+
+    @Test
+    public void testMissingRssiFollowsData() {
+        AdvertisementFilter filter = new AdvertisementFilter(10, 5);
+        assertEquals(Decision.FORWARD, filter.filter(advertisement(Integer.MIN_VALUE, (byte) 1), 1000));
+        assertEquals(Decision.DROP, filter.filter(advertisement(Integer.MIN_VALUE, (byte) 1), 2000));
+    }
+
+    @Test
+    public void testAdvertisementWithoutRssiKeepsItsData() {
+        BluetoothScanNotification notification = advertisement(-60, (byte) 1);
+        notification.setDeviceName("beacon");
+        notification.setServiceData(Map.of("uuid", new byte[] { 2 }));
+
+        BluetoothScanNotification copy = notification.withoutRssi();
+
+        assertEquals(Integer.MIN_VALUE, copy.getRssi());
+        assertEquals(-60, notification.getRssi());
+        assertArrayEquals(new byte[] { 1 }, copy.getManufacturerData());
+        assertEquals(notification.getServiceData(), copy.getServiceData());
+        assertEquals("beacon", copy.getDeviceName());
+    }
+}
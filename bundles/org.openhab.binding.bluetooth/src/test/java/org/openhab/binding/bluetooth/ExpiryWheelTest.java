@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ExpiryWheel}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ExpiryWheelTest {
+
+    @Test
+    public void testKeysAreHandedOutAtTheirDeadline() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(1000, 8);
+        wheel.advance(10000);
+        wheel.schedule("a", 12000);
+        wheel.schedule("b", 14500);
+
+        assertThat(wheel.advance(11000), is(empty()));
+        assertThat(wheel.advance(12000), contains("a"));
+        assertThat(wheel.advance(13000), is(empty()));
+        // ticks that were missed are caught up
+        assertThat(wheel.advance(15000), contains("b"));
+        assertThat(wheel.advance(16000), is(empty()));
+    }
+
+    @Test
+    public void testPastDeadlineGoesToNextTick() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(1000, 4);
+        wheel.advance(10000);
+        wheel.schedule("a", 5000);
+
+        assertThat(wheel.advance(11000), contains("a"));
+    }
+
+    @Test
+    public void testFirstAdvanceCoversWholeWheel() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(1000, 4);
+        wheel.schedule("a", 10000);
+
+        assertThat(wheel.advance(12000), contains("a"));
+    }
+
+    @Test
+    public void testFarDeadlineIsHandedOutEarly() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(1000, 4);
+        wheel.advance(10000);
+        wheel.schedule("a", 15000);
+
+        // one turn of the wheel is only 4 seconds, the caller has to check and reschedule
+        assertThat(wheel.advance(11000), contains("a"));
+    }
+}
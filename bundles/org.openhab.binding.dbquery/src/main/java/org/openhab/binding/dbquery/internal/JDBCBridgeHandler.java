@@ -13,27 +13,31 @@
 package org.openhab.binding.dbquery.internal;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.dbquery.internal.config.JDBCBridgeConfiguration;
+import org.openhab.binding.dbquery.internal.dbimpl.jdbc.JdbcDatabase;
+import org.openhab.binding.dbquery.internal.domain.Database;
 import org.openhab.core.thing.Bridge;
-import org.openhab.core.thing.ChannelUID;
-import org.openhab.core.thing.binding.BaseBridgeHandler;
-import org.openhab.core.types.Command;
 
 /**
- * Concrete implementation of {@link DatabaseBridgeHandler} for Influx2
+ * Concrete implementation of {@link DatabaseBridgeHandler} for JDBC
  *
  * @author Joan Pujol - Initial contribution
  */
 @NonNullByDefault
-public class JDBCBridgeHandler extends BaseBridgeHandler {
+public class JDBCBridgeHandler extends DatabaseBridgeHandler {
+    private JDBCBridgeConfiguration config = new JDBCBridgeConfiguration();
+
     public JDBCBridgeHandler(Bridge bridge) {
         super(bridge);
     }
 
     @Override
-    public void initialize() {
+    Database createDatabase() {
+        return new JdbcDatabase(config);
     }
 
     @Override
-    public void handleCommand(ChannelUID channelUID, Command command) {
+    protected void initConfig() {
+        config = getConfig().as(JDBCBridgeConfiguration.class);
     }
 }
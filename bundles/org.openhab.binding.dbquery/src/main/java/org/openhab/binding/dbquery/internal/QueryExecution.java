@@ -19,6 +19,7 @@ import org.openhab.binding.dbquery.internal.domain.Database;
 import org.openhab.binding.dbquery.internal.domain.Query;
 import org.openhab.binding.dbquery.internal.domain.QueryParameters;
 import org.openhab.binding.dbquery.internal.domain.QueryResult;
+import org.openhab.binding.dbquery.internal.error.DatabaseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,10 +53,16 @@ public class QueryExecution {
 
     public void execute() {
         Query query;
-        if (queryConfiguration.isHasParameters()) {
-            query = database.queryFactory().createQuery(queryString, queryParameters, queryConfiguration);
-        } else {
-            query = database.queryFactory().createQuery(queryString, queryConfiguration);
+        try {
+            if (queryConfiguration.isHasParameters()) {
+                query = database.queryFactory().createQuery(queryString, queryParameters, queryConfiguration);
+            } else {
+                query = database.queryFactory().createQuery(queryString, queryConfiguration);
+            }
+        } catch (DatabaseException e) {
+            logger.warn("Invalid query: {}", e.getMessage());
+            notifyQueryResult(QueryResult.ofIncorrectResult("Invalid query: " + e.getMessage()));
+            return;
         }
 
         logger.trace("Execute query {}", query);
@@ -32,6 +32,7 @@ import org.openhab.binding.dbquery.internal.domain.QueryParameters;
 import org.openhab.binding.dbquery.internal.domain.QueryResult;
 import org.openhab.binding.dbquery.internal.domain.QueryResultExtractor;
 import org.openhab.binding.dbquery.internal.domain.ResultValue;
+import org.openhab.binding.dbquery.internal.error.DatabaseException;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.Bridge;
@@ -94,8 +95,15 @@ public class QueryHandler extends BaseThingHandler {
         int interval = config.getInterval();
         if (interval != QueryConfiguration.NO_INTERVAL && scheduledQueryExecutionInterval == null) {
             logger.trace("Scheduling query execution every {} seconds for {}", interval, getQueryIdentifier());
-            scheduledQueryExecutionInterval = scheduler.scheduleWithFixedDelay(this::executeQuery, 0, interval,
-                    TimeUnit.SECONDS);
+            // executions are aligned to multiples of the interval, so that all queries with the same interval are
+            // executed at the same time and equal ones can be coalesced by the database
+            long intervalMillis = TimeUnit.SECONDS.toMillis(interval);
+            long initialDelay = intervalMillis - System.currentTimeMillis() % intervalMillis;
+            if (initialDelay > TimeUnit.SECONDS.toMillis(1)) {
+                scheduler.execute(this::executeQuery);
+            }
+            scheduledQueryExecutionInterval = scheduler.scheduleAtFixedRate(this::executeQuery, initialDelay,
+                    intervalMillis, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -199,6 +207,12 @@ public class QueryHandler extends BaseThingHandler {
             BridgeHandler bridgeHandler = bridge.getHandler();
             if (bridgeHandler instanceof DatabaseBridgeHandler databaseBridgeHandler) {
                 database = databaseBridgeHandler.getDatabase();
+                try {
+                    database.queryFactory().validateQuery(config.getQuery());
+                } catch (DatabaseException e) {
+                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+                    return;
+                }
                 if (bridge.getStatus() == ThingStatus.ONLINE) {
                     updateStatus(ThingStatus.ONLINE);
                 } else {
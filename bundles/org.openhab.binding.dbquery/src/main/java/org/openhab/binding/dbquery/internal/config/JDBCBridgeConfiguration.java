@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dbquery.internal.config;
+
+import java.util.StringJoiner;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Contains fields mapping JDBC bridge configuration parameters.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JDBCBridgeConfiguration {
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = 4;
+    public static final int DEFAULT_CONNECTION_TIMEOUT = 30;
+
+    private String url;
+    private String user;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = DEFAULT_MAXIMUM_POOL_SIZE;
+    private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
+
+    public JDBCBridgeConfiguration(String url, String user, String password, String driverClassName,
+            int maximumPoolSize, int connectionTimeout) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.driverClassName = driverClassName;
+        this.maximumPoolSize = maximumPoolSize;
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public JDBCBridgeConfiguration() {
+        // Used only when configuration is created by reflection using ConfigMapper
+        url = user = password = driverClassName = "";
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize > 0 ? maximumPoolSize : DEFAULT_MAXIMUM_POOL_SIZE;
+    }
+
+    public int getConnectionTimeout() {
+        return connectionTimeout > 0 ? connectionTimeout : DEFAULT_CONNECTION_TIMEOUT;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", JDBCBridgeConfiguration.class.getSimpleName() + "[", "]")
+                .add("url='" + url + "'").add("user='" + user + "'")
+                .add("password='" + "*".repeat(password.length()) + "'")
+                .add("driverClassName='" + driverClassName + "'").add("maximumPoolSize=" + maximumPoolSize)
+                .add("connectionTimeout=" + connectionTimeout).toString();
+    }
+}
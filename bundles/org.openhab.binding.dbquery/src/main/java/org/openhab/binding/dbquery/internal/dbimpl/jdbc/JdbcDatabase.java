@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dbquery.internal.dbimpl.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.dbquery.internal.config.JDBCBridgeConfiguration;
+import org.openhab.binding.dbquery.internal.dbimpl.jdbc.JdbcQueryFactory.JdbcQuery;
+import org.openhab.binding.dbquery.internal.domain.Database;
+import org.openhab.binding.dbquery.internal.domain.Query;
+import org.openhab.binding.dbquery.internal.domain.QueryFactory;
+import org.openhab.binding.dbquery.internal.domain.QueryResult;
+import org.openhab.binding.dbquery.internal.error.DatabaseException;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * JDBC implementation of {@link Database}
+ *
+ * Connections are taken from a pool, and queries are executed as prepared statements by a number of threads matching
+ * the pool size. Executions of equal queries (same SQL and parameter values) are coalesced: a query is not executed
+ * again while an equal one is executing or has completed successfully less than {@value #RESULT_REUSE_MILLIS} ms ago,
+ * its result is shared instead.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcDatabase implements Database {
+    static final long RESULT_REUSE_MILLIS = 1000;
+    private static final int FETCH_SIZE = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcDatabase.class);
+    private final ExecutorService executors;
+    private final JDBCBridgeConfiguration config;
+    private final Function<JDBCBridgeConfiguration, DataSource> dataSourceFactory;
+    private final QueryFactory queryFactory = new JdbcQueryFactory();
+    private final JdbcQueryResultExtractor resultExtractor = new JdbcQueryResultExtractor();
+    private final Map<JdbcQuery, SharedExecution> executions = new HashMap<>();
+
+    private volatile @Nullable DataSource dataSource;
+
+    public JdbcDatabase(JDBCBridgeConfiguration config) {
+        this(config, JdbcDatabase::createPool);
+    }
+
+    JdbcDatabase(JDBCBridgeConfiguration config, Function<JDBCBridgeConfiguration, DataSource> dataSourceFactory) {
+        this.config = config;
+        this.dataSourceFactory = dataSourceFactory;
+        executors = Executors.newFixedThreadPool(config.getMaximumPoolSize(), new NamedThreadFactory("dbquery-jdbc"));
+    }
+
+    private static DataSource createPool(JDBCBridgeConfiguration config) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("dbquery-" + config.getUrl());
+        hikariConfig.setJdbcUrl(config.getUrl());
+        hikariConfig.setUsername(config.getUser());
+        hikariConfig.setPassword(config.getPassword());
+        if (!config.getDriverClassName().isBlank()) {
+            hikariConfig.setDriverClassName(config.getDriverClassName());
+        }
+        hikariConfig.setMaximumPoolSize(config.getMaximumPoolSize());
+        hikariConfig.setMinimumIdle(1);
+        hikariConfig.setConnectionTimeout(TimeUnit.SECONDS.toMillis(config.getConnectionTimeout()));
+        return new HikariDataSource(hikariConfig);
+    }
+
+    @Override
+    public boolean isConnected() {
+        return dataSource != null;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> connect() {
+        return CompletableFuture.supplyAsync(() -> {
+            synchronized (JdbcDatabase.this) {
+                DataSource currentDataSource = dataSource;
+                DataSource newDataSource = null;
+                try {
+                    if (currentDataSource == null) {
+                        currentDataSource = newDataSource = dataSourceFactory.apply(config);
+                    }
+                    try (Connection connection = currentDataSource.getConnection()) {
+                        if (!connection.isValid(config.getConnectionTimeout())) {
+                            throw new SQLException("Connection is not valid");
+                        }
+                    }
+                    dataSource = currentDataSource;
+                    return true;
+                } catch (SQLException | RuntimeException e) {
+                    logger.warn("Error connecting to database {}: {}", config.getUrl(), e.getMessage());
+                    logger.debug("Connection error", e);
+                    // the connection is retried with a new pool, don't leak this one
+                    if (newDataSource != null) {
+                        closeDataSource(newDataSource);
+                    }
+                    return false;
+                }
+            }
+        }, executors);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> disconnect() {
+        CompletableFuture<Boolean> result = CompletableFuture.supplyAsync(() -> {
+            synchronized (JdbcDatabase.this) {
+                DataSource currentDataSource = dataSource;
+                dataSource = null;
+                return currentDataSource == null || closeDataSource(currentDataSource);
+            }
+        }, executors);
+        executors.shutdown();
+        return result;
+    }
+
+    private boolean closeDataSource(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.debug("Error closing connection pool", e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public QueryFactory queryFactory() throws DatabaseException {
+        return queryFactory;
+    }
+
+    @Override
+    public CompletableFuture<QueryResult> executeQuery(Query query) {
+        try {
+            if (query instanceof JdbcQuery jdbcQuery) {
+                return coalescedExecution(jdbcQuery);
+            } else {
+                return CompletableFuture
+                        .completedFuture(QueryResult.ofIncorrectResult("Unnexpected query type " + query));
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<QueryResult> coalescedExecution(JdbcQuery query) {
+        synchronized (executions) {
+            long now = System.nanoTime();
+            executions.values().removeIf(execution -> execution.isExpired(now));
+
+            SharedExecution execution = executions.get(query);
+            if (execution != null) {
+                logger.trace("Query {} coalesced with a previous execution", query);
+                return execution.result;
+            }
+
+            if (dataSource == null) {
+                return CompletableFuture.failedFuture(new DatabaseException("Database not connected"));
+            }
+            CompletableFuture<QueryResult> result = CompletableFuture.supplyAsync(() -> execute(query), executors);
+            SharedExecution newExecution = new SharedExecution(result);
+            executions.put(query, newExecution);
+            result.whenComplete((queryResult, error) -> {
+                synchronized (executions) {
+                    if (error == null && queryResult.isCorrect()) {
+                        newExecution.completed = true;
+                        newExecution.completedTime = System.nanoTime();
+                    } else {
+                        executions.remove(query, newExecution);
+                    }
+                }
+            });
+            return result;
+        }
+    }
+
+    private QueryResult execute(JdbcQuery query) {
+        DataSource currentDataSource = dataSource;
+        if (currentDataSource == null) {
+            return QueryResult.ofIncorrectResult("Database not connected");
+        }
+        logger.trace("Execute query {}", query);
+        try (Connection connection = currentDataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(query.getSql())) {
+            query.prepare(statement);
+            statement.setFetchSize(FETCH_SIZE);
+            if (statement.execute()) {
+                try (ResultSet resultSet = statement.getResultSet()) {
+                    return resultExtractor.extract(resultSet);
+                }
+            } else {
+                return QueryResult.ofSingleValue("updateCount", statement.getUpdateCount());
+            }
+        } catch (SQLException e) {
+            logger.warn("Error executing query {}: {}", query, e.getMessage());
+            return QueryResult.ofIncorrectResult("Error executing query: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JdbcDatabase{config=" + config + '}';
+    }
+
+    private static class SharedExecution {
+        private final CompletableFuture<QueryResult> result;
+        private boolean completed;
+        private long completedTime;
+
+        private SharedExecution(CompletableFuture<QueryResult> result) {
+            this.result = result;
+        }
+
+        private boolean isExpired(long now) {
+            return completed && now - completedTime > TimeUnit.MILLISECONDS.toNanos(RESULT_REUSE_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dbquery.internal.dbimpl.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.dbquery.internal.config.QueryConfiguration;
+import org.openhab.binding.dbquery.internal.domain.Query;
+import org.openhab.binding.dbquery.internal.domain.QueryFactory;
+import org.openhab.binding.dbquery.internal.domain.QueryParameters;
+import org.openhab.binding.dbquery.internal.error.DatabaseException;
+
+/**
+ * JDBC implementation of {@link QueryFactory}
+ *
+ * Parameters referenced with <code>${paramName}</code> are replaced by placeholders of a prepared statement, and their
+ * values are bound when the query is executed, so they aren't subject to query injection. Quoted strings, quoted
+ * identifiers and comments are skipped; a parameter inside a quoted string or identifier can't be bound and is
+ * rejected.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcQueryFactory implements QueryFactory {
+    private static final Pattern PARAM_PATTERN = Pattern.compile("\\$\\{([\\w_]*?)}");
+
+    @Override
+    public Query createQuery(String query, @Nullable QueryConfiguration queryConfiguration) {
+        return createQuery(query, QueryParameters.EMPTY, queryConfiguration);
+    }
+
+    @Override
+    public Query createQuery(String query, QueryParameters parameters,
+            @Nullable QueryConfiguration queryConfiguration) throws DatabaseException {
+        StringBuilder sql = new StringBuilder();
+        List<String> parameterNames = new ArrayList<>();
+        parse(query, sql, parameterNames);
+        List<@Nullable Object> values = new ArrayList<>();
+        for (String parameterName : parameterNames) {
+            values.add(parameters.getParameter(parameterName));
+        }
+
+        int timeout = queryConfiguration != null ? queryConfiguration.getTimeout() : 0;
+        // two rows are enough to tell that a scalar result has more than one row
+        int maxRows = queryConfiguration != null && queryConfiguration.isScalarResult() ? 2 : 0;
+        return new JdbcQuery(sql.toString(), values, timeout, maxRows);
+    }
+
+    @Override
+    public void validateQuery(String query) throws DatabaseException {
+        parse(query, new StringBuilder(), new ArrayList<>());
+    }
+
+    /**
+     * Replaces the parameters outside of quoted strings, quoted identifiers and comments by placeholders.
+     *
+     * @param query the query with <code>${paramName}</code> parameters
+     * @param sql receives the SQL of the prepared statement
+     * @param parameterNames receives the names of the parameters, in the order of the placeholders
+     * @throws DatabaseException if a parameter is inside a quoted string or identifier
+     */
+    private static void parse(String query, StringBuilder sql, List<String> parameterNames) throws DatabaseException {
+        Matcher matcher = PARAM_PATTERN.matcher(query);
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            int end;
+            if (c == '\'' || c == '"') {
+                end = endOfQuoted(query, i, c);
+                if (matcher.region(i, end).find()) {
+                    throw new DatabaseException("Parameter " + matcher.group()
+                            + " is inside a quoted SQL string or identifier, where it can't be bound. Pass the whole"
+                            + " value as parameter instead, e.g. LIKE ${pattern} instead of LIKE '${prefix}%'");
+                }
+            } else if (query.startsWith("--", i)) {
+                end = query.indexOf('\n', i);
+                end = end < 0 ? query.length() : end;
+            } else if (query.startsWith("/*", i)) {
+                end = query.indexOf("*/", i + 2);
+                end = end < 0 ? query.length() : end + 2;
+            } else if (matcher.region(i, query.length()).lookingAt()) {
+                sql.append('?');
+                parameterNames.add(matcher.group(1));
+                i = matcher.end();
+                continue;
+            } else {
+                end = i + 1;
+            }
+            sql.append(query, i, end);
+            i = end;
+        }
+    }
+
+    private static int endOfQuoted(String query, int start, char quote) {
+        int i = start + 1;
+        while (i < query.length()) {
+            if (query.charAt(i) == quote) {
+                // a doubled quote is part of the quoted text
+                if (i + 1 < query.length() && query.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return query.length();
+    }
+
+    /**
+     * A prepared statement with the values of its parameters.
+     *
+     * Two queries are equal if they execute the same SQL with the same parameter values and return the same rows.
+     */
+    public static class JdbcQuery implements Query {
+        private final String sql;
+        private final List<@Nullable Object> parameters;
+        private final int timeout;
+        private final int maxRows;
+
+        public JdbcQuery(String sql, List<@Nullable Object> parameters, int timeout, int maxRows) {
+            this.sql = sql;
+            this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+            this.timeout = timeout;
+            this.maxRows = maxRows;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<@Nullable Object> getParameters() {
+            return parameters;
+        }
+
+        void prepare(PreparedStatement statement) throws SQLException {
+            for (int i = 0; i < parameters.size(); i++) {
+                Object value = parameters.get(i);
+                if (value == null) {
+                    statement.setNull(i + 1, Types.NULL);
+                } else if (value instanceof Instant instant) {
+                    statement.setTimestamp(i + 1, Timestamp.from(instant));
+                } else if (value instanceof ZonedDateTime dateTime) {
+                    statement.setTimestamp(i + 1, Timestamp.from(dateTime.toInstant()));
+                } else {
+                    statement.setObject(i + 1, value);
+                }
+            }
+            if (timeout > 0) {
+                statement.setQueryTimeout(timeout);
+            }
+            if (maxRows > 0) {
+                statement.setMaxRows(maxRows);
+            }
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            JdbcQuery that = (JdbcQuery) o;
+            return maxRows == that.maxRows && sql.equals(that.sql) && parameters.equals(that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, parameters, maxRows);
+        }
+
+        @Override
+        public String toString() {
+            return sql + " " + parameters;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dbquery.internal.dbimpl.jdbc;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.dbquery.internal.domain.QueryResult;
+import org.openhab.binding.dbquery.internal.domain.ResultRow;
+
+/**
+ * Extracts results from a JDBC {@link ResultSet} to a {@link QueryResult}
+ *
+ * Rows are converted while they are fetched from the database, without any intermediate copy of the result set.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcQueryResultExtractor {
+
+    public QueryResult extract(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        String[] columnNames = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = metaData.getColumnLabel(i + 1);
+        }
+
+        List<ResultRow> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            Map<String, @Nullable Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < columnCount; i++) {
+                values.put(columnNames[i], getValue(resultSet, i + 1));
+            }
+            rows.add(new ResultRow(values));
+        }
+        return QueryResult.of(rows);
+    }
+
+    private @Nullable Object getValue(ResultSet resultSet, int column) throws SQLException {
+        Object value = resultSet.getObject(column);
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        } else if (value instanceof Clob) {
+            return resultSet.getString(column);
+        } else if (value instanceof Blob) {
+            return resultSet.getBytes(column);
+        }
+        return value;
+    }
+}
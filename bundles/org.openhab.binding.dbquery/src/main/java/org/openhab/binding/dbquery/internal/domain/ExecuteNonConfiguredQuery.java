@@ -22,6 +22,7 @@ import java.util.concurrent.TimeoutException;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.dbquery.internal.config.QueryConfiguration;
+import org.openhab.binding.dbquery.internal.error.DatabaseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,8 +46,13 @@ public class ExecuteNonConfiguredQuery {
             return CompletableFuture.completedFuture(QueryResult.ofIncorrectResult("Database not connected"));
         }
 
-        Query query = database.queryFactory().createQuery(queryString, new QueryParameters(parameters),
-                createConfiguration(queryString, timeout));
+        Query query;
+        try {
+            query = database.queryFactory().createQuery(queryString, new QueryParameters(parameters),
+                    createConfiguration(queryString, timeout));
+        } catch (DatabaseException e) {
+            return CompletableFuture.completedFuture(QueryResult.ofIncorrectResult("Invalid query: " + e.getMessage()));
+        }
         return database.executeQuery(query);
     }
 
@@ -15,6 +15,7 @@ package org.openhab.binding.dbquery.internal.domain;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.dbquery.internal.config.QueryConfiguration;
+import org.openhab.binding.dbquery.internal.error.DatabaseException;
 
 /**
  * Abstracts operations needed to create a query from its thing configuration
@@ -27,6 +28,15 @@ public interface QueryFactory {
 
     Query createQuery(String query, QueryParameters parameters, @Nullable QueryConfiguration queryConfiguration);
 
+    /**
+     * Checks that queries can be created from a query string, before they are executed.
+     *
+     * @param query the query string of a thing configuration
+     * @throws DatabaseException with a description of the problem, if the query string isn't supported
+     */
+    default void validateQuery(String query) throws DatabaseException {
+    }
+
     QueryFactory EMPTY = new QueryFactory() {
         @Override
         public Query createQuery(String query, @Nullable QueryConfiguration queryConfiguration) {
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dbquery.internal.dbimpl.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.dbquery.internal.config.JDBCBridgeConfiguration;
+import org.openhab.binding.dbquery.internal.domain.Query;
+import org.openhab.binding.dbquery.internal.domain.QueryParameters;
+
+/**
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault(value = { DefaultLocation.PARAMETER })
+class JdbcDatabaseTest {
+    private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement statement;
+    private CountDownLatch executing;
+    private CountDownLatch release;
+    private JdbcDatabase instance;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        executing = new CountDownLatch(1);
+        release = new CountDownLatch(0);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.execute()).thenAnswer(invocation -> {
+            executing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        when(statement.getResultSet()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("value");
+        when(resultSet.next()).thenReturn(true, false, true, false);
+        when(resultSet.getObject(1)).thenReturn(42);
+
+        instance = new JdbcDatabase(new JDBCBridgeConfiguration("jdbc:test", "", "", "", 4, 30), config -> dataSource);
+    }
+
+    @AfterEach
+    public void clearDown() {
+        instance.disconnect();
+    }
+
+    @Test
+    public void givenQueryThatReturnsScalarResultGetValidScalarResult() throws Exception {
+        instance.connect().get();
+        Query query = instance.queryFactory().createQuery("SELECT value FROM item WHERE id = ${id}",
+                new QueryParameters(Map.of("id", 5)), null);
+
+        var queryResult = instance.executeQuery(query).get();
+
+        assertThat(queryResult.isCorrect(), is(true));
+        assertThat(queryResult.getData(), hasSize(1));
+        assertThat(queryResult.getData().get(0).getValue("value"), is(42));
+        verify(statement).setObject(1, 5);
+    }
+
+    @Test
+    public void givenEqualQueriesWhileExecutingTheyAreCoalesced() throws Exception {
+        instance.connect().get();
+        release = new CountDownLatch(1);
+        Query query1 = instance.queryFactory().createQuery("SELECT value FROM item", QueryParameters.EMPTY, null);
+        Query query2 = instance.queryFactory().createQuery("SELECT value FROM item", QueryParameters.EMPTY, null);
+
+        var future1 = instance.executeQuery(query1);
+        assertThat(executing.await(5, TimeUnit.SECONDS), is(true));
+        var future2 = instance.executeQuery(query2);
+        release.countDown();
+
+        assertThat(future1.get().isCorrect(), is(true));
+        assertThat(future2.get().getData(), is(future1.get().getData()));
+        verify(statement, times(1)).execute();
+    }
+
+    @Test
+    public void givenDifferentQueriesTheyAreNotCoalesced() throws Exception {
+        instance.connect().get();
+        Query query1 = instance.queryFactory().createQuery("SELECT ${id}", new QueryParameters(Map.of("id", 1)),
+                null);
+        Query query2 = instance.queryFactory().createQuery("SELECT ${id}", new QueryParameters(Map.of("id", 2)),
+                null);
+
+        instance.executeQuery(query1).get();
+        instance.executeQuery(query2).get();
+
+        verify(statement, times(2)).execute();
+    }
+
+    @Test
+    public void givenQueryErrorGetIncorrectResult() throws Exception {
+        instance.connect().get();
+        when(statement.execute()).thenThrow(new SQLException("syntax error"));
+        Query query = instance.queryFactory().createQuery("SELEC value", QueryParameters.EMPTY, null);
+
+        var queryResult = instance.executeQuery(query).get();
+
+        assertThat(queryResult.isCorrect(), is(false));
+    }
+
+    @Test
+    public void givenInvalidConnectionTheNewPoolIsClosed() throws Exception {
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(false);
+        instance = new JdbcDatabase(new JDBCBridgeConfiguration("jdbc:test", "", "", "", 4, 30), config -> pool);
+
+        assertThat(instance.connect().get(), is(false));
+
+        assertThat(instance.isConnected(), is(false));
+        verify((AutoCloseable) pool).close();
+    }
+
+    @Test
+    public void givenConnectedClientRetryKeepsThePool() throws Exception {
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        when(pool.getConnection()).thenReturn(connection);
+        instance = new JdbcDatabase(new JDBCBridgeConfiguration("jdbc:test", "", "", "", 4, 30), config -> pool);
+        instance.connect().get();
+
+        when(connection.isValid(anyInt())).thenReturn(false);
+        assertThat(instance.connect().get(), is(false));
+
+        assertThat(instance.isConnected(), is(true));
+        verify((AutoCloseable) pool, never()).close();
+    }
+
+    @Test
+    public void givenNotConnectedClientShouldGetIncorrectQuery() {
+        Query query = instance.queryFactory().createQuery("SELECT 1", QueryParameters.EMPTY, null);
+        var future = instance.executeQuery(query);
+        assertThat(future.isCompletedExceptionally(), is(Boolean.TRUE));
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dbquery.internal.dbimpl.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.dbquery.internal.config.QueryConfiguration;
+import org.openhab.binding.dbquery.internal.dbimpl.jdbc.JdbcQueryFactory.JdbcQuery;
+import org.openhab.binding.dbquery.internal.domain.QueryParameters;
+import org.openhab.binding.dbquery.internal.error.DatabaseException;
+
+/**
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcQueryFactoryTest {
+    private final JdbcQueryFactory factory = new JdbcQueryFactory();
+
+    @Test
+    public void testParametersAreReplacedByPlaceholders() {
+        String query = "SELECT value FROM item WHERE time > ${start} AND value < ${max} AND time > ${start}";
+        QueryParameters parameters = new QueryParameters(Map.of("start", "2023-01-01", "max", 10));
+
+        var result = (JdbcQuery) factory.createQuery(query, parameters, null);
+
+        assertThat(result.getSql(), equalTo("SELECT value FROM item WHERE time > ? AND value < ? AND time > ?"));
+        assertThat(result.getParameters(), contains("2023-01-01", 10, "2023-01-01"));
+    }
+
+    @Test
+    public void testNullAndNotDefinedParametersAreNull() {
+        var paramMap = new HashMap<String, @Nullable Object>();
+        paramMap.put("start", null);
+
+        var result = (JdbcQuery) factory.createQuery("SELECT ${start}, ${other}", new QueryParameters(paramMap),
+                null);
+
+        assertThat(result.getSql(), equalTo("SELECT ?, ?"));
+        assertThat(result.getParameters(), equalTo(Arrays.asList(null, null)));
+    }
+
+    @Test
+    public void testQuotedTextAndCommentsAreNotParameters() {
+        String query = "SELECT 'it''s ${x}' AS \"${y}\", ${a} -- ${b}\n/* ${c} */ FROM item WHERE id = ${d}";
+
+        assertThrows(DatabaseException.class, () -> factory.validateQuery(query));
+
+        String validQuery = "SELECT 'it''s', ${a} AS \"a\" -- ${b}\n/* ${c} */ FROM item WHERE id = ${d}";
+        factory.validateQuery(validQuery);
+        var result = (JdbcQuery) factory.createQuery(validQuery, new QueryParameters(Map.of("a", 1, "d", 2)), null);
+
+        assertThat(result.getSql(), equalTo("SELECT 'it''s', ? AS \"a\" -- ${b}\n/* ${c} */ FROM item WHERE id = ?"));
+        assertThat(result.getParameters(), contains(1, 2));
+    }
+
+    @Test
+    public void testParameterInsideStringLiteralIsRejected() {
+        String query = "SELECT value FROM item WHERE name LIKE '${prefix}%'";
+
+        DatabaseException e = assertThrows(DatabaseException.class, () -> factory.validateQuery(query));
+        assertThat(e.getMessage(), containsString("${prefix}"));
+        assertThrows(DatabaseException.class,
+                () -> factory.createQuery(query, new QueryParameters(Map.of("prefix", "a")), null));
+    }
+
+    @Test
+    public void testUnterminatedQuotesAreQuotedUpToTheEnd() {
+        assertThrows(DatabaseException.class, () -> factory.validateQuery("SELECT 'abc ${x}"));
+        var result = (JdbcQuery) factory.createQuery("SELECT ${x} /* ${y}", QueryParameters.EMPTY, null);
+        assertThat(result.getSql(), equalTo("SELECT ? /* ${y}"));
+    }
+
+    @Test
+    public void testEqualQueries() {
+        QueryConfiguration config = new QueryConfiguration("SELECT ${a}", 10, 0, true, null, true);
+
+        var query1 = factory.createQuery("SELECT ${a}", new QueryParameters(Map.of("a", 1)), config);
+        var query2 = factory.createQuery("SELECT ${a}", new QueryParameters(Map.of("a", 1)), config);
+        var query3 = factory.createQuery("SELECT ${a}", new QueryParameters(Map.of("a", 2)), config);
+
+        assertThat(query1, equalTo(query2));
+        assertThat(query1.hashCode(), equalTo(query2.hashCode()));
+        assertThat(query1, not(equalTo(query3)));
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -52,6 +53,7 @@ import org.openhab.binding.http.internal.http.HttpAuthException;
 import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
 import org.openhab.binding.http.internal.transform.ValueTransformationProvider;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.PointType;
@@ -84,23 +86,26 @@ public class HttpThingHandler extends BaseThingHandler {
     private final ValueTransformationProvider valueTransformationProvider;
     private final HttpClientProvider httpClientProvider;
     private HttpClient httpClient;
-    private RateLimitedHttpClient rateLimitedHttpClient;
+    private @Nullable RateLimitedHttpClient rateLimitedHttpClient;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
+    private final RefreshingUrlCacheRegistry urlCacheRegistry;
 
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
     private final Map<ChannelUID, ItemValueConverter> channels = new HashMap<>();
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
+    private final Map<ChannelUID, Consumer<Content>> channelConsumers = new HashMap<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             ValueTransformationProvider valueTransformationProvider,
-            HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider) {
+            HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
+            RefreshingUrlCacheRegistry urlCacheRegistry) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.httpClient = httpClientProvider.getSecureClient();
-        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
         this.valueTransformationProvider = valueTransformationProvider;
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
+        this.urlCacheRegistry = urlCacheRegistry;
     }
 
     @Override
@@ -152,9 +157,6 @@ public class HttpThingHandler extends BaseThingHandler {
             logger.info("Using the secure client for thing '{}'.", thing.getUID());
             httpClient = httpClientProvider.getSecureClient();
         }
-        rateLimitedHttpClient.setHttpClient(httpClient);
-        rateLimitedHttpClient.setDelay(config.delay);
-
         int channelCount = thing.getChannels().size();
         if (channelCount * config.delay > config.refresh * 1000) {
             // this should prevent the rate limit queue from filling up
@@ -200,7 +202,8 @@ public class HttpThingHandler extends BaseThingHandler {
             logger.debug("No authentication configured for thing '{}'", thing.getUID());
         }
 
-        // create channels
+        // create channels, sharing the rate limit and the refresh tasks with other things where possible
+        rateLimitedHttpClient = urlCacheRegistry.acquireClient(scheduler, httpClient, config.delay);
         thing.getChannels().forEach(this::createChannel);
 
         updateStatus(ThingStatus.ONLINE);
@@ -208,14 +211,25 @@ public class HttpThingHandler extends BaseThingHandler {
 
     @Override
     public void dispose() {
-        // stop update tasks
-        urlHandlers.values().forEach(RefreshingUrlCache::stop);
-        rateLimitedHttpClient.shutdown();
+        // stop update tasks, unless still used by other things
+        channelConsumers.forEach((channelUID, consumer) -> {
+            RefreshingUrlCache refreshingUrlCache = urlHandlers.get(channelUrls.get(channelUID));
+            if (refreshingUrlCache != null) {
+                refreshingUrlCache.removeConsumer(consumer);
+            }
+        });
+        urlHandlers.values().forEach(urlCacheRegistry::releaseCache);
+        RateLimitedHttpClient rateLimitedHttpClient = this.rateLimitedHttpClient;
+        if (rateLimitedHttpClient != null) {
+            urlCacheRegistry.releaseClient(rateLimitedHttpClient);
+            this.rateLimitedHttpClient = null;
+        }
 
         // clear lists
         urlHandlers.clear();
         channels.clear();
         channelUrls.clear();
+        channelConsumers.clear();
 
         // remove state descriptions
         httpDynamicStateDescriptionProvider.removeDescriptionsForThing(thing.getUID());
@@ -288,15 +302,15 @@ public class HttpThingHandler extends BaseThingHandler {
         }
 
         channels.put(channelUID, itemValueConverter);
-        if (channelConfig.mode != HttpChannelMode.WRITEONLY) {
+        RateLimitedHttpClient rateLimitedHttpClient = this.rateLimitedHttpClient;
+        if (channelConfig.mode != HttpChannelMode.WRITEONLY && rateLimitedHttpClient != null) {
             // we need a key consisting of stateContent and URL, only if both are equal, we can use the same cache
             String key = channelConfig.stateContent + "$" + stateUrl;
             channelUrls.put(channelUID, key);
-            urlHandlers
-                    .computeIfAbsent(key,
-                            k -> new RefreshingUrlCache(scheduler, rateLimitedHttpClient, stateUrl,
-                                    channelConfig.escapedUrl, config, channelConfig.stateContent))
-                    .addConsumer(itemValueConverter::process);
+            Consumer<Content> consumer = itemValueConverter::process;
+            channelConsumers.put(channelUID, consumer);
+            urlHandlers.computeIfAbsent(key, k -> urlCacheRegistry.acquireCache(scheduler, rateLimitedHttpClient,
+                    stateUrl, channelConfig.escapedUrl, config, channelConfig.stateContent)).addConsumer(consumer);
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
@@ -362,6 +376,8 @@ public class HttpThingHandler extends BaseThingHandler {
                 return null;
             });
             request.send(new HttpResponseListener(f, null, config.bufferSize));
+            // the channels need to be updated with the next content, even if unchanged
+            urlHandlers.values().forEach(RefreshingUrlCache::notifyUnchangedContent);
         } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
             logger.warn("Creating request for '{}' failed: {}", commandUrl, e.getMessage());
         }
@@ -14,6 +14,8 @@ package org.openhab.binding.http.internal.http;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,10 +30,20 @@ public class Content {
     private final byte[] rawContent;
     private final Charset encoding;
     private final @Nullable String mediaType;
+    private final @Nullable String eTag;
+    private final @Nullable String lastModified;
+    private @Nullable String stringContent;
 
     public Content(byte[] rawContent, String encoding, @Nullable String mediaType) {
+        this(rawContent, encoding, mediaType, null, null);
+    }
+
+    public Content(byte[] rawContent, String encoding, @Nullable String mediaType, @Nullable String eTag,
+            @Nullable String lastModified) {
         this.rawContent = rawContent;
         this.mediaType = mediaType;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
 
         Charset finalEncoding = StandardCharsets.UTF_8;
         try {
@@ -45,11 +57,46 @@ public class Content {
         return rawContent;
     }
 
+    /**
+     * Get the content as string. The content is decoded once, and shared by all channels processing it.
+     *
+     * @return the decoded content
+     */
     public String getAsString() {
-        return new String(rawContent, encoding);
+        String stringContent = this.stringContent;
+        if (stringContent == null) {
+            stringContent = new String(rawContent, encoding);
+            this.stringContent = stringContent;
+        }
+        return stringContent;
     }
 
     public @Nullable String getMediaType() {
         return mediaType;
     }
+
+    /**
+     * @return the ETag header of the response, if any
+     */
+    public @Nullable String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return the Last-Modified header of the response, if any
+     */
+    public @Nullable String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Check if another content has the same payload, encoding and media type
+     *
+     * @param other the other content
+     * @return true if consumers would process both contents the same way
+     */
+    public boolean hasSameData(Content other) {
+        return Arrays.equals(rawContent, other.rawContent) && encoding.equals(other.encoding)
+                && Objects.equals(mediaType, other.mediaType);
+    }
 }
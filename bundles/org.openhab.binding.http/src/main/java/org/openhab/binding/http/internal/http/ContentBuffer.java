@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ContentBuffer} collects a response body up to a maximum size.
+ *
+ * The body is received into fixed-size chunks taken from a binding-wide pool, and copied only once into an array of
+ * the exact size. The chunks need to be returned to the pool with {@link #release()}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ContentBuffer {
+    static final int CHUNK_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_CHUNKS = 64;
+
+    private static final Queue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED_CHUNKS = new AtomicInteger();
+
+    private final int maxSize;
+    private final List<byte[]> chunks = new ArrayList<>();
+    private int size;
+
+    /**
+     * @param maxSize the maximum size of the body in bytes
+     */
+    public ContentBuffer(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Append received data
+     *
+     * @param buffer the data, consumed by this call
+     * @return false if the maximum size would be exceeded (nothing is appended in that case)
+     */
+    public synchronized boolean append(ByteBuffer buffer) {
+        if (buffer.remaining() > maxSize - size) {
+            return false;
+        }
+        while (buffer.hasRemaining()) {
+            int offset = size % CHUNK_SIZE;
+            if (offset == 0) {
+                chunks.add(acquireChunk());
+            }
+            int length = Math.min(buffer.remaining(), CHUNK_SIZE - offset);
+            buffer.get(chunks.get(chunks.size() - 1), offset, length);
+            size += length;
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of bytes received
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of the received data
+     */
+    public synchronized byte[] toByteArray() {
+        byte[] bytes = new byte[size];
+        int copied = 0;
+        for (byte[] chunk : chunks) {
+            int length = Math.min(CHUNK_SIZE, size - copied);
+            System.arraycopy(chunk, 0, bytes, copied, length);
+            copied += length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Return the chunks to the pool. The buffer is empty afterwards.
+     */
+    public synchronized void release() {
+        for (byte[] chunk : chunks) {
+            if (POOLED_CHUNKS.incrementAndGet() <= MAX_POOLED_CHUNKS) {
+                POOL.offer(chunk);
+            } else {
+                POOLED_CHUNKS.decrementAndGet();
+            }
+        }
+        chunks.clear();
+        size = 0;
+    }
+
+    private static byte[] acquireChunk() {
+        byte @Nullable [] chunk = POOL.poll();
+        if (chunk == null) {
+            return new byte[CHUNK_SIZE];
+        }
+        POOLED_CHUNKS.decrementAndGet();
+        return chunk;
+    }
+}
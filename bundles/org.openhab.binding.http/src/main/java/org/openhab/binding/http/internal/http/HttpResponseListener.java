@@ -12,7 +12,10 @@
  */
 package org.openhab.binding.http.internal.http;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -22,8 +25,10 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.api.Result;
-import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,13 +36,20 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link HttpResponseListener} is responsible for processing the result of a HTTP request
  *
+ * The response body is collected in a {@link ContentBuffer}, limited to the configured buffer size.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
-public class HttpResponseListener extends BufferingResponseListener {
+public class HttpResponseListener extends Response.Listener.Adapter {
     private final Logger logger = LoggerFactory.getLogger(HttpResponseListener.class);
     private final CompletableFuture<@Nullable Content> future;
     private final String fallbackEncoding;
+    private final @Nullable Content cachedContent;
+    private final int maxLength;
+    private final ContentBuffer buffer;
+    private @Nullable String mediaType;
+    private @Nullable String encoding;
 
     /**
      * the HttpResponseListener is responsible
@@ -48,13 +60,81 @@ public class HttpResponseListener extends BufferingResponseListener {
      */
     public HttpResponseListener(CompletableFuture<@Nullable Content> future, @Nullable String fallbackEncoding,
             int bufferSize) {
-        super(bufferSize * 1024);
+        this(future, fallbackEncoding, bufferSize, null);
+    }
+
+    /**
+     * the HttpResponseListener is responsible
+     *
+     * @param future Content future to complete with the result of the request
+     * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
+     * @param bufferSize the buffer size for the content in kB (default 2048 kB)
+     * @param cachedContent the content of a conditional request, completing the future if not modified
+     */
+    public HttpResponseListener(CompletableFuture<@Nullable Content> future, @Nullable String fallbackEncoding,
+            int bufferSize, @Nullable Content cachedContent) {
+        this.maxLength = bufferSize * 1024;
+        this.buffer = new ContentBuffer(maxLength);
         this.future = future;
         this.fallbackEncoding = fallbackEncoding != null ? fallbackEncoding : StandardCharsets.UTF_8.name();
+        this.cachedContent = cachedContent;
+    }
+
+    @Override
+    public void onHeaders(@NonNullByDefault({}) Response response) {
+        HttpFields headers = response.getHeaders();
+        long length = headers.getLongField(HttpHeader.CONTENT_LENGTH.asString());
+        if (HttpMethod.HEAD.is(response.getRequest().getMethod())) {
+            length = 0;
+        }
+        if (length > maxLength) {
+            response.abort(new IllegalArgumentException("Buffering capacity " + maxLength + " exceeded"));
+            return;
+        }
+        String contentType = headers.get(HttpHeader.CONTENT_TYPE);
+        if (contentType != null) {
+            String media = contentType;
+            String charset = "charset=";
+            int index = contentType.toLowerCase(Locale.ENGLISH).indexOf(charset);
+            if (index > 0) {
+                media = contentType.substring(0, index);
+                String encoding = contentType.substring(index + charset.length());
+                // charsets sometimes end with a semicolon or are quoted
+                int semicolon = encoding.indexOf(';');
+                if (semicolon > 0) {
+                    encoding = encoding.substring(0, semicolon).trim();
+                }
+                int lastIndex = encoding.length() - 1;
+                if (lastIndex > 0 && encoding.charAt(0) == '"' && encoding.charAt(lastIndex) == '"') {
+                    encoding = encoding.substring(1, lastIndex).trim();
+                }
+                this.encoding = encoding;
+            }
+            int semicolon = media.indexOf(';');
+            if (semicolon > 0) {
+                media = media.substring(0, semicolon).trim();
+            }
+            this.mediaType = media;
+        }
+    }
+
+    @Override
+    public void onContent(@NonNullByDefault({}) Response response, @NonNullByDefault({}) ByteBuffer content) {
+        if (!buffer.append(content)) {
+            response.abort(new IllegalArgumentException("Buffering capacity " + maxLength + " exceeded"));
+        }
     }
 
     @Override
     public void onComplete(@NonNullByDefault({}) Result result) {
+        try {
+            complete(result);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private void complete(Result result) {
         Response response = result.getResponse();
         if (logger.isTraceEnabled()) {
             logger.trace("Received from '{}': {}", result.getRequest().getURI(), responseToLogString(response));
@@ -65,8 +145,12 @@ public class HttpResponseListener extends BufferingResponseListener {
                     request.getContent(), result.getFailure().toString());
             future.complete(null);
         } else if (HttpStatus.isSuccess(response.getStatus())) {
-            String encoding = Objects.requireNonNullElse(getEncoding(), fallbackEncoding);
-            future.complete(new Content(getContent(), encoding, getMediaType()));
+            String encoding = Objects.requireNonNullElse(this.encoding, fallbackEncoding);
+            future.complete(new Content(buffer.toByteArray(), encoding, mediaType,
+                    response.getHeaders().get(HttpHeader.ETAG), response.getHeaders().get(HttpHeader.LAST_MODIFIED)));
+        } else if (response.getStatus() == HttpStatus.NOT_MODIFIED_304 && cachedContent != null) {
+            logger.trace("Content of '{}' not modified", request.getURI());
+            future.complete(cachedContent);
         } else {
             switch (response.getStatus()) {
                 case HttpStatus.UNAUTHORIZED_401:
@@ -87,4 +171,13 @@ public class HttpResponseListener extends BufferingResponseListener {
                 + response.getHeaders().stream().map(HttpField::toString).collect(Collectors.joining(", "))
                 + "}, Content = {" + getContentAsString() + "}";
     }
+
+    private String getContentAsString() {
+        Charset charset = StandardCharsets.UTF_8;
+        try {
+            charset = Charset.forName(Objects.requireNonNullElse(encoding, fallbackEncoding));
+        } catch (IllegalArgumentException e) {
+        }
+        return new String(buffer.toByteArray(), charset);
+    }
 }
@@ -13,8 +13,11 @@
 package org.openhab.binding.http.internal.http;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -33,15 +36,17 @@ import org.eclipse.jetty.http.HttpMethod;
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
  * the request creation
  *
+ * Requests are queued per host, so that the requests to a host do not delay the requests to other hosts.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RateLimitedHttpClient {
-    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
+    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size per host
     private HttpClient httpClient;
     private int delay = 0; // in ms
     private final ScheduledExecutorService scheduler;
-    private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
+    private final Map<String, LinkedBlockingQueue<RequestQueueEntry>> requestQueues = new ConcurrentHashMap<>();
 
     private @Nullable ScheduledFuture<?> processJob;
 
@@ -55,7 +60,8 @@ public class RateLimitedHttpClient {
      */
     public void shutdown() {
         stopProcessJob();
-        requestQueue.forEach(queueEntry -> queueEntry.future.completeExceptionally(new CancellationException()));
+        requestQueues.values().forEach(requestQueue -> requestQueue
+                .forEach(queueEntry -> queueEntry.future.completeExceptionally(new CancellationException())));
     }
 
     /**
@@ -98,6 +104,9 @@ public class RateLimitedHttpClient {
         if (delay == 0) {
             queueEntry.completeFuture(httpClient);
         } else {
+            String host = Objects.requireNonNullElse(finalUrl.getHost(), "");
+            LinkedBlockingQueue<RequestQueueEntry> requestQueue = requestQueues.computeIfAbsent(host,
+                    h -> new LinkedBlockingQueue<>(MAX_QUEUE_SIZE));
             if (!requestQueue.offer(queueEntry)) {
                 future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
             }
@@ -123,9 +132,12 @@ public class RateLimitedHttpClient {
     }
 
     private void processQueue() {
-        RequestQueueEntry queueEntry = requestQueue.poll();
-        if (queueEntry != null) {
-            queueEntry.completeFuture(httpClient);
+        // one request per host and delay
+        for (LinkedBlockingQueue<RequestQueueEntry> requestQueue : requestQueues.values()) {
+            RequestQueueEntry queueEntry = requestQueue.poll();
+            if (queueEntry != null) {
+                queueEntry.completeFuture(httpClient);
+            }
         }
     }
 
@@ -25,12 +25,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
@@ -41,6 +43,9 @@ import org.slf4j.LoggerFactory;
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
  *
+ * GET requests are conditional once the server provided an ETag or Last-Modified header. Consumers are only notified
+ * when the content changed, or after {@link #notifyUnchangedContent()}.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -59,7 +64,10 @@ public class RefreshingUrlCache {
     private final String httpContent;
 
     private final ScheduledFuture<?> future;
-    private @Nullable Content lastContent;
+    private volatile @Nullable Content lastContent;
+    private volatile boolean notifyUnchanged = true;
+    private final AtomicLong bytesFetched = new AtomicLong();
+    private final AtomicLong bytesProcessed = new AtomicLong();
 
     public RefreshingUrlCache(ScheduledExecutorService executor, RateLimitedHttpClient httpClient, String url,
             boolean escapedUrl, HttpThingConfig thingConfig, String httpContent) {
@@ -68,7 +76,7 @@ public class RefreshingUrlCache {
         this.escapedUrl = escapedUrl;
         this.timeout = thingConfig.timeout;
         this.bufferSize = thingConfig.bufferSize;
-        this.headers = thingConfig.headers;
+        this.headers = List.copyOf(thingConfig.headers);
         this.httpMethod = thingConfig.stateMethod;
         this.httpContent = httpContent;
         fallbackEncoding = thingConfig.encoding;
@@ -105,6 +113,18 @@ public class RefreshingUrlCache {
                     }
                 });
 
+                Content cachedContent = httpMethod == HttpMethod.GET ? lastContent : null;
+                if (cachedContent != null) {
+                    String eTag = cachedContent.getETag();
+                    String lastModified = cachedContent.getLastModified();
+                    if (eTag != null) {
+                        request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                    }
+                    if (lastModified != null) {
+                        request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                    }
+                }
+
                 CompletableFuture<@Nullable Content> response = new CompletableFuture<>();
                 response.exceptionally(e -> {
                     if (e instanceof HttpAuthException) {
@@ -129,7 +149,7 @@ public class RefreshingUrlCache {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
-                request.send(new HttpResponseListener(response, fallbackEncoding, bufferSize));
+                request.send(new HttpResponseListener(response, fallbackEncoding, bufferSize, cachedContent));
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
@@ -152,6 +172,20 @@ public class RefreshingUrlCache {
 
     public void addConsumer(Consumer<Content> consumer) {
         consumers.add(consumer);
+        // the new consumer has not seen the current content yet
+        notifyUnchanged = true;
+    }
+
+    public void removeConsumer(Consumer<Content> consumer) {
+        consumers.remove(consumer);
+    }
+
+    /**
+     * Notify the consumers with the next content, even if it did not change (e.g. after sending a command, since the
+     * state of the channels may now differ from the content)
+     */
+    public void notifyUnchangedContent() {
+        notifyUnchanged = true;
     }
 
     public Optional<Content> get() {
@@ -164,7 +198,23 @@ public class RefreshingUrlCache {
     }
 
     private void processResult(@Nullable Content content) {
+        Content previousContent = lastContent;
+        lastContent = content;
         if (content != null) {
+            int length = content.getRawContent().length;
+            if (content != previousContent) {
+                bytesFetched.addAndGet(length);
+            }
+            if (!notifyUnchanged && previousContent != null
+                    && (content == previousContent || content.hasSameData(previousContent))) {
+                logger.trace("Content of URL {} unchanged, not notifying consumers ({} bytes fetched, {} processed)",
+                        url, bytesFetched.get(), bytesProcessed.get());
+                return;
+            }
+            notifyUnchanged = false;
+            bytesProcessed.addAndGet(length);
+            logger.trace("Processing {} bytes from URL {} ({} bytes fetched, {} processed)", length, url,
+                    bytesFetched.get(), bytesProcessed.get());
             for (Consumer<Content> consumer : consumers) {
                 try {
                     consumer.accept(content);
@@ -173,6 +223,5 @@ public class RefreshingUrlCache {
                 }
             }
         }
-        lastContent = content;
     }
 }
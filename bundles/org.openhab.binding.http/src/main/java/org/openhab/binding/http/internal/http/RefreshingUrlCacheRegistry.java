@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RefreshingUrlCacheRegistry} shares the {@link RateLimitedHttpClient}s and {@link RefreshingUrlCache}s
+ * between things, so that things requesting the same URL in the same way only cause a single request per refresh.
+ *
+ * Both are reference counted: each acquisition needs to be released, and the last release stops them.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistry {
+    private final Logger logger = LoggerFactory.getLogger(RefreshingUrlCacheRegistry.class);
+
+    private final Map<ClientKey, Shared<RateLimitedHttpClient>> clients = new HashMap<>();
+    private final Map<CacheKey, Shared<RefreshingUrlCache>> caches = new HashMap<>();
+
+    /**
+     * Get a rate-limited client
+     *
+     * @param scheduler the scheduler for processing the request queue
+     * @param httpClient the wrapped Jetty client
+     * @param delay the delay between two requests to the same host in ms
+     * @return a client shared with all things using the same client and delay
+     */
+    public synchronized RateLimitedHttpClient acquireClient(ScheduledExecutorService scheduler, HttpClient httpClient,
+            int delay) {
+        Shared<RateLimitedHttpClient> client = clients.computeIfAbsent(new ClientKey(httpClient, delay), key -> {
+            RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+            rateLimitedHttpClient.setDelay(delay);
+            return new Shared<>(rateLimitedHttpClient);
+        });
+        client.references++;
+        return client.value;
+    }
+
+    /**
+     * Release a client acquired with {@link #acquireClient}
+     *
+     * @param rateLimitedHttpClient the client
+     */
+    public synchronized void releaseClient(RateLimitedHttpClient rateLimitedHttpClient) {
+        clients.entrySet().removeIf(entry -> {
+            Shared<RateLimitedHttpClient> client = entry.getValue();
+            if (client.value != rateLimitedHttpClient || --client.references > 0) {
+                return false;
+            }
+            client.value.shutdown();
+            return true;
+        });
+    }
+
+    /**
+     * Get a cache refreshing the given URL
+     *
+     * @param scheduler the scheduler for refreshing the URL
+     * @param httpClient a client acquired with {@link #acquireClient}
+     * @param url the URL
+     * @param escapedUrl whether the URL is already escaped
+     * @param thingConfig the configuration of the thing
+     * @param httpContent the content of the request
+     * @return a cache shared with all things requesting the URL in the same way
+     */
+    public synchronized RefreshingUrlCache acquireCache(ScheduledExecutorService scheduler,
+            RateLimitedHttpClient httpClient, String url, boolean escapedUrl, HttpThingConfig thingConfig,
+            String httpContent) {
+        CacheKey cacheKey = new CacheKey(httpClient, url, escapedUrl, thingConfig.stateMethod,
+                List.copyOf(thingConfig.headers), httpContent, thingConfig.timeout, thingConfig.bufferSize,
+                thingConfig.encoding, thingConfig.refresh);
+        Shared<RefreshingUrlCache> cache = caches.computeIfAbsent(cacheKey, key -> new Shared<>(
+                new RefreshingUrlCache(scheduler, httpClient, url, escapedUrl, thingConfig, httpContent)));
+        cache.references++;
+        if (cache.references > 1) {
+            logger.debug("Sharing refresh task for URL '{}' ({} users)", url, cache.references);
+        }
+        return cache.value;
+    }
+
+    /**
+     * Release a cache acquired with {@link #acquireCache}
+     *
+     * @param refreshingUrlCache the cache
+     */
+    public synchronized void releaseCache(RefreshingUrlCache refreshingUrlCache) {
+        caches.entrySet().removeIf(entry -> {
+            Shared<RefreshingUrlCache> cache = entry.getValue();
+            if (cache.value != refreshingUrlCache || --cache.references > 0) {
+                return false;
+            }
+            cache.value.stop();
+            return true;
+        });
+    }
+
+    private static class Shared<T> {
+        private final T value;
+        private int references;
+
+        private Shared(T value) {
+            this.value = value;
+        }
+    }
+
+    private record ClientKey(HttpClient httpClient, int delay) {
+    }
+
+    private record CacheKey(RateLimitedHttpClient httpClient, String url, boolean escapedUrl, HttpMethod method,
+            List<String> headers, String content, int timeout, int bufferSize, @Nullable String encoding,
+            int refresh) {
+    }
+}
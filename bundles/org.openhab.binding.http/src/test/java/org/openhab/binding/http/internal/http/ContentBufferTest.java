@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ContentBuffer}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ContentBufferTest {
+
+    @Test
+    public void empty() {
+        ContentBuffer buffer = new ContentBuffer(1024);
+
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.toByteArray().length);
+    }
+
+    /**
+     * Data spanning several chunks, received in pieces not aligned with the chunks, is returned unchanged.
+     */
+    @Test
+    public void multipleChunks() {
+        byte[] payload = new byte[ContentBuffer.CHUNK_SIZE * 3 + 17];
+        new Random(42).nextBytes(payload);
+        ContentBuffer buffer = new ContentBuffer(payload.length);
+
+        for (int offset = 0; offset < payload.length; offset += 1000) {
+            assertTrue(buffer.append(ByteBuffer.wrap(payload, offset, Math.min(1000, payload.length - offset))));
+        }
+
+        assertEquals(payload.length, buffer.size());
+        assertArrayEquals(payload, buffer.toByteArray());
+    }
+
+    /**
+     * Data exceeding the maximum size is refused, and the data received before is kept.
+     */
+    @Test
+    public void maximumSize() {
+        ContentBuffer buffer = new ContentBuffer(10);
+
+        assertTrue(buffer.append(ByteBuffer.wrap("foobar".getBytes())));
+        assertFalse(buffer.append(ByteBuffer.wrap("foobar".getBytes())));
+
+        assertEquals("foobar", new String(buffer.toByteArray()));
+    }
+
+    /**
+     * Released buffers are empty, and buffers reusing pooled chunks do not leak previous data.
+     */
+    @Test
+    public void release() {
+        byte[] payload = new byte[ContentBuffer.CHUNK_SIZE + 1];
+        Arrays.fill(payload, (byte) 1);
+        ContentBuffer buffer = new ContentBuffer(payload.length);
+        buffer.append(ByteBuffer.wrap(payload));
+
+        buffer.release();
+        assertEquals(0, buffer.size());
+
+        ContentBuffer other = new ContentBuffer(payload.length);
+        other.append(ByteBuffer.wrap("foo".getBytes()));
+        assertEquals("foo", new String(other.toByteArray()));
+        other.release();
+    }
+}
@@ -273,6 +273,71 @@ public class HttpResponseListenerTest {
         assertNull(content.getMediaType());
     }
 
+    /**
+     * When the remote side sends validators, the Content object contains them for conditional
+     * requests.
+     */
+    @Test
+    public void okWithValidators() {
+        when(response.getStatus()).thenReturn(HttpStatus.OK_200);
+        response.getHeaders().put(HttpHeader.ETAG, "\"v1\"");
+        response.getHeaders().put(HttpHeader.LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT");
+
+        CompletableFuture<@Nullable Content> future = run("foobar".getBytes());
+
+        Content content = future.join();
+        assertNotNull(content);
+        assertEquals("\"v1\"", content.getETag());
+        assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", content.getLastModified());
+    }
+
+    /**
+     * When the remote side response with a HTTP/304 to a conditional request, the future
+     * completes normally with the cached Content.
+     */
+    @Test
+    public void notModified() {
+        when(response.getStatus()).thenReturn(HttpStatus.NOT_MODIFIED_304);
+        Content cachedContent = new Content("foobar".getBytes(), "UTF-8", null, "\"v1\"", null);
+
+        CompletableFuture<@Nullable Content> future = new CompletableFuture<>();
+        run(new HttpResponseListener(future, null, 1024, cachedContent));
+
+        assertTrue(future.isDone());
+        assertFalse(future.isCompletedExceptionally());
+        assertSame(cachedContent, future.join());
+    }
+
+    /**
+     * When the remote side response with a HTTP/304 to an unconditional request, the future
+     * completes exceptionally with an IllegalStateException.
+     */
+    @Test
+    public void notModifiedWithoutCachedContent() {
+        when(response.getStatus()).thenReturn(HttpStatus.NOT_MODIFIED_304);
+
+        CompletableFuture<@Nullable Content> future = run();
+
+        assertTrue(future.isDone());
+        assertTrue(future.isCompletedExceptionally());
+        CompletionException exceptionWrapper = assertThrows(CompletionException.class, () -> future.join());
+        assertTrue(exceptionWrapper.getCause() instanceof IllegalStateException);
+    }
+
+    /**
+     * Contents with the same payload, encoding and media type have the same data, whatever their
+     * validators.
+     */
+    @Test
+    public void sameData() {
+        Content content = new Content("foobar".getBytes(), "UTF-8", "text/plain", "\"v1\"", null);
+
+        assertTrue(content.hasSameData(new Content("foobar".getBytes(), "UTF-8", "text/plain")));
+        assertFalse(content.hasSameData(new Content("foobaz".getBytes(), "UTF-8", "text/plain")));
+        assertFalse(content.hasSameData(new Content("foobar".getBytes(), "UTF-16", "text/plain")));
+        assertFalse(content.hasSameData(new Content("foobar".getBytes(), "UTF-8", null)));
+    }
+
     /**
      * When the remote side response with a HTTP/401, the future completes exceptionally with a
      * HttpAuthException.
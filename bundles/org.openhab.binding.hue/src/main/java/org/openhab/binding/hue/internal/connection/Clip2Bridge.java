@@ -12,12 +12,8 @@
  */
 package org.openhab.binding.hue.internal.connection;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -31,16 +27,19 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
 
 import javax.ws.rs.core.MediaType;
 
@@ -250,10 +249,6 @@ public class Clip2Bridge implements Closeable {
             return new String(buffer, 0, usedSize, StandardCharsets.UTF_8);
         }
 
-        public Reader contentStreamReader() {
-            return new InputStreamReader(new ByteArrayInputStream(buffer, 0, usedSize), StandardCharsets.UTF_8);
-        }
-
         public void reset() {
             usedSize = 0;
         }
@@ -262,10 +257,9 @@ public class Clip2Bridge implements Closeable {
     /**
      * Adapter for listening to SSE event stream events.
      *
-     * It receives the incoming text lines. Receipt of the first data line causes the CompletableFuture to complete. It
-     * then parses subsequent data according to the SSE specification. If the line starts with a 'data:' message, it
-     * adds the data to the list of strings. And if the line is empty (i.e. the last line of an event), it passes the
-     * full set of strings to the owner via a call-back method.
+     * It passes the incoming data frames to an incremental SSE parser. Receipt of the first message causes the
+     * CompletableFuture to complete. The 'data' field values of subsequent messages are handed over to the owner's
+     * event queue, so that they are parsed and processed outside of the Jetty thread.
      *
      * The stream must be permanently connected, so it ignores onIdleTimeout() events.
      *
@@ -276,7 +270,7 @@ public class Clip2Bridge implements Closeable {
      * <li>onReset()</li>
      */
     private class EventStreamListenerAdapter extends BaseStreamListenerAdapter<Boolean> {
-        private final DataFrameCollector eventData = new DataFrameCollector();
+        private final EventStreamParser eventStreamParser = new EventStreamParser();
 
         @Override
         public void onClosed(@Nullable Stream stream) {
@@ -288,31 +282,19 @@ public class Clip2Bridge implements Closeable {
         public void onData(@Nullable Stream stream, @Nullable DataFrame frame, @Nullable Callback callback) {
             Objects.requireNonNull(frame);
             Objects.requireNonNull(callback);
+            List<String> events;
             synchronized (this) {
-                eventData.append(frame.getData());
-                BufferedReader reader = new BufferedReader(eventData.contentStreamReader());
-                @SuppressWarnings("null")
-                List<String> receivedLines = reader.lines().collect(Collectors.toList());
-
-                // a blank line marks the end of an SSE message
-                boolean endOfMessage = !receivedLines.isEmpty()
-                        && receivedLines.get(receivedLines.size() - 1).isBlank();
-
-                if (endOfMessage) {
-                    eventData.reset();
-                    // receipt of ANY message means the event stream is established
-                    if (!completable.isDone()) {
-                        completable.complete(Boolean.TRUE);
-                    }
-                    // append any 'data' field values to the event message
-                    StringBuilder eventContent = new StringBuilder();
-                    for (String receivedLine : receivedLines) {
-                        if (receivedLine.startsWith("data:")) {
-                            eventContent.append(receivedLine.substring(5).stripLeading());
-                        }
-                    }
-                    if (eventContent.length() > 0) {
-                        onEventData(eventContent.toString().trim());
+                events = eventStreamParser.append(frame.getData());
+            }
+            if (!events.isEmpty()) {
+                // receipt of ANY message means the event stream is established
+                if (!completable.isDone()) {
+                    completable.complete(Boolean.TRUE);
+                }
+                for (String eventContent : events) {
+                    String data = eventContent.trim();
+                    if (!data.isEmpty()) {
+                        queueEventData(data);
                     }
                 }
             }
@@ -514,6 +496,7 @@ public class Clip2Bridge implements Closeable {
     private static final int CHECK_ALIVE_SECONDS = 300;
     private static final int REQUEST_INTERVAL_MILLISECS = 50;
     private static final int MAX_CONCURRENT_STREAMS = 3;
+    private static final int MAX_QUEUED_EVENTS = 100;
 
     private static final ResourceReference BRIDGE = new ResourceReference().setType(ResourceType.BRIDGE);
 
@@ -560,6 +543,9 @@ public class Clip2Bridge implements Closeable {
     private final Semaphore streamMutex = new Semaphore(MAX_CONCURRENT_STREAMS, true); // i.e. fair
     private final ReadWriteLock sessionUseCreateLock = new ReentrantReadWriteLock(true); // i.e. fair
     private final Map<Integer, Future<?>> fatalErrorTasks = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> eventQueue = new LinkedBlockingQueue<>(MAX_QUEUED_EVENTS);
+    private final AtomicBoolean eventQueueScheduled = new AtomicBoolean();
+    private final AtomicBoolean eventsDropped = new AtomicBoolean();
 
     private boolean recreatingSession;
     private boolean closing;
@@ -665,6 +651,7 @@ public class Clip2Bridge implements Closeable {
             }
             cancelTask(checkAliveTask, true);
             checkAliveTask = null;
+            eventQueue.clear();
             closeEventStream();
             closeSession();
             if (notifyHandler) {
@@ -880,7 +867,53 @@ public class Clip2Bridge implements Closeable {
     }
 
     /**
-     * The event stream calls this method when it has received text data. It parses the text as JSON into a list of
+     * The event stream calls this method when it has received text data. The data is queued and processed in order of
+     * arrival on the bridge handler's scheduler. The calling Jetty thread must never block, so if the queue is full,
+     * the oldest queued data is dropped in favour of the new one. Since events only contain changes, the bridge
+     * handler is then asked to refresh the full resource state once the queue has been processed.
+     *
+     * @param data the incoming (presumed to be JSON) text.
+     */
+    private void queueEventData(String data) {
+        while (!eventQueue.offer(data)) {
+            if (Objects.nonNull(eventQueue.poll()) && eventsDropped.compareAndSet(false, true)) {
+                LOGGER.warn("queueEventData() event queue is full, dropping oldest events");
+            }
+        }
+        if (eventQueueScheduled.compareAndSet(false, true)) {
+            try {
+                bridgeHandler.getScheduler().execute(this::processEventQueue);
+            } catch (RejectedExecutionException e) {
+                eventQueueScheduled.set(false);
+                LOGGER.debug("queueEventData() scheduler rejected event processing");
+            }
+        }
+    }
+
+    /**
+     * Process the queued event data. Only one instance of this task is scheduled at any time.
+     */
+    private void processEventQueue() {
+        do {
+            String data;
+            while (Objects.nonNull(data = eventQueue.poll())) {
+                try {
+                    onEventData(data);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("processEventQueue() error processing event data", e);
+                }
+            }
+            if (eventsDropped.getAndSet(false)) {
+                // the dropped events' changes are lost, so re-read the state of all resources
+                bridgeHandler.onEventsDropped();
+            }
+            eventQueueScheduled.set(false);
+            // re-check in case data was queued after the queue was found empty
+        } while (!eventQueue.isEmpty() && eventQueueScheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * The event queue calls this method with the received text data. It parses the text as JSON into a list of
      * Event entries, converts the list of events to a list of resources, and forwards that list to the bridge
      * handler.
      *
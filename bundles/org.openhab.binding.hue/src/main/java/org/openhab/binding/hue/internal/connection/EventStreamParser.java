@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Incremental parser for an SSE 'text/event-stream'.
+ *
+ * The data of incoming HTTP 2 frames is appended to a buffer, and only the newly appended bytes are scanned for line
+ * ends. Each complete line is processed according to the SSE specification, and the buffer is compacted to the
+ * remaining partial line. So the parsing effort is linear in the size of the stream, regardless of how the events are
+ * split into frames.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class EventStreamParser {
+    private static final String FIELD_DATA = "data";
+
+    private byte[] buffer = new byte[512];
+    private int usedSize = 0;
+    private int lineStart = 0;
+    private int scanPosition = 0;
+    private boolean skipLineFeed = false;
+    private final StringBuilder eventData = new StringBuilder();
+
+    /**
+     * Append the given data to the stream and return the events it completes.
+     *
+     * @param data the incoming data.
+     * @return the 'data' field values of the completed events, empty strings for events without data.
+     */
+    public List<String> append(ByteBuffer data) {
+        int dataSize = data.remaining();
+        if (usedSize + dataSize > buffer.length) {
+            compact();
+            if (usedSize + dataSize > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, usedSize + dataSize));
+            }
+        }
+        data.get(buffer, usedSize, dataSize);
+        usedSize += dataSize;
+
+        List<String> events = new ArrayList<>();
+        for (; scanPosition < usedSize; scanPosition++) {
+            byte b = buffer[scanPosition];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n') {
+                    lineStart = scanPosition + 1;
+                    continue;
+                }
+            }
+            if (b == '\n' || b == '\r') {
+                processLine(lineStart, scanPosition, events);
+                lineStart = scanPosition + 1;
+                skipLineFeed = b == '\r';
+            }
+        }
+        if (lineStart == usedSize) {
+            usedSize = 0;
+            lineStart = 0;
+            scanPosition = 0;
+        }
+        return events;
+    }
+
+    /**
+     * Discard any partially received event.
+     */
+    public void reset() {
+        usedSize = 0;
+        lineStart = 0;
+        scanPosition = 0;
+        skipLineFeed = false;
+        eventData.setLength(0);
+    }
+
+    /**
+     * Move the partial line to the start of the buffer.
+     */
+    private void compact() {
+        if (lineStart > 0) {
+            System.arraycopy(buffer, lineStart, buffer, 0, usedSize - lineStart);
+            usedSize -= lineStart;
+            scanPosition -= lineStart;
+            lineStart = 0;
+        }
+    }
+
+    private void processLine(int start, int end, List<String> events) {
+        if (start == end) {
+            // a blank line marks the end of an SSE message
+            events.add(eventData.toString());
+            eventData.setLength(0);
+            return;
+        }
+        if (buffer[start] == ':') {
+            // comment
+            return;
+        }
+        String line = new String(buffer, start, end - start, StandardCharsets.UTF_8);
+        int colon = line.indexOf(':');
+        String field = colon < 0 ? line : line.substring(0, colon);
+        if (FIELD_DATA.equals(field)) {
+            int valueStart = colon < 0 ? line.length() : colon + 1;
+            if (valueStart < line.length() && line.charAt(valueStart) == ' ') {
+                valueStart++;
+            }
+            if (eventData.length() > 0) {
+                eventData.append('\n');
+            }
+            eventData.append(line, valueStart, line.length());
+        }
+    }
+}
@@ -508,6 +508,13 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         updateOnlineStateTask = scheduler.schedule(() -> updateOnlineState(), 0, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Called when SSE event messages had to be dropped. Schedule a general state update to recover the lost changes.
+     */
+    public void onEventsDropped() {
+        updateThingsScheduled(500);
+    }
+
     /**
      * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
      * child thing handlers with the respective resource.
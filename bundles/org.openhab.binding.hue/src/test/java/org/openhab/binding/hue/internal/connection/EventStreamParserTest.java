@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test for the incremental SSE parser of the CLIP 2 event stream.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class EventStreamParserTest {
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testGreetingCompletesEvent() {
+        EventStreamParser parser = new EventStreamParser();
+        assertEquals(List.of(""), parser.append(bytes(": hi\n\n")));
+    }
+
+    @Test
+    void testEventSplitAcrossFrames() {
+        EventStreamParser parser = new EventStreamParser();
+        String json = "[{\"data\":[{\"id\":\"\u00e4\u00f6\u00fc\"}]}]";
+        String message = "id: 1:0\ndata: " + json + "\n\n";
+        byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
+
+        List<String> events = new ArrayList<>();
+        // feed byte by byte, so that multi byte characters and line ends are split
+        for (byte b : messageBytes) {
+            events.addAll(parser.append(ByteBuffer.wrap(new byte[] { b })));
+        }
+        assertEquals(List.of(json), events);
+    }
+
+    @Test
+    void testSeveralEventsInOneFrame() {
+        EventStreamParser parser = new EventStreamParser();
+        List<String> events = parser.append(bytes("data: [1]\r\n\r\ndata:[2,\rdata: 3]\r\rdata: [4"));
+        assertEquals(List.of("[1]", "[2,\n3]"), events);
+        assertEquals(List.of("[4]"), parser.append(bytes("]\n\n")));
+    }
+
+    @Test
+    void testLargeEvent() {
+        EventStreamParser parser = new EventStreamParser();
+        String data = "x".repeat(100_000);
+        String message = "data: " + data + "\n\n";
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < message.length(); i += 1000) {
+            events.addAll(parser.append(bytes(message.substring(i, Math.min(message.length(), i + 1000)))));
+        }
+        assertEquals(List.of(data), events);
+    }
+
+    @Test
+    void testReset() {
+        EventStreamParser parser = new EventStreamParser();
+        assertTrue(parser.append(bytes("data: [partial")).isEmpty());
+        parser.reset();
+        assertEquals(List.of("[1]"), parser.append(bytes("data: [1]\n\n")));
+    }
+}
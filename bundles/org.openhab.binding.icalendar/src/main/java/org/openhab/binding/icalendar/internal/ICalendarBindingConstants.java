@@ -46,6 +46,7 @@ public class ICalendarBindingConstants {
 
     // additional constants
     public static final int HTTP_TIMEOUT_SECS = 60;
+    public static final long DEFAULT_INDEX_HORIZON_DAYS = 14;
     public static final String DATETIME_UNIT_MINUTE = "minute";
     public static final String DATETIME_UNIT_HOUR = "hour";
     public static final String DATETIME_UNIT_DAY = "day";
@@ -14,12 +14,15 @@ package org.openhab.binding.icalendar.internal.handler;
 
 import static org.openhab.binding.icalendar.internal.ICalendarBindingConstants.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
@@ -81,6 +84,7 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
     private @Nullable ScheduledFuture<?> updateJobFuture;
     private Instant updateStatesLastCalledTime;
     private @Nullable Instant calendarDownloadedTime;
+    private byte @Nullable [] calendarDigest;
 
     public ICalendarHandler(Bridge bridge, HttpClient httpClient, EventPublisher eventPublisher,
             TimeZoneProvider tzProvider) {
@@ -137,6 +141,8 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
 
         final ICalendarConfiguration currentConfiguration = getConfigAs(ICalendarConfiguration.class);
         configuration = currentConfiguration;
+        // the configuration of the index may have changed
+        calendarDigest = null;
 
         try {
             if ((currentConfiguration.username == null && currentConfiguration.password != null)
@@ -166,6 +172,10 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
                         "refreshTime is either not set or less than 1 (minute), which is not allowed.");
             }
             final long refreshTime = refreshTimeBD.longValue();
+            final BigDecimal indexHorizonBD = currentConfiguration.indexHorizon;
+            if (indexHorizonBD != null && indexHorizonBD.longValue() < 0) {
+                throw new ConfigBrokenException("indexHorizon is less than 0 (days), which is not allowed.");
+            }
             if (calendarFile.isFile()) {
                 updateStatus(ThingStatus.ONLINE);
 
@@ -295,7 +305,8 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
 
     /**
      * Reloads the calendar from local ical-file. Replaces the class internal calendar - if loading succeeds. Else
-     * logging details at warn-level logger.
+     * logging details at warn-level logger. If the file is unchanged, the current calendar is kept. Otherwise the
+     * occurrences of unchanged events are taken over from the current calendar.
      *
      * @return Whether the calendar was loaded successfully.
      */
@@ -310,9 +321,20 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
             logger.warn("Can't reload calendar when configuration is missing.");
             return false;
         }
-        try (final FileInputStream fileStream = new FileInputStream(calendarFile)) {
-            final AbstractPresentableCalendar calendar = AbstractPresentableCalendar.create(fileStream);
-            runtimeCalendar = calendar;
+        try {
+            final byte[] calendarData = Files.readAllBytes(calendarFile.toPath());
+            final byte[] currentDigest = PullJob.createDigest().digest(calendarData);
+            final AbstractPresentableCalendar previousCalendar = runtimeCalendar;
+            if (previousCalendar != null && MessageDigest.isEqual(currentDigest, calendarDigest)) {
+                logger.trace("calendar of {} is unchanged, keeping it", getThing().getUID());
+            } else {
+                final BigDecimal indexHorizonBD = config.indexHorizon;
+                final Duration indexHorizon = Duration
+                        .ofDays(indexHorizonBD != null ? indexHorizonBD.longValue() : DEFAULT_INDEX_HORIZON_DAYS);
+                runtimeCalendar = AbstractPresentableCalendar.create(new ByteArrayInputStream(calendarData),
+                        indexHorizon, previousCalendar);
+                calendarDigest = currentDigest;
+            }
             rescheduleCalendarStateUpdate();
             calendarDownloadedTime = Instant.ofEpochMilli(calendarFile.lastModified());
         } catch (IOException | CalendarException e) {
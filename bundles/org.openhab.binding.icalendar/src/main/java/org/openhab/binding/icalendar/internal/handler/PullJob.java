@@ -19,9 +19,13 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -53,6 +57,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 class PullJob implements Runnable {
     private static final String TMP_FILE_PREFIX = "icalendardld";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
 
     private final Authentication.@Nullable Result authentication;
     private final File destination;
@@ -61,6 +66,7 @@ class PullJob implements Runnable {
     private final Logger logger = LoggerFactory.getLogger(PullJob.class);
     private final int maxSize;
     private final URI sourceURI;
+    private byte @Nullable [] lastDigest;
 
     /**
      * Constructor of PullJob for creating a single pull of a calendar.
@@ -149,7 +155,8 @@ class PullJob implements Runnable {
             return;
         }
 
-        try (final FileOutputStream tmpOutStream = new FileOutputStream(tmpTargetFile);
+        final MessageDigest digest = createDigest();
+        try (final OutputStream tmpOutStream = new DigestOutputStream(new FileOutputStream(tmpTargetFile), digest);
                 final InputStream httpInputStream = asyncListener.getInputStream()) {
             final byte[] buffer = new byte[1024];
             int readBytesTotal = 0;
@@ -170,13 +177,18 @@ class PullJob implements Runnable {
             return;
         }
 
-        try (final FileInputStream tmpInput = new FileInputStream(tmpTargetFile)) {
-            AbstractPresentableCalendar.create(tmpInput);
-        } catch (IOException | CalendarException e) {
-            logger.warn(
-                    "Not able to read downloaded iCal. Validation failed or file not readable. Error message is: {}",
-                    e.getMessage());
-            return;
+        final byte[] currentDigest = digest.digest();
+        if (MessageDigest.isEqual(currentDigest, lastDigest)) {
+            logger.debug("Downloaded calendar is unchanged, skipping validation.");
+        } else {
+            try (final FileInputStream tmpInput = new FileInputStream(tmpTargetFile)) {
+                AbstractPresentableCalendar.create(tmpInput);
+            } catch (IOException | CalendarException e) {
+                logger.warn(
+                        "Not able to read downloaded iCal. Validation failed or file not readable. Error message is: {}",
+                        e.getMessage());
+                return;
+            }
         }
 
         try {
@@ -185,6 +197,7 @@ class PullJob implements Runnable {
             logger.warn("Failed to replace iCal file. Error message is: {}", e.getMessage());
             return;
         }
+        lastDigest = currentDigest;
 
         try {
             listener.onCalendarUpdated();
@@ -193,6 +206,20 @@ class PullJob implements Runnable {
         }
     }
 
+    /**
+     * Creates the digest used for detecting changes of the calendar data.
+     *
+     * @return A new MessageDigest.
+     */
+    static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Interface for calling back when the update succeed.
      */
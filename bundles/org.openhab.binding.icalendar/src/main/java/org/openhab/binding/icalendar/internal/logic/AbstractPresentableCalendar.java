@@ -14,6 +14,8 @@ package org.openhab.binding.icalendar.internal.logic;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
@@ -43,6 +45,25 @@ public abstract class AbstractPresentableCalendar {
         return new BiweeklyPresentableCalendar(calendarStream);
     }
 
+    /**
+     * Creates an implementing Instance of AbstractPresentableCalendar, which expands the occurrences of the events
+     * around the current day once into an index, instead of on every query.
+     *
+     * @param calendarStream A Stream containing the iCal data.
+     * @param indexHorizon How far the index reaches into the future. Set to zero for not using an index.
+     * @param previous A calendar created from a previous version of the data. The occurrences of unchanged events
+     *            are taken over from it. May be null.
+     * @return The instance.
+     * @throws IOException When something while reading stream fails.
+     * @throws CalendarException When something while parsing fails.
+     */
+    public static AbstractPresentableCalendar create(InputStream calendarStream, Duration indexHorizon,
+            @Nullable AbstractPresentableCalendar previous) throws IOException, CalendarException {
+        return new BiweeklyPresentableCalendar(calendarStream, indexHorizon,
+                previous instanceof BiweeklyPresentableCalendar biweeklyPrevious ? biweeklyPrevious : null,
+                Clock.systemUTC());
+    }
+
     /**
      * Searches the event currently (at given Instant) present.
      *
@@ -14,23 +14,34 @@ package org.openhab.binding.icalendar.internal.logic;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.icalendar.internal.logic.EventTextFilter.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import biweekly.ICalendar;
 import biweekly.component.VEvent;
+import biweekly.component.VTimezone;
 import biweekly.io.TimezoneAssignment;
 import biweekly.io.TimezoneInfo;
 import biweekly.io.text.ICalReader;
@@ -65,9 +76,31 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     private static final Duration ONE_DAY = Duration.ofDays(1).minusNanos(1);
+    private final Logger logger = LoggerFactory.getLogger(BiweeklyPresentableCalendar.class);
     private final ICalendar usedCalendar;
+    private final List<VEvent> positiveEvents = new ArrayList<>();
+    private final Map<String, List<VEvent>> negativeEventsByUid = new HashMap<>();
+    private final Duration indexHorizon;
+    private final Clock clock;
+    private volatile @Nullable OccurrenceIndex index;
+    private @Nullable OccurrenceIndex reusableIndex;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
+        this(streamed, Duration.ZERO, null, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a calendar which answers queries from an index of the occurrences around the current day.
+     *
+     * @param streamed A Stream containing the iCal data.
+     * @param indexHorizon How far the index reaches into the future. Set to zero for not using an index.
+     * @param previous A calendar of a previous version of the data, whose index is reused for unchanged events.
+     * @param clock The clock determining the day the index is built for.
+     * @throws IOException When something while reading stream fails.
+     * @throws CalendarException When something while parsing fails.
+     */
+    BiweeklyPresentableCalendar(InputStream streamed, Duration indexHorizon,
+            @Nullable BiweeklyPresentableCalendar previous, Clock clock) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
             final ICalendar currentCalendar = reader.readNext();
             if (currentCalendar == null) {
@@ -75,6 +108,10 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             }
             this.usedCalendar = currentCalendar;
         }
+        classifyEvents();
+        this.indexHorizon = indexHorizon;
+        this.clock = clock;
+        this.reusableIndex = previous != null ? previous.index : null;
     }
 
     @Override
@@ -101,10 +138,16 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public @Nullable Event getNextEvent(Instant instant) {
+        final OccurrenceIndex currentIndex = getIndex();
+        if (currentIndex != null && currentIndex.covers(instant, instant)) {
+            final VEventWPeriod indexedNextEvent = currentIndex.getNext(instant);
+            if (indexedNextEvent != null) {
+                return indexedNextEvent.toEvent();
+            }
+            // the next event may be beyond the horizon of the index
+        }
+
         final Collection<VEventWPeriod> candidates = new ArrayList<VEventWPeriod>();
-        final Collection<VEvent> negativeEvents = new ArrayList<VEvent>();
-        final Collection<VEvent> positiveEvents = new ArrayList<VEvent>();
-        classifyEvents(positiveEvents, negativeEvents);
         for (final VEvent currentEvent : positiveEvents) {
             final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
             final Duration duration = getEventLength(currentEvent);
@@ -115,8 +158,7 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             while (startDates.hasNext()) {
                 final Instant startInstant = startDates.next().toInstant();
                 if (startInstant.isAfter(instant)) {
-                    final Uid currentEventUid = currentEvent.getUid();
-                    if (currentEventUid == null || !isCounteredBy(startInstant, currentEventUid, negativeEvents)) {
+                    if (!isCountered(currentEvent, startInstant)) {
                         candidates.add(new VEventWPeriod(currentEvent, startInstant, startInstant.plus(duration)));
                         break;
                     }
@@ -221,9 +263,10 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      */
     private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
             boolean searchByEnd) {
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
+        final OccurrenceIndex currentIndex = getIndex();
+        if (currentIndex != null && currentIndex.covers(frameBegin, frameEnd)) {
+            return currentIndex.getBetween(frameBegin, frameEnd, maximumPerSeries, searchByEnd);
+        }
 
         final List<VEventWPeriod> eventList = new ArrayList<>();
         for (final VEvent positiveEvent : positiveEvents) {
@@ -246,18 +289,8 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
                     continue;
                 }
 
-                final VEventWPeriod resultingVEWP = new VEventWPeriod(positiveEvent, begInst, begInst.plus(duration));
-                final Uid eventUid = positiveEvent.getUid();
-                if (eventUid != null) {
-                    if (!isCounteredBy(begInst, eventUid, negativeEvents)) {
-                        eventList.add(resultingVEWP);
-                        foundInSeries++;
-                        if (maximumPerSeries != 0 && foundInSeries >= maximumPerSeries) {
-                            break;
-                        }
-                    }
-                } else {
-                    eventList.add(resultingVEWP);
+                if (!isCountered(positiveEvent, begInst)) {
+                    eventList.add(new VEventWPeriod(positiveEvent, begInst, begInst.plus(duration)));
                     foundInSeries++;
                     if (maximumPerSeries != 0 && foundInSeries >= maximumPerSeries) {
                         break;
@@ -270,12 +303,10 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     }
 
     /**
-     * Classifies events into positive and negative ones.
-     *
-     * @param positiveEvents A List where to add positive ones.
-     * @param negativeEvents A List where to add negative ones.
+     * Classifies events into positive and negative ones. Negative ones are grouped by their uid, as they only counter
+     * events with the same uid.
      */
-    private void classifyEvents(Collection<VEvent> positiveEvents, Collection<VEvent> negativeEvents) {
+    private void classifyEvents() {
         for (final VEvent currentEvent : usedCalendar.getEvents()) {
             final Status eventStatus = currentEvent.getStatus();
             boolean positive = (eventStatus == null || (eventStatus.isTentative() || eventStatus.isConfirmed()));
@@ -283,14 +314,23 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             if (positive && eventRecurrenceId != null) {
                 // RecurrenceId moves an event. This blocks other events of series and creates a new single instance
                 positiveEvents.add(currentEvent);
-                negativeEvents.add(currentEvent);
+                addNegativeEvent(currentEvent);
+            } else if (positive) {
+                positiveEvents.add(currentEvent);
             } else {
-                final Collection<VEvent> positiveOrNegativeEvents = (positive ? positiveEvents : negativeEvents);
-                positiveOrNegativeEvents.add(currentEvent);
+                addNegativeEvent(currentEvent);
             }
         }
     }
 
+    private void addNegativeEvent(VEvent negativeEvent) {
+        final Uid negativeEventUid = negativeEvent.getUid();
+        if (negativeEventUid != null && negativeEventUid.getValue() != null) {
+            negativeEventsByUid.computeIfAbsent(negativeEventUid.getValue(), uid -> new ArrayList<>())
+                    .add(negativeEvent);
+        }
+    }
+
     /**
      * Searches for a current event at given Instant.
      *
@@ -298,9 +338,10 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return A VEventWPeriod describing the event or null if there is none.
      */
     private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
-        final List<VEvent> negativeEvents = new ArrayList<VEvent>();
-        final List<VEvent> positiveEvents = new ArrayList<VEvent>();
-        classifyEvents(positiveEvents, negativeEvents);
+        final OccurrenceIndex currentIndex = getIndex();
+        if (currentIndex != null && currentIndex.covers(instant, instant)) {
+            return currentIndex.getCurrent(instant);
+        }
 
         VEventWPeriod earliestEndingEvent = null;
 
@@ -315,8 +356,7 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
                 final Instant startInstant = startDates.next().toInstant();
                 final Instant endInstant = startInstant.plus(duration);
                 if (startInstant.isBefore(instant) && endInstant.isAfter(instant)) {
-                    final Uid eventUid = currentEvent.getUid();
-                    if (eventUid == null || !isCounteredBy(startInstant, eventUid, negativeEvents)) {
+                    if (!isCountered(currentEvent, startInstant)) {
                         if (earliestEndingEvent == null || endInstant.isBefore(earliestEndingEvent.end)) {
                             earliestEndingEvent = new VEventWPeriod(currentEvent, startInstant, endInstant);
                         }
@@ -375,43 +415,64 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     }
 
     /**
-     * Checks whether a counter event blocks an event with given uid and start.
+     * Finds the events that may counter occurrences of an event.
      *
-     * @param startInstant The start of the event.
-     * @param eventUid The uid of the event.
-     * @param counterEvents Events that may counter.
+     * @param vEvent The event.
+     * @return The negative events with the same uid as the event.
+     */
+    private List<VEvent> getCounterEvents(VEvent vEvent) {
+        final Uid eventUid = vEvent.getUid();
+        if (eventUid == null || eventUid.getValue() == null) {
+            return List.of();
+        }
+        return negativeEventsByUid.getOrDefault(eventUid.getValue(), List.of());
+    }
+
+    /**
+     * Checks whether a counter event blocks an occurrence of an event.
+     *
+     * @param vEvent The event.
+     * @param startInstant The start of the occurrence.
      * @return True if a counter event exists that matches uid and start, else false.
      */
-    private boolean isCounteredBy(Instant startInstant, Uid eventUid, Collection<VEvent> counterEvents) {
+    private boolean isCountered(VEvent vEvent, Instant startInstant) {
+        return isCounteredBy(startInstant, getCounterEvents(vEvent));
+    }
+
+    /**
+     * Checks whether a counter event blocks an event with given start.
+     *
+     * @param startInstant The start of the event.
+     * @param counterEvents Events with the uid of the event that may counter.
+     * @return True if a counter event exists that matches start, else false.
+     */
+    private boolean isCounteredBy(Instant startInstant, List<VEvent> counterEvents) {
         for (final VEvent counterEvent : counterEvents) {
-            final Uid counterEventUid = counterEvent.getUid();
-            if (counterEventUid != null && eventUid.getValue().contentEquals(counterEventUid.getValue())) {
-                final RecurrenceId counterRecurrenceId = counterEvent.getRecurrenceId();
-                if (counterRecurrenceId != null) {
-                    ICalDate recurrenceDate = counterRecurrenceId.getValue();
-                    if (recurrenceDate != null) {
-                        Instant recurrenceInstant = Instant.ofEpochMilli(recurrenceDate.getTime());
-                        if (recurrenceInstant.equals(startInstant)) {
-                            return true;
-                        }
-                        Range futureOrPast = counterRecurrenceId.getRange();
-                        if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_FUTURE)
-                                && startInstant.isAfter(recurrenceInstant)) {
-                            return true;
-                        }
-                        if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_PRIOR)
-                                && startInstant.isBefore(recurrenceInstant)) {
-                            return true;
-                        }
+            final RecurrenceId counterRecurrenceId = counterEvent.getRecurrenceId();
+            if (counterRecurrenceId != null) {
+                ICalDate recurrenceDate = counterRecurrenceId.getValue();
+                if (recurrenceDate != null) {
+                    Instant recurrenceInstant = Instant.ofEpochMilli(recurrenceDate.getTime());
+                    if (recurrenceInstant.equals(startInstant)) {
+                        return true;
                     }
-                } else {
-                    final DateIterator counterStartDates = getRecurredEventDateIterator(counterEvent);
-                    counterStartDates.advanceTo(Date.from(startInstant));
-                    if (counterStartDates.hasNext()) {
-                        final Instant counterStartInstant = counterStartDates.next().toInstant();
-                        if (counterStartInstant.equals(startInstant)) {
-                            return true;
-                        }
+                    Range futureOrPast = counterRecurrenceId.getRange();
+                    if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_FUTURE)
+                            && startInstant.isAfter(recurrenceInstant)) {
+                        return true;
+                    }
+                    if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_PRIOR)
+                            && startInstant.isBefore(recurrenceInstant)) {
+                        return true;
+                    }
+                }
+            } else {
+                final DateIterator counterStartDates = getRecurredEventDateIterator(counterEvent);
+                counterStartDates.advanceTo(Date.from(startInstant));
+                if (counterStartDates.hasNext()) {
+                    final Instant counterStartInstant = counterStartDates.next().toInstant();
+                    if (counterStartInstant.equals(startInstant)) {
+                        return true;
                     }
                 }
             }
@@ -419,6 +480,265 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return false;
     }
 
+    /**
+     * Gets the index for the current day, building it if necessary.
+     *
+     * @return The index or null if no index is used.
+     */
+    private @Nullable OccurrenceIndex getIndex() {
+        if (indexHorizon.isZero() || indexHorizon.isNegative()) {
+            return null;
+        }
+        final Instant today = clock.instant().truncatedTo(ChronoUnit.DAYS);
+        OccurrenceIndex currentIndex = index;
+        if (currentIndex == null || !currentIndex.scope.anchor.equals(today)) {
+            synchronized (this) {
+                currentIndex = index;
+                if (currentIndex == null || !currentIndex.scope.anchor.equals(today)) {
+                    currentIndex = buildIndex(today);
+                    index = currentIndex;
+                    reusableIndex = null;
+                }
+            }
+        }
+        return currentIndex;
+    }
+
+    /**
+     * Expands all occurrences from the day before the given day up to the horizon after it. Occurrences of events
+     * which are unchanged compared to the reusable index are taken from there.
+     *
+     * @param today The day the index is built for.
+     * @return The index.
+     */
+    private OccurrenceIndex buildIndex(Instant today) {
+        final long startNanos = System.nanoTime();
+        final IndexScope scope = new IndexScope(today, today.minus(Duration.ofDays(1)),
+                today.plus(indexHorizon).plus(Duration.ofDays(1)),
+                Set.copyOf(usedCalendar.getTimezoneInfo().getComponents()), TimeZone.getDefault().getID());
+        final OccurrenceIndex previousIndex = reusableIndex;
+        final Map<VEvent, Series> previousSeries = previousIndex != null && previousIndex.scope.equals(scope)
+                ? previousIndex.series
+                : Map.of();
+
+        final Map<VEvent, Series> series = new HashMap<>();
+        final List<Occurrence> occurrences = new ArrayList<>();
+        int reused = 0;
+        for (int position = 0; position < positiveEvents.size(); position++) {
+            final VEvent positiveEvent = positiveEvents.get(position);
+            Series eventSeries = series.get(positiveEvent);
+            if (eventSeries == null) {
+                final List<VEvent> counterEvents = getCounterEvents(positiveEvent);
+                final Series previousEventSeries = previousSeries.get(positiveEvent);
+                if (previousEventSeries != null && previousEventSeries.counterEvents.equals(counterEvents)) {
+                    eventSeries = new Series(counterEvents, previousEventSeries.starts, previousEventSeries.length);
+                    reused++;
+                } else {
+                    eventSeries = expandSeries(positiveEvent, counterEvents, scope);
+                }
+                series.put(positiveEvent, eventSeries);
+            }
+            final Duration length = eventSeries.length;
+            final Duration duration = length != null ? length : Duration.ZERO;
+            for (final Instant start : eventSeries.starts) {
+                occurrences.add(new Occurrence(position, length != null,
+                        new VEventWPeriod(positiveEvent, start, start.plus(duration))));
+            }
+        }
+
+        final OccurrenceIndex builtIndex = new OccurrenceIndex(scope, series, occurrences);
+        logger.debug("Indexed {} occurrences of {} events ({} reused) between {} and {} in {} ms",
+                occurrences.size(), positiveEvents.size(), reused, scope.begin, scope.end,
+                (System.nanoTime() - startNanos) / 1000000);
+        return builtIndex;
+    }
+
+    /**
+     * Expands the occurrences of an event which overlap with the scope of an index.
+     *
+     * @param positiveEvent The event to expand.
+     * @param counterEvents The events that may counter occurrences of the event.
+     * @param scope The scope of the index.
+     * @return The expanded series.
+     */
+    private Series expandSeries(VEvent positiveEvent, List<VEvent> counterEvents, IndexScope scope) {
+        final Duration length = getEventLength(positiveEvent);
+        final Duration duration = length != null ? length : Duration.ZERO;
+        final DateIterator startDates = getRecurredEventDateIterator(positiveEvent);
+        startDates.advanceTo(Date.from(scope.begin.minus(duration)));
+        final List<Instant> starts = new ArrayList<>();
+        while (startDates.hasNext()) {
+            final Instant startInstant = startDates.next().toInstant();
+            if (startInstant.isAfter(scope.end)) {
+                break;
+            }
+            // biweekly is not as precise as java.time. An exact check is required.
+            if (startInstant.plus(duration).isBefore(scope.begin) || isCounteredBy(startInstant, counterEvents)) {
+                continue;
+            }
+            starts.add(startInstant);
+        }
+        return new Series(counterEvents, starts, length);
+    }
+
+    /**
+     * The range of an index and everything else the expansion of events depends on.
+     *
+     * @param anchor The day the index is built for.
+     * @param begin The begin of the range. All occurrences ending at or after it are indexed.
+     * @param end The end of the range. All occurrences starting at or before it are indexed.
+     * @param timezones The timezone definitions of the calendar.
+     * @param defaultTimeZone The id of the timezone used for floating events.
+     */
+    private record IndexScope(Instant anchor, Instant begin, Instant end, Set<VTimezone> timezones,
+            String defaultTimeZone) {
+    }
+
+    /**
+     * The not countered occurrences of an event within the scope of an index.
+     *
+     * @param counterEvents The events that were used for countering occurrences.
+     * @param starts The starts of the occurrences.
+     * @param length The length of the event or null, if no information is available.
+     */
+    private record Series(List<VEvent> counterEvents, List<Instant> starts, @Nullable Duration length) {
+    }
+
+    /**
+     * An indexed occurrence.
+     *
+     * @param position The position of the event in the calendar, for ordering like the iterating search does.
+     * @param hasLength Whether the length of the event is known.
+     * @param period The event and the period of the occurrence.
+     */
+    private record Occurrence(int position, boolean hasLength, VEventWPeriod period) {
+    }
+
+    /**
+     * The occurrences of all positive events within a range of time, sorted by start and by end for binary search.
+     * Queries exceeding the range need to be answered by iterating the events.
+     */
+    private static class OccurrenceIndex {
+        private static final Comparator<Occurrence> BY_START = Comparator
+                .<Occurrence, Instant> comparing(occurrence -> occurrence.period.start)
+                .thenComparingInt(Occurrence::position);
+        private static final Comparator<Occurrence> BY_END = Comparator
+                .<Occurrence, Instant> comparing(occurrence -> occurrence.period.end)
+                .thenComparingInt(Occurrence::position)
+                .thenComparing(occurrence -> occurrence.period.start);
+        private static final Comparator<Occurrence> BY_SERIES = Comparator.comparingInt(Occurrence::position)
+                .thenComparing(occurrence -> occurrence.period.start);
+
+        final IndexScope scope;
+        final Map<VEvent, Series> series;
+        private final Occurrence[] byStart;
+        private final Occurrence[] byEnd;
+        // the latest end of all occurrences up to the position in byStart
+        private final Instant[] latestEndByStart;
+
+        OccurrenceIndex(IndexScope scope, Map<VEvent, Series> series, List<Occurrence> occurrences) {
+            this.scope = scope;
+            this.series = series;
+            byStart = occurrences.toArray(new Occurrence[0]);
+            Arrays.sort(byStart, BY_START);
+            byEnd = byStart.clone();
+            Arrays.sort(byEnd, BY_END);
+            latestEndByStart = new Instant[byStart.length];
+            for (int i = 0; i < byStart.length; i++) {
+                final Instant end = byStart[i].period.end;
+                latestEndByStart[i] = i > 0 && latestEndByStart[i - 1].isAfter(end) ? latestEndByStart[i - 1] : end;
+            }
+        }
+
+        /**
+         * @return Whether all occurrences relevant for queries between the two instants are in the index.
+         */
+        boolean covers(Instant begin, Instant end) {
+            return !begin.isBefore(scope.begin) && !end.isAfter(scope.end);
+        }
+
+        /**
+         * @return The occurrence present at the instant which ends first, or null if there is none.
+         */
+        @Nullable
+        VEventWPeriod getCurrent(Instant instant) {
+            Occurrence earliestEnding = null;
+            for (int i = firstAfter(byStart, instant, period -> period.start, true) - 1; i >= 0
+                    && latestEndByStart[i].isAfter(instant); i--) {
+                final Occurrence candidate = byStart[i];
+                if (candidate.hasLength && candidate.period.end.isAfter(instant)
+                        && (earliestEnding == null || BY_END.compare(candidate, earliestEnding) < 0)) {
+                    earliestEnding = candidate;
+                }
+            }
+            return earliestEnding != null ? earliestEnding.period : null;
+        }
+
+        /**
+         * @return The first occurrence starting after the instant, or null if there is none in the index.
+         */
+        @Nullable
+        VEventWPeriod getNext(Instant instant) {
+            for (int i = firstAfter(byStart, instant, period -> period.start, false); i < byStart.length; i++) {
+                if (byStart[i].hasLength) {
+                    return byStart[i].period;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return The occurrences starting in [frameBegin, frameEnd) or ending in [frameBegin, frameEnd], grouped by
+         *         event like the iterating search returns them.
+         */
+        List<VEventWPeriod> getBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
+                boolean searchByEnd) {
+            final Occurrence[] sorted = searchByEnd ? byEnd : byStart;
+            final Function<VEventWPeriod, Instant> key = searchByEnd ? period -> period.end : period -> period.start;
+            final int from = firstAfter(sorted, frameBegin, key, true);
+            final int to = firstAfter(sorted, frameEnd, key, !searchByEnd);
+            if (to <= from) {
+                return List.of();
+            }
+            final Occurrence[] found = Arrays.copyOfRange(sorted, from, to);
+            Arrays.sort(found, BY_SERIES);
+            final List<VEventWPeriod> eventList = new ArrayList<>(found.length);
+            int foundInSeries = 0;
+            for (int i = 0; i < found.length; i++) {
+                foundInSeries = i > 0 && found[i - 1].position == found[i].position ? foundInSeries + 1 : 1;
+                if (maximumPerSeries == 0 || foundInSeries <= maximumPerSeries) {
+                    eventList.add(found[i].period);
+                }
+            }
+            return eventList;
+        }
+
+        /**
+         * Binary search for the first occurrence whose key is after the instant.
+         *
+         * @param sorted The occurrences, sorted by the key.
+         * @param instant The instant to search for.
+         * @param key The key the occurrences are sorted by.
+         * @param inclusive Whether an occurrence whose key equals the instant counts as after.
+         * @return The position of the first such occurrence, or the length of the array if there is none.
+         */
+        private static int firstAfter(Occurrence[] sorted, Instant instant, Function<VEventWPeriod, Instant> key,
+                boolean inclusive) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                final int comparison = key.apply(sorted[middle].period).compareTo(instant);
+                if (comparison > 0 || (inclusive && comparison == 0)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+
     /**
      * A Class describing an event together with a start and end instant.
      *
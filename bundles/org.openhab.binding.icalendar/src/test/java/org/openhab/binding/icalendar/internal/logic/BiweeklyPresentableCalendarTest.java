@@ -16,9 +16,12 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -647,4 +650,48 @@ public class BiweeklyPresentableCalendarTest {
                 Instant.parse("2021-08-16T16:45:00.123456Z"), Instant.parse("2021-08-16T16:46:00.768643Z"), null, 3);
         assertEquals(0, realFilteredEvents9.size());
     }
+
+    /**
+     * Compares the results of the occurrence index with the ones of iterating the events, within the range of the
+     * index and beyond it.
+     */
+    @Test
+    public void testIndexedLookups() throws IOException, CalendarException {
+        assertIndexedLookupsEqual("src/test/resources/test.ics", Instant.parse("2019-09-10T00:00:00Z"));
+        assertIndexedLookupsEqual("src/test/resources/test2.ics", Instant.parse("2019-11-20T00:00:00Z"));
+        assertIndexedLookupsEqual("src/test/resources/test3.ics", Instant.parse("2020-01-28T00:00:00Z"));
+        assertIndexedLookupsEqual("src/test/resources/test-issue9647.ics", Instant.parse("2021-01-03T00:00:00Z"));
+        assertIndexedLookupsEqual("src/test/resources/test-issue10808.ics", Instant.parse("2021-06-05T00:00:00Z"));
+        assertIndexedLookupsEqual("src/test/resources/test-issue11084.ics", Instant.parse("2021-08-16T00:00:00Z"));
+    }
+
+    private void assertIndexedLookupsEqual(String file, Instant today) throws IOException, CalendarException {
+        final Clock clock = Clock.fixed(today, ZoneOffset.UTC);
+        final AbstractPresentableCalendar iterating = new BiweeklyPresentableCalendar(new FileInputStream(file));
+        final BiweeklyPresentableCalendar indexed = new BiweeklyPresentableCalendar(new FileInputStream(file),
+                Duration.ofDays(7), null, clock);
+        assertLookupsEqual(iterating, indexed, today.minus(Duration.ofDays(2)), today.plus(Duration.ofDays(10)));
+
+        // reusing the occurrences of the previous calendar
+        final BiweeklyPresentableCalendar reindexed = new BiweeklyPresentableCalendar(new FileInputStream(file),
+                Duration.ofDays(7), indexed, clock);
+        assertLookupsEqual(iterating, reindexed, today, today.plus(Duration.ofDays(2)));
+    }
+
+    private void assertLookupsEqual(AbstractPresentableCalendar expected, AbstractPresentableCalendar actual,
+            Instant begin, Instant end) {
+        for (Instant instant = begin; instant.isBefore(end); instant = instant.plus(Duration.ofMinutes(15))) {
+            final Instant frameEnd = instant.plus(Duration.ofMinutes(15));
+            assertEquals(expected.isEventPresent(instant), actual.isEventPresent(instant), instant.toString());
+            assertEquals(expected.getCurrentEvent(instant), actual.getCurrentEvent(instant), instant.toString());
+            assertEquals(expected.getNextEvent(instant), actual.getNextEvent(instant), instant.toString());
+            assertEquals(expected.getJustBegunEvents(instant, frameEnd), actual.getJustBegunEvents(instant, frameEnd),
+                    instant.toString());
+            assertEquals(expected.getJustEndedEvents(instant, frameEnd), actual.getJustEndedEvents(instant, frameEnd),
+                    instant.toString());
+            assertEquals(expected.getFilteredEventsBetween(instant, instant.plus(Duration.ofDays(1)), null, 3),
+                    actual.getFilteredEventsBetween(instant, instant.plus(Duration.ofDays(1)), null, 3),
+                    instant.toString());
+        }
+    }
 }
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ScaledSnapshotCache} creates downscaled copies of the current snapshot for clients that ask for a
+ * smaller width, so a dashboard tile does not have to download the full resolution JPEG. Each width is scaled once
+ * per snapshot and the variants are dropped as soon as a snapshot with a newer time comes in. When more widths are
+ * requested than variants are kept, the least recently used variant is dropped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScaledSnapshotCache {
+    // Requested widths are rounded up to this step so slightly different tile sizes share one variant.
+    private static final int WIDTH_STEP = 32;
+    private static final int MAX_VARIANTS = 8;
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    // Replaced as a whole when a newer snapshot comes in, guarded by this
+    private @Nullable Variants current;
+
+    /**
+     * The scaled variants of one snapshot. A request that still scales an older snapshot can only ever store its
+     * result in the holder of that snapshot, never in the one of a newer snapshot.
+     */
+    private static class Variants {
+        final Instant snapshotTime;
+        private final Map<Integer, byte[]> scaled = new LinkedHashMap<>(MAX_VARIANTS + 1, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+                return size() > MAX_VARIANTS;
+            }
+        };
+
+        Variants(Instant snapshotTime) {
+            this.snapshotTime = snapshotTime;
+        }
+
+        synchronized byte @Nullable [] get(int width) {
+            return scaled.get(width);
+        }
+
+        /**
+         * @return the variant that is cached for the width, which is the given one unless another thread was faster
+         */
+        synchronized byte[] putIfAbsent(int width, byte[] variant) {
+            byte[] existing = scaled.putIfAbsent(width, variant);
+            return existing != null ? existing : variant;
+        }
+    }
+
+    /**
+     * Returns the snapshot scaled down to the requested width, keeping the aspect ratio. The original snapshot is
+     * returned when it is already small enough or can not be decoded.
+     *
+     * @param snapshot the current snapshot as JPEG
+     * @param time the time the snapshot was received, used to detect a new snapshot
+     * @param width the requested width in pixels
+     * @return the JPEG to send to the client
+     */
+    public byte[] getScaled(byte[] snapshot, Instant time, int width) {
+        int roundedWidth = ((width + WIDTH_STEP - 1) / WIDTH_STEP) * WIDTH_STEP;
+        Variants variants = getVariants(time);
+        if (variants == null) {
+            // A newer snapshot is already cached, do not replace its variants with ones of an older snapshot
+            return scale(snapshot, roundedWidth);
+        }
+        byte[] scaled = variants.get(roundedWidth);
+        if (scaled != null) {
+            return scaled;
+        }
+        // Scaling takes a while, it is done outside of any lock
+        return variants.putIfAbsent(roundedWidth, scale(snapshot, roundedWidth));
+    }
+
+    private synchronized @Nullable Variants getVariants(Instant time) {
+        Variants variants = current;
+        if (variants != null && variants.snapshotTime.equals(time)) {
+            return variants;
+        }
+        if (variants != null && variants.snapshotTime.isAfter(time)) {
+            return null;
+        }
+        variants = new Variants(time);
+        current = variants;
+        return variants;
+    }
+
+    private byte[] scale(byte[] snapshot, int width) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(snapshot));
+            if (image == null || image.getWidth() <= width) {
+                return snapshot;
+            }
+            int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(image, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            return encodeJpeg(scaled, snapshot);
+        } catch (IOException e) {
+            logger.debug("Could not scale the snapshot to a width of {}:{}", width, e.getMessage());
+            return snapshot;
+        }
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, byte[] fallback) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            return fallback;
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    public synchronized void clear() {
+        current = null;
+    }
+}
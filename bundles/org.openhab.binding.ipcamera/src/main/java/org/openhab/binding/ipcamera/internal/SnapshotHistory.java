@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SnapshotHistory} keeps the most recent snapshots for GIF creation with pre-event frames. It is a ring
+ * that is bounded by both a number of snapshots and a total size in bytes, the oldest snapshots are dropped first.
+ * Not thread safe, callers have to synchronise access.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotHistory implements Iterable<byte[]> {
+    private final ArrayDeque<byte[]> snapshots = new ArrayDeque<>();
+    private final long maxBytes;
+    private long totalBytes;
+
+    public SnapshotHistory(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Adds a snapshot and drops the oldest ones until the history fits the limits again. The newest snapshot is
+     * always kept, even if it is larger than the byte budget on its own.
+     *
+     * @param snapshot the JPEG to add
+     * @param maxSnapshots the number of snapshots to keep
+     */
+    public void add(byte[] snapshot, int maxSnapshots) {
+        snapshots.addLast(snapshot);
+        totalBytes += snapshot.length;
+        while (snapshots.size() > 1 && (snapshots.size() > maxSnapshots || totalBytes > maxBytes)) {
+            totalBytes -= snapshots.removeFirst().length;
+        }
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public void clear() {
+        snapshots.clear();
+        totalBytes = 0;
+    }
+
+    @Override
+    public Iterator<byte[]> iterator() {
+        return snapshots.iterator();
+    }
+}
@@ -28,7 +28,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -59,6 +58,8 @@ import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegForm
 import org.openhab.binding.ipcamera.internal.IpCameraDynamicStateDescriptionProvider;
 import org.openhab.binding.ipcamera.internal.MyNettyAuthHandler;
 import org.openhab.binding.ipcamera.internal.ReolinkHandler;
+import org.openhab.binding.ipcamera.internal.ScaledSnapshotCache;
+import org.openhab.binding.ipcamera.internal.SnapshotHistory;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
 import org.openhab.binding.ipcamera.internal.servlet.CameraServlet;
 import org.openhab.core.OpenHAB;
@@ -85,6 +86,8 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
@@ -96,7 +99,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.base64.Base64;
@@ -126,6 +128,10 @@ import io.netty.util.concurrent.GlobalEventExecutor;
 
 @NonNullByDefault
 public class IpCameraHandler extends BaseThingHandler {
+    // Enough for a multi megabyte JPEG in 8k chunks without the composite buffer consolidating.
+    private static final int MAX_SNAPSHOT_COMPONENTS = 1024;
+    // Upper limit for the pre-event snapshots held in RAM, high resolution cameras can send multi megabyte JPEGs.
+    private static final long SNAPSHOT_HISTORY_MAX_BYTES = 64L * 1024 * 1024;
     public final Logger logger = LoggerFactory.getLogger(getClass());
     public final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
     private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(2);
@@ -152,7 +158,10 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable ScheduledFuture<?> snapshotJob = null;
     private @Nullable ScheduledFuture<?> authenticationJob = null;
     private @Nullable Bootstrap mainBootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup(1);
+    private final EventLoopGroup mainEventLoopGroup;
+    // Tasks scheduled on the shared event loop group, cancelled on dispose as the group outlives this handler.
+    private final Set<Future<?>> eventLoopTasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean disposed = false;
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "");
     private FullHttpRequest postRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "");
     private String gifFilename = "ipcamera";
@@ -163,7 +172,9 @@ public class IpCameraHandler extends BaseThingHandler {
     private String mp4Filename = "ipcamera";
     private int mp4RecordTime;
     private int gifRecordTime = 5;
-    private LinkedList<byte[]> fifoSnapshotBuffer = new LinkedList<byte[]>();
+    // Snapshots kept for GIFs with pre-event frames, guarded by lockCurrentSnapshot.
+    private final SnapshotHistory snapshotHistory = new SnapshotHistory(SNAPSHOT_HISTORY_MAX_BYTES);
+    private final ScaledSnapshotCache scaledSnapshots = new ScaledSnapshotCache();
     private int snapCount;
     private boolean updateImageChannel = false;
     private byte lowPriorityCounter = 0;
@@ -200,7 +211,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private class CommonCameraHandler extends ChannelDuplexHandler {
         private int bytesToRecieve = 0;
         private int bytesAlreadyRecieved = 0;
-        private byte[] incomingJpeg = new byte[0];
+        private @Nullable CompositeByteBuf incomingJpeg;
         private String incomingMessage = "";
         private String contentType = "empty";
         private String boundary = "";
@@ -251,11 +262,9 @@ public class IpCameraHandler extends BaseThingHandler {
                                     }
                                 }
                             } else if (contentType.contains("image/jp")) {
-                                if (bytesToRecieve == 0) {
-                                    bytesToRecieve = 768000; // 0.768 Mbyte when no Content-Length is sent
-                                    logger.debug("Camera has no Content-Length header, we have to guess how much RAM.");
-                                }
-                                incomingJpeg = new byte[bytesToRecieve];
+                                // The pooled chunks from the decoder are kept and only copied once the JPEG is done.
+                                releaseIncomingJpeg();
+                                incomingJpeg = ctx.alloc().compositeBuffer(MAX_SNAPSHOT_COMPONENTS);
                             }
                         }
                     } else {
@@ -266,20 +275,20 @@ public class IpCameraHandler extends BaseThingHandler {
                 if (msg instanceof HttpContent content) {
                     if (mjpegUri.equals(requestUrl) && !(content instanceof LastHttpContent)) {
                         // multiple MJPEG stream packets come back as this.
-                        byte[] chunkedFrame = new byte[content.content().readableBytes()];
-                        content.content().getBytes(content.content().readerIndex(), chunkedFrame);
                         CameraServlet localServlet = servlet;
                         if (localServlet != null) {
-                            localServlet.openStreams.queueFrame(chunkedFrame);
+                            // Each stream retains its own view of the pooled buffer, msg is released below.
+                            localServlet.openStreams.queueFrame(content.content());
                         }
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
-                        if (contentType.contains("image/jp")) {
-                            for (int i = 0; i < content.content().capacity(); i++) {
-                                incomingJpeg[bytesAlreadyRecieved++] = content.content().getByte(i);
-                            }
+                        CompositeByteBuf localJpeg = incomingJpeg;
+                        if (contentType.contains("image/jp") && localJpeg != null) {
+                            bytesAlreadyRecieved += content.content().readableBytes();
+                            localJpeg.addComponent(true, content.content().retain());
                             if (content instanceof LastHttpContent) {
-                                processSnapshot(incomingJpeg);
+                                processSnapshot(ByteBufUtil.getBytes(localJpeg));
+                                releaseIncomingJpeg();
                                 ctx.close();
                             }
                         } else { // incomingMessage that is not an IMAGE
@@ -346,6 +355,21 @@ public class IpCameraHandler extends BaseThingHandler {
             }
         }
 
+        private void releaseIncomingJpeg() {
+            CompositeByteBuf localJpeg = incomingJpeg;
+            if (localJpeg != null) {
+                incomingJpeg = null;
+                localJpeg.release();
+            }
+        }
+
+        @Override
+        public void channelInactive(@Nullable ChannelHandlerContext ctx) throws Exception {
+            // A camera that drops the connection part way through a snapshot must not leak the pooled chunks.
+            releaseIncomingJpeg();
+            super.channelInactive(ctx);
+        }
+
         @Override
         public void exceptionCaught(@Nullable ChannelHandlerContext ctx, @Nullable Throwable cause) {
             if (cause == null || ctx == null) {
@@ -392,8 +416,10 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public IpCameraHandler(Thing thing, @Nullable String ipAddress, GroupTracker groupTracker,
-            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, HttpService httpService) {
+            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, HttpService httpService,
+            EventLoopGroup eventLoopGroup) {
         super(thing);
+        this.mainEventLoopGroup = eventLoopGroup;
         this.stateDescriptionProvider = stateDescriptionProvider;
         if (ipAddress != null) {
             hostIp = ipAddress;
@@ -408,6 +434,25 @@ public class IpCameraHandler extends BaseThingHandler {
         return this;
     }
 
+    /**
+     * @return the binding wide {@link EventLoopGroup} that all camera connections share.
+     */
+    public EventLoopGroup getEventLoopGroup() {
+        return mainEventLoopGroup;
+    }
+
+    private void scheduleOnEventLoop(Runnable task, long delayInMS) {
+        if (disposed) {
+            return;
+        }
+        eventLoopTasks.removeIf(Future::isDone);
+        eventLoopTasks.add(mainEventLoopGroup.schedule(() -> {
+            if (!disposed) {
+                task.run();
+            }
+        }, delayInMS, TimeUnit.MILLISECONDS));
+    }
+
     // false clears the stored user/pass hash, true creates the hash
     public boolean setBasicAuth(boolean useBasic) {
         if (!useBasic) {
@@ -545,6 +590,10 @@ public class IpCameraHandler extends BaseThingHandler {
     // The authHandler will generate a digest string and re-send using this same function when needed.
     @SuppressWarnings("null")
     public void sendHttpRequest(String httpMethod, String httpRequestURLFull, @Nullable String digestString) {
+        if (disposed) {
+            // The shared event loop group is still running, so a late reply must not reconnect this camera.
+            return;
+        }
         int port = getPortFromShortenedUrl(httpRequestURLFull);
         String httpRequestURL = getTinyUrl(httpRequestURLFull);
 
@@ -677,15 +726,12 @@ public class IpCameraHandler extends BaseThingHandler {
         lockCurrentSnapshot.lock();
         try {
             currentSnapshot = incommingSnapshot;
+            currentSnapshotTime = Instant.now();
             if (cameraConfig.getGifPreroll() > 0) {
-                fifoSnapshotBuffer.add(incommingSnapshot);
-                if (fifoSnapshotBuffer.size() > (cameraConfig.getGifPreroll() + gifRecordTime)) {
-                    fifoSnapshotBuffer.removeFirst();
-                }
+                snapshotHistory.add(incommingSnapshot, cameraConfig.getGifPreroll() + gifRecordTime);
             }
         } finally {
             lockCurrentSnapshot.unlock();
-            currentSnapshotTime = Instant.now();
         }
 
         if (updateImageChannel) {
@@ -716,7 +762,7 @@ public class IpCameraHandler extends BaseThingHandler {
         }
         closeChannel(getTinyUrl(mjpegUri));
         // Dahua cameras crash if you refresh (close and open) the stream without this delay.
-        mainEventLoopGroup.schedule(this::openMjpegStream, 300, TimeUnit.MILLISECONDS);
+        scheduleOnEventLoop(this::openMjpegStream, 300);
     }
 
     private void openMjpegStream() {
@@ -774,10 +820,10 @@ public class IpCameraHandler extends BaseThingHandler {
 
     private void storeSnapshots() {
         int count = 0;
-        // Need to lock as fifoSnapshotBuffer is not thread safe and new snapshots can be incoming.
+        // Need to lock as snapshotHistory is not thread safe and new snapshots can be incoming.
         lockCurrentSnapshot.lock();
         try {
-            for (byte[] foo : fifoSnapshotBuffer) {
+            for (byte[] foo : snapshotHistory) {
                 File file = new File(cameraConfig.getFfmpegOutput() + "snapshot" + count + ".jpg");
                 count++;
                 try {
@@ -1236,7 +1282,7 @@ public class IpCameraHandler extends BaseThingHandler {
                             return;
                         }
                         onvifCamera.setAbsolutePan(Float.valueOf(command.toString()));
-                        mainEventLoopGroup.schedule(this::sendPTZRequest, 500, TimeUnit.MILLISECONDS);
+                        scheduleOnEventLoop(this::sendPTZRequest, 500);
                     }
                     return;
                 case CHANNEL_TILT:
@@ -1261,7 +1307,7 @@ public class IpCameraHandler extends BaseThingHandler {
                             return;
                         }
                         onvifCamera.setAbsoluteTilt(Float.valueOf(command.toString()));
-                        mainEventLoopGroup.schedule(this::sendPTZRequest, 500, TimeUnit.MILLISECONDS);
+                        scheduleOnEventLoop(this::sendPTZRequest, 500);
                     }
                     return;
                 case CHANNEL_ZOOM:
@@ -1286,7 +1332,7 @@ public class IpCameraHandler extends BaseThingHandler {
                             return;
                         }
                         onvifCamera.setAbsoluteZoom(Float.valueOf(command.toString()));
-                        mainEventLoopGroup.schedule(this::sendPTZRequest, 500, TimeUnit.MILLISECONDS);
+                        scheduleOnEventLoop(this::sendPTZRequest, 500);
                     }
                     return;
             }
@@ -1487,7 +1533,7 @@ public class IpCameraHandler extends BaseThingHandler {
 
     private void updateSnapshot() {
         lastSnapshotRequest = Instant.now();
-        mainEventLoopGroup.schedule(this::takeSnapshot, 0, TimeUnit.MILLISECONDS);
+        scheduleOnEventLoop(this::takeSnapshot, 0);
     }
 
     public byte[] getSnapshot() {
@@ -1516,6 +1562,32 @@ public class IpCameraHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Returns the current snapshot scaled down to the requested width. Each width is only scaled once per snapshot, so
+     * many small tiles showing the same camera do not each cost a full resolution download.
+     *
+     * @param width the width in pixels the client wants, 0 or less returns the full resolution snapshot
+     * @return the JPEG to send to the client
+     */
+    public byte[] getSnapshot(int width) {
+        byte[] snapshot = getSnapshot();
+        if (width <= 0 || !isOnline) {
+            return snapshot;
+        }
+        Instant snapshotTime;
+        lockCurrentSnapshot.lock();
+        try {
+            snapshot = currentSnapshot;
+            snapshotTime = currentSnapshotTime;
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
+        if (snapshot.length == 1) {
+            return snapshot;
+        }
+        return scaledSnapshots.getScaled(snapshot, snapshotTime, width);
+    }
+
     public void stopSnapshotPolling() {
         Future<?> localFuture;
         if (!streamingSnapshotMjpeg && cameraConfig.getGifPreroll() == 0
@@ -1660,7 +1732,7 @@ public class IpCameraHandler extends BaseThingHandler {
     public void initialize() {
         cameraConfig = getConfigAs(CameraConfig.class);
         threadPool = Executors.newScheduledThreadPool(2);
-        mainEventLoopGroup = new NioEventLoopGroup(3);
+        disposed = false;
         snapshotUri = getCorrectUrlFormat(cameraConfig.getSnapshotUrl());
         mjpegUri = getCorrectUrlFormat(cameraConfig.getMjpegUrl());
         rtspUri = cameraConfig.getFfmpegInput();
@@ -1879,6 +1951,9 @@ public class IpCameraHandler extends BaseThingHandler {
 
     @Override
     public void dispose() {
+        disposed = true;
+        eventLoopTasks.forEach(task -> task.cancel(false));
+        eventLoopTasks.clear();
         offline();
         CameraServlet localServlet = servlet;
         if (localServlet != null) {
@@ -1894,9 +1969,15 @@ public class IpCameraHandler extends BaseThingHandler {
         }
         basicAuth = ""; // clear out stored Password hash
         useDigestAuth = false;
-        mainEventLoopGroup.shutdownGracefully();
         mainBootstrap = null;
         channelTrackingMap.clear();
+        scaledSnapshots.clear();
+        lockCurrentSnapshot.lock();
+        try {
+            snapshotHistory.clear();
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
     }
 
     public String getWhiteList() {
@@ -52,8 +52,8 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ConnectTimeoutException;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -63,6 +63,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.concurrent.GlobalEventExecutor;
 
 /**
  * The {@link OnvifConnection} This is a basic Netty implementation for connecting and communicating to ONVIF cameras.
@@ -116,7 +117,9 @@ public class OnvifConnection {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(2);
     private @Nullable Bootstrap bootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup(2);
+    // The event loop group is shared by the whole binding, so the channels are tracked and closed by this connection.
+    private final ChannelGroup openChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private volatile boolean shuttingDown = false;
     private ReentrantLock connecting = new ReentrantLock();
     private String ipAddress = "";
     private String user = "";
@@ -544,9 +547,9 @@ public class OnvifConnection {
 
         Bootstrap localBootstap = bootstrap;
         if (localBootstap == null) {
-            mainEventLoopGroup = new NioEventLoopGroup(2);
+            shuttingDown = false;
             localBootstap = new Bootstrap();
-            localBootstap.group(mainEventLoopGroup);
+            localBootstap.group(ipCameraHandler.getEventLoopGroup());
             localBootstap.channel(NioSocketChannel.class);
             localBootstap.option(ChannelOption.SO_KEEPALIVE, true);
             localBootstap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000);
@@ -564,8 +567,8 @@ public class OnvifConnection {
             });
             bootstrap = localBootstap;
         }
-        if (!mainEventLoopGroup.isShuttingDown()) {
-            bootstrap.connect(new InetSocketAddress(ipAddress, onvifPort)).addListener(new ChannelFutureListener() {
+        if (!shuttingDown) {
+            localBootstap.connect(new InetSocketAddress(ipAddress, onvifPort)).addListener(new ChannelFutureListener() {
 
                 @Override
                 public void operationComplete(@Nullable ChannelFuture future) {
@@ -575,6 +578,7 @@ public class OnvifConnection {
                     if (future.isSuccess()) {
                         connectError = false;
                         Channel ch = future.channel();
+                        openChannels.add(ch);
                         ch.writeAndFlush(request);
                     } else { // an error occured
                         if (future.isDone() && !future.isCancelled()) {
@@ -967,17 +971,12 @@ public class OnvifConnection {
     }
 
     private void cleanup() {
-        if (!isConnected && !mainEventLoopGroup.isShuttingDown()) {
-            try {
-                mainEventLoopGroup.shutdownGracefully();
-                mainEventLoopGroup.awaitTermination(3, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                logger.warn("ONVIF was not cleanly shutdown, due to being interrupted");
-            } finally {
-                logger.debug("Eventloop is shutdown:{}", mainEventLoopGroup.isShutdown());
-                bootstrap = null;
-                threadPool.shutdown();
-            }
+        if (!isConnected && !shuttingDown) {
+            shuttingDown = true;
+            openChannels.close();
+            logger.debug("ONVIF connection to {} is shutdown", ipAddress);
+            bootstrap = null;
+            threadPool.shutdown();
         }
     }
 
@@ -985,12 +984,12 @@ public class OnvifConnection {
         connecting.lock();// Lock out multiple disconnect()/connect() attempts as we try to send Unsubscribe.
         try {
             if (bootstrap != null) {
-                if (isConnected && usingEvents && !mainEventLoopGroup.isShuttingDown()) {
+                if (isConnected && usingEvents && !shuttingDown) {
                     // Only makes sense to send if connected
                     // Some cameras may continue to send events even when they can't reach a server.
                     sendOnvifRequest(RequestType.Unsubscribe, subscriptionXAddr);
                 }
-                // give time for the Unsubscribe request to be sent, shutdownGracefully will try to send it first.
+                // give time for the Unsubscribe request to be sent before the channels are closed.
                 threadPool.schedule(this::cleanup, 50, TimeUnit.MILLISECONDS);
             } else {
                 cleanup();
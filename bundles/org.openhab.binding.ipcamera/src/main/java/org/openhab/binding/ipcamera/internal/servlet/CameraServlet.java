@@ -133,9 +133,10 @@ public class CameraServlet extends IpCameraServlet {
             case "/ipcamera.jpg":
                 // Use cached image if recent. Cameras can take > 1sec to send back a reply.
                 // Example an Image item/widget may have a 1 second refresh.
+                final int width = getRequestedWidth(req);
                 if (handler.ffmpegSnapshotGeneration
                         || Duration.between(handler.currentSnapshotTime, Instant.now()).toMillis() < 1200) {
-                    sendSnapshotImage(resp, "image/jpg", handler.getSnapshot());
+                    sendSnapshotImage(resp, "image/jpg", handler.getSnapshot(width));
                 } else {
                     handler.getSnapshot();
                     final AsyncContext acontext = req.startAsync(req, resp);
@@ -152,7 +153,7 @@ public class CameraServlet extends IpCameraServlet {
                             } // 5 sec timeout OR a new snapshot comes back from camera
                             while (Duration.between(startTime, Instant.now()).toMillis() < 5000
                                     && Duration.between(handler.currentSnapshotTime, Instant.now()).toMillis() > 1200);
-                            sendSnapshotImage(resp, "image/jpg", handler.getSnapshot());
+                            sendSnapshotImage(resp, "image/jpg", handler.getSnapshot(width));
                             acontext.complete();
                         }
                     });
@@ -199,31 +200,14 @@ public class CameraServlet extends IpCameraServlet {
                     }
                     output = new StreamOutput(resp, handler.mjpegContentType);
                 }
-                openStreams.addStream(output);
-                do {
-                    try {
-                        output.sendFrame();
-                    } catch (InterruptedException | IOException e) {
-                        // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        openStreams.removeStream(output);
-                        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
-                        if (openStreams.isEmpty()) {
-                            if (output.isSnapshotBased) {
-                                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
-                                if (localMjpeg != null) {
-                                    localMjpeg.stopConverting();
-                                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
-                                    // in handler's pollCameraRunnable() check for frozen camera
-                                    handler.ffmpegMjpeg = null;
-                                }
-                            } else {
-                                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
-                            }
-                            logger.debug("All ipcamera.mjpeg streams have stopped.");
-                        }
-                        return;
-                    }
-                } while (!openStreams.isEmpty());
+                // Frames are written without blocking a thread per client, the stream closes itself when the client
+                // goes away.
+                final AsyncContext streamContext = req.startAsync(req, resp);
+                streamContext.setTimeout(0);
+                final StreamOutput mjpegOutput = output;
+                openStreams.addStream(mjpegOutput);
+                mjpegOutput.startAsync(streamContext, () -> mjpegStreamClosed(mjpegOutput));
+                return;
             case "/autofps.mjpeg":
                 handler.streamingAutoFps = true;
                 output = new StreamOutput(resp);
@@ -270,6 +254,42 @@ public class CameraServlet extends IpCameraServlet {
         }
     }
 
+    /**
+     * @return the width given with the optional width parameter, for example ipcamera.jpg?width=320, or 0 for the full
+     *         resolution
+     */
+    private int getRequestedWidth(HttpServletRequest req) {
+        String width = req.getParameter("width");
+        if (width == null || width.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(width.strip()));
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring invalid width parameter:{}", width);
+            return 0;
+        }
+    }
+
+    private void mjpegStreamClosed(StreamOutput output) {
+        openStreams.removeStream(output);
+        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
+        if (openStreams.isEmpty()) {
+            if (output.isSnapshotBased) {
+                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
+                if (localMjpeg != null) {
+                    localMjpeg.stopConverting();
+                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
+                    // in handler's pollCameraRunnable() check for frozen camera
+                    handler.ffmpegMjpeg = null;
+                }
+            } else {
+                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
+            }
+            logger.debug("All ipcamera.mjpeg streams have stopped.");
+        }
+    }
+
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
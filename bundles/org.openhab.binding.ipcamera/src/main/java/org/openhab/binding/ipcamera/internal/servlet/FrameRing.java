@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link FrameRing} is a broadcast ring buffer of immutable MJPEG frames that is shared by all viewers of a
+ * stream. Each viewer keeps its own cursor into the ring, a viewer that falls more than the capacity behind skips
+ * ahead to the oldest frame still held instead of slowing down the camera or the other viewers.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class FrameRing {
+    private final @Nullable Frame[] frames;
+    // sequence number the next published frame will get, guarded by this
+    private long nextSequence = 0;
+
+    /**
+     * A frame that was published to the ring. The content must never be modified once published.
+     */
+    static class Frame {
+        final long sequence;
+        final byte[] data;
+        private byte @Nullable [] partHeader;
+
+        private Frame(long sequence, byte[] data) {
+            this.sequence = sequence;
+            this.data = data;
+        }
+
+        /**
+         * @return the multipart header used when the frame is a full JPEG, encoded once for all viewers.
+         */
+        synchronized byte[] getPartHeader() {
+            byte[] header = partHeader;
+            if (header == null) {
+                header = StreamOutput.encodePartHeader(data.length);
+                partHeader = header;
+            }
+            return header;
+        }
+    }
+
+    FrameRing(int capacity) {
+        frames = new Frame[capacity];
+    }
+
+    synchronized void publish(byte[] data) {
+        frames[(int) (nextSequence % frames.length)] = new Frame(nextSequence, data);
+        nextSequence++;
+    }
+
+    /**
+     * @return the sequence number the next published frame will get, used as the start cursor of a new viewer.
+     */
+    synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Returns the first frame at or after the cursor without blocking. If the cursor points to a frame that has
+     * already been overwritten the oldest frame still held is returned, so {@link Frame#sequence} can be larger than
+     * the cursor.
+     *
+     * @param cursor sequence number of the next frame the viewer wants
+     * @return the frame, or null when no newer frame has been published yet
+     */
+    synchronized @Nullable Frame next(long cursor) {
+        if (cursor >= nextSequence) {
+            return null;
+        }
+        long sequence = Math.max(cursor, nextSequence - frames.length);
+        return frames[(int) (sequence % frames.length)];
+    }
+
+    synchronized void clear() {
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = null;
+        }
+    }
+}
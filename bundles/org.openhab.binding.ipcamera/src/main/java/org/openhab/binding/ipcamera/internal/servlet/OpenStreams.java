@@ -18,9 +18,13 @@ import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the frames can be shared by all streams to allow
+ * 1 to many streams without needing to open more than 1 source stream. Frames are published once to a
+ * {@link FrameRing} that every stream reads from with its own cursor.
  *
  *
  * @author Matthew Skinner - Initial contribution
@@ -28,42 +32,74 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 
 @NonNullByDefault
 public class OpenStreams {
+    // Same number of frames that each stream used to buffer on its own.
+    private static final int FRAME_RING_SIZE = 50;
     private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<StreamOutput>());
+    final FrameRing frameRing = new FrameRing(FRAME_RING_SIZE);
     public String boundary = "thisMjpegStream";
 
-    public synchronized void addStream(StreamOutput stream) {
+    public void addStream(StreamOutput stream) {
+        stream.attach(frameRing);
         openStreams.add(stream);
     }
 
-    public synchronized void removeStream(StreamOutput stream) {
+    public void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        if (openStreams.isEmpty()) {
+            // Do not hold on to the last frames while nobody is watching
+            frameRing.clear();
+        }
     }
 
-    public synchronized int getNumberOfStreams() {
+    public int getNumberOfStreams() {
         return openStreams.size();
     }
 
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         return openStreams.isEmpty();
     }
 
-    public synchronized void updateContentType(String contentType, String boundary) {
+    // The streams are called outside of any lock on this list, as a stream that fails removes itself from it.
+    public void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
-        for (StreamOutput stream : openStreams) {
+        for (StreamOutput stream : List.copyOf(openStreams)) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
-        for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+    /**
+     * Publishes a frame to all open streams. The array must not be modified afterwards.
+     */
+    public void queueFrame(byte[] frame) {
+        if (openStreams.isEmpty()) {
+            return;
+        }
+        frameRing.publish(frame);
+        for (StreamOutput stream : List.copyOf(openStreams)) {
+            stream.writeFrames();
         }
     }
 
-    public synchronized void closeAllStreams() {
-        for (StreamOutput stream : openStreams) {
-            stream.close();
+    /**
+     * Publishes the readable bytes of a frame to all open streams. The content is copied once into the shared ring so
+     * the pooled buffer can be returned straight away, no matter how slow the clients are. Keeping a retained
+     * duplicate in the ring instead would pin up to {@value #FRAME_RING_SIZE} pooled buffers, and every stream would
+     * still have to copy it, because the servlet output only writes byte arrays. The reference held by the caller is
+     * not consumed.
+     */
+    public void queueFrame(ByteBuf frame) {
+        if (openStreams.isEmpty()) {
+            return;
         }
+        queueFrame(ByteBufUtil.getBytes(frame));
+    }
+
+    public void closeAllStreams() {
+        List<StreamOutput> streams = List.copyOf(openStreams);
         openStreams.clear();
+        for (StreamOutput stream : streams) {
+            stream.close();
+        }
+        frameRing.clear();
     }
 }
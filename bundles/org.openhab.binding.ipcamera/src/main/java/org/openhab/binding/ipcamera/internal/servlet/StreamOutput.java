@@ -13,13 +13,19 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,25 +37,34 @@ import org.slf4j.LoggerFactory;
 
 @NonNullByDefault
 public class StreamOutput {
+    private static final String SNAPSHOT_BOUNDARY = "thisMjpegStream";
+    private static final byte[] PART_HEADER_START = ("--" + SNAPSHOT_BOUNDARY + "\r\n" + "Content-Type: image/jpeg"
+            + "\r\n" + "Content-Length: ").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEADER_END = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
-    private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<byte[]>(50);
     private boolean connected = false;
     public boolean isSnapshotBased = false;
+    // Only used once the stream is attached to a FrameRing and written asynchronously, guarded by this
+    private @Nullable FrameRing ring;
+    private long cursor;
+    private final Deque<byte[]> pendingWrites = new ArrayDeque<>();
+    private @Nullable AsyncContext asyncContext;
+    private @Nullable Runnable onClose;
+    private boolean closed = false;
 
     public StreamOutput(HttpServletResponse response) throws IOException {
-        boundary = "thisMjpegStream";
-        contentType = "multipart/x-mixed-replace; boundary=" + boundary;
+        contentType = "multipart/x-mixed-replace; boundary=" + SNAPSHOT_BOUNDARY;
         this.response = response;
         output = response.getOutputStream();
         isSnapshotBased = true;
     }
 
     public StreamOutput(HttpServletResponse response, String contentType) throws IOException {
-        boundary = "";
         this.contentType = contentType;
         this.response = response;
         output = response.getOutputStream();
@@ -59,45 +74,117 @@ public class StreamOutput {
         }
     }
 
+    /**
+     * Encodes the multipart header that is sent in front of a JPEG of the given length.
+     */
+    static byte[] encodePartHeader(int contentLength) {
+        byte[] length = Integer.toString(contentLength).getBytes(StandardCharsets.US_ASCII);
+        byte[] header = new byte[PART_HEADER_START.length + length.length + HEADER_END.length];
+        System.arraycopy(PART_HEADER_START, 0, header, 0, PART_HEADER_START.length);
+        System.arraycopy(length, 0, header, PART_HEADER_START.length, length.length);
+        System.arraycopy(HEADER_END, 0, header, PART_HEADER_START.length + length.length, HEADER_END.length);
+        return header;
+    }
+
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+        byte[] header = encodePartHeader(currentSnapshot.length);
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
+            output.write(header);
             output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            output.write(CRLF);
             connected = true;
         }
-        output.write(header.getBytes());
+        output.write(header);
         output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
+        output.write(CRLF);
+    }
+
+    /**
+     * Starts reading from the ring with the next frame that gets published.
+     */
+    synchronized void attach(FrameRing ring) {
+        this.ring = ring;
+        cursor = ring.getNextSequence();
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space:{}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+    /**
+     * Switches the stream to non-blocking writes, frames are then sent from {@link #writeFrames()} whenever the
+     * client can take more data.
+     *
+     * @param asyncContext the context the request was put in async mode with
+     * @param onClose called once when the client went away or the stream was closed
+     */
+    public void startAsync(AsyncContext asyncContext, Runnable onClose) {
+        synchronized (this) {
+            this.asyncContext = asyncContext;
+            this.onClose = onClose;
         }
+        StreamListener listener = new StreamListener();
+        asyncContext.addListener(listener);
+        output.setWriteListener(listener);
     }
 
-    public void updateContentType(String contentType) {
-        this.contentType = contentType;
-        if (!connected) {
-            sendInitialHeaders();
-            connected = true;
+    /**
+     * Writes as many frames from the ring as the client takes without blocking. Called by the container when the
+     * output became writable again and by {@link OpenStreams} when a new frame was published.
+     */
+    void writeFrames() {
+        synchronized (this) {
+            FrameRing localRing = ring;
+            if (closed || asyncContext == null || localRing == null) {
+                return;
+            }
+            try {
+                while (output.isReady()) {
+                    byte[] pending = pendingWrites.poll();
+                    if (pending != null) {
+                        output.write(pending);
+                        continue;
+                    }
+                    FrameRing.Frame frame = localRing.next(cursor);
+                    if (frame == null) {
+                        return;
+                    }
+                    if (frame.sequence > cursor) {
+                        logger.trace("Client is too slow, skipped {} frames", frame.sequence - cursor);
+                    }
+                    cursor = frame.sequence + 1;
+                    queueWrites(frame);
+                }
+                return;
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("MJPEG stream to client has stopped:{}", e.getMessage());
+            }
         }
+        close();
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
+    private void queueWrites(FrameRing.Frame frame) {
         if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
+            byte[] header = frame.getPartHeader();
+            if (!connected) {
+                sendInitialHeaders();
+                // iOS needs to have two jpgs sent for the picture to appear instantly.
+                pendingWrites.add(header);
+                pendingWrites.add(frame.data);
+                pendingWrites.add(CRLF);
+                connected = true;
+            }
+            pendingWrites.add(header);
+            pendingWrites.add(frame.data);
+            pendingWrites.add(CRLF);
         } else if (connected) {
-            output.write(fifo.take());
+            pendingWrites.add(frame.data);
+        }
+    }
+
+    public synchronized void updateContentType(String contentType) {
+        this.contentType = contentType;
+        if (!connected) {
+            sendInitialHeaders();
+            connected = true;
         }
     }
 
@@ -108,9 +195,62 @@ public class StreamOutput {
     }
 
     public void close() {
-        try {
-            output.close();
-        } catch (IOException e) {
+        AsyncContext localContext;
+        Runnable localOnClose;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pendingWrites.clear();
+            localContext = asyncContext;
+            localOnClose = onClose;
+        }
+        if (localContext != null) {
+            try {
+                localContext.complete();
+            } catch (IllegalStateException e) {
+                // the container has already completed the request
+            }
+        } else {
+            try {
+                output.close();
+            } catch (IOException e) {
+            }
+        }
+        if (localOnClose != null) {
+            localOnClose.run();
+        }
+    }
+
+    private class StreamListener implements WriteListener, AsyncListener {
+        @Override
+        public void onWritePossible() throws IOException {
+            writeFrames();
+        }
+
+        @Override
+        public void onError(@Nullable Throwable t) {
+            close();
+        }
+
+        @Override
+        public void onComplete(@Nullable AsyncEvent event) throws IOException {
+            close();
+        }
+
+        @Override
+        public void onTimeout(@Nullable AsyncEvent event) throws IOException {
+            close();
+        }
+
+        @Override
+        public void onError(@Nullable AsyncEvent event) throws IOException {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(@Nullable AsyncEvent event) throws IOException {
         }
     }
 }
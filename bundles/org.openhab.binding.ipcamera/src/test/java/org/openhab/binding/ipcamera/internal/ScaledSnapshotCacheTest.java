@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+
+import javax.imageio.ImageIO;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link ScaledSnapshotCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScaledSnapshotCacheTest {
+    private static byte[] snapshot = new byte[0];
+    private static final Instant TIME = Instant.ofEpochSecond(1000);
+
+    @BeforeAll
+    public static void createSnapshot() throws IOException {
+        snapshot = createJpeg(1280, 720);
+    }
+
+    private static byte[] createJpeg(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", output);
+        return output.toByteArray();
+    }
+
+    private static int widthOf(byte[] jpeg) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertNotNull(image);
+        return image.getWidth();
+    }
+
+    @Test
+    public void scalesToTheRoundedWidthAndKeepsTheAspectRatio() throws IOException {
+        ScaledSnapshotCache cache = new ScaledSnapshotCache();
+
+        byte[] scaled = cache.getScaled(snapshot, TIME, 300);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(scaled));
+        assertNotNull(image);
+        assertEquals(320, image.getWidth());
+        assertEquals(180, image.getHeight());
+    }
+
+    @Test
+    public void widthsInTheSameStepShareOneVariant() {
+        ScaledSnapshotCache cache = new ScaledSnapshotCache();
+
+        byte[] scaled = cache.getScaled(snapshot, TIME, 300);
+
+        assertSame(scaled, cache.getScaled(snapshot, TIME, 310));
+        assertSame(scaled, cache.getScaled(snapshot, TIME, 320));
+        assertNotSame(scaled, cache.getScaled(snapshot, TIME, 321));
+    }
+
+    @Test
+    public void originalIsReturnedWhenItIsSmallEnough() {
+        ScaledSnapshotCache cache = new ScaledSnapshotCache();
+
+        assertSame(snapshot, cache.getScaled(snapshot, TIME, 4000));
+    }
+
+    @Test
+    public void newerSnapshotDropsTheVariants() throws IOException {
+        ScaledSnapshotCache cache = new ScaledSnapshotCache();
+        byte[] scaled = cache.getScaled(snapshot, TIME, 320);
+
+        byte[] newer = createJpeg(640, 480);
+        byte[] newerScaled = cache.getScaled(newer, TIME.plusSeconds(1), 320);
+
+        assertNotSame(scaled, newerScaled);
+        assertEquals(320, widthOf(newerScaled));
+        assertSame(newerScaled, cache.getScaled(newer, TIME.plusSeconds(1), 320));
+    }
+
+    @Test
+    public void olderSnapshotDoesNotReplaceTheVariantsOfANewerOne() throws IOException {
+        ScaledSnapshotCache cache = new ScaledSnapshotCache();
+        byte[] newer = createJpeg(640, 480);
+        byte[] newerScaled = cache.getScaled(newer, TIME.plusSeconds(1), 320);
+
+        byte[] olderScaled = cache.getScaled(snapshot, TIME, 320);
+
+        assertNotSame(newerScaled, olderScaled);
+        assertSame(newerScaled, cache.getScaled(newer, TIME.plusSeconds(1), 320));
+        assertNotSame(olderScaled, cache.getScaled(snapshot, TIME, 320));
+    }
+
+    @Test
+    public void leastRecentlyUsedVariantIsDropped() {
+        ScaledSnapshotCache cache = new ScaledSnapshotCache();
+        byte[][] variants = new byte[8][];
+        for (int i = 0; i < variants.length; i++) {
+            variants[i] = cache.getScaled(snapshot, TIME, 64 + i * 32);
+        }
+        // Use the first width again, so the second one is the least recently used
+        assertSame(variants[0], cache.getScaled(snapshot, TIME, 64));
+
+        byte[] ninth = cache.getScaled(snapshot, TIME, 64 + 8 * 32);
+
+        assertSame(ninth, cache.getScaled(snapshot, TIME, 64 + 8 * 32));
+        assertSame(variants[0], cache.getScaled(snapshot, TIME, 64));
+        assertSame(variants[7], cache.getScaled(snapshot, TIME, 64 + 7 * 32));
+        assertNotSame(variants[1], cache.getScaled(snapshot, TIME, 64 + 32));
+    }
+
+    @Test
+    public void clearDropsTheVariants() {
+        ScaledSnapshotCache cache = new ScaledSnapshotCache();
+        byte[] scaled = cache.getScaled(snapshot, TIME, 320);
+
+        cache.clear();
+
+        assertNotSame(scaled, cache.getScaled(snapshot, TIME, 320));
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link FrameRing}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FrameRingTest {
+
+    @Test
+    public void newViewerStartsWithTheNextPublishedFrame() {
+        FrameRing ring = new FrameRing(3);
+        ring.publish(new byte[] { 1 });
+        long cursor = ring.getNextSequence();
+
+        assertNull(ring.next(cursor));
+        ring.publish(new byte[] { 2 });
+        FrameRing.Frame frame = ring.next(cursor);
+        assertNotNull(frame);
+        assertEquals(cursor, frame.sequence);
+        assertArrayEquals(new byte[] { 2 }, frame.data);
+    }
+
+    @Test
+    public void slowViewerSkipsToTheOldestFrameHeld() {
+        FrameRing ring = new FrameRing(3);
+        for (byte i = 0; i < 5; i++) {
+            ring.publish(new byte[] { i });
+        }
+
+        FrameRing.Frame frame = ring.next(0);
+        assertNotNull(frame);
+        assertEquals(2, frame.sequence);
+        assertArrayEquals(new byte[] { 2 }, frame.data);
+    }
+
+    @Test
+    public void partHeaderIsEncodedOncePerFrame() {
+        FrameRing ring = new FrameRing(3);
+        ring.publish(new byte[42]);
+        FrameRing.Frame frame = ring.next(0);
+        assertNotNull(frame);
+
+        assertSame(frame.getPartHeader(), frame.getPartHeader());
+        assertArrayEquals(StreamOutput.encodePartHeader(42), frame.getPartHeader());
+    }
+
+    @Test
+    public void clearDropsAllFramesButKeepsTheSequence() {
+        FrameRing ring = new FrameRing(3);
+        ring.publish(new byte[] { 1 });
+        ring.publish(new byte[] { 2 });
+
+        ring.clear();
+
+        assertNull(ring.next(0));
+        assertEquals(2, ring.getNextSequence());
+        ring.publish(new byte[] { 3 });
+        FrameRing.Frame frame = ring.next(2);
+        assertNotNull(frame);
+        assertArrayEquals(new byte[] { 3 }, frame.data);
+    }
+}
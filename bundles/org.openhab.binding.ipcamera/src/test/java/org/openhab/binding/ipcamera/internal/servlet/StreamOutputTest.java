@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests cases for the asynchronous {@link StreamOutput} path that is fed from the {@link FrameRing} of
+ * {@link OpenStreams}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class StreamOutputTest {
+    private static final String CONTENT_TYPE = "multipart/x-mixed-replace; boundary=camera";
+
+    private @Mock @NonNullByDefault({}) HttpServletResponse response;
+    private @Mock @NonNullByDefault({}) ServletOutputStream output;
+    private @Mock @NonNullByDefault({}) AsyncContext asyncContext;
+    private @Mock @NonNullByDefault({}) Runnable onClose;
+
+    private final OpenStreams openStreams = new OpenStreams();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        when(response.getOutputStream()).thenReturn(output);
+        when(output.isReady()).thenReturn(true);
+    }
+
+    private WriteListener start(StreamOutput stream) {
+        openStreams.addStream(stream);
+        stream.startAsync(asyncContext, onClose);
+        ArgumentCaptor<WriteListener> listener = ArgumentCaptor.forClass(WriteListener.class);
+        verify(output).setWriteListener(listener.capture());
+        return listener.getValue();
+    }
+
+    @Test
+    public void framesAreWrittenWhenPublished() throws IOException {
+        start(new StreamOutput(response, CONTENT_TYPE));
+        byte[] frame = new byte[] { 1, 2, 3 };
+
+        openStreams.queueFrame(frame);
+
+        verify(output).write(frame);
+        verify(response).setContentType(CONTENT_TYPE);
+    }
+
+    @Test
+    public void framesWaitUntilTheClientIsReady() throws IOException {
+        WriteListener listener = start(new StreamOutput(response, CONTENT_TYPE));
+        when(output.isReady()).thenReturn(false);
+        byte[] frame = new byte[] { 1, 2, 3 };
+
+        openStreams.queueFrame(frame);
+        verify(output, never()).write(any(byte[].class));
+
+        when(output.isReady()).thenReturn(true);
+        listener.onWritePossible();
+        verify(output).write(frame);
+    }
+
+    @Test
+    public void slowClientSkipsFramesThatLeftTheRing() throws IOException {
+        WriteListener listener = start(new StreamOutput(response, CONTENT_TYPE));
+        when(output.isReady()).thenReturn(false);
+        byte[][] frames = new byte[60][];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new byte[] { (byte) i };
+            openStreams.queueFrame(frames[i]);
+        }
+
+        when(output.isReady()).thenReturn(true);
+        listener.onWritePossible();
+
+        verify(output, never()).write(frames[0]);
+        verify(output, never()).write(frames[9]);
+        verify(output).write(frames[10]);
+        verify(output).write(frames[59]);
+        verify(output, times(50)).write(any(byte[].class));
+    }
+
+    @Test
+    public void snapshotBasedStreamSendsTheFirstFrameTwice() throws IOException {
+        start(new StreamOutput(response));
+        byte[] frame = new byte[] { 1, 2, 3 };
+
+        openStreams.queueFrame(frame);
+
+        verify(output, times(2)).write(StreamOutput.encodePartHeader(frame.length));
+        verify(output, times(2)).write(frame);
+        verify(response).setContentType(anyString());
+    }
+
+    @Test
+    public void failingClientClosesTheStreamOnce() throws IOException {
+        WriteListener listener = start(new StreamOutput(response, CONTENT_TYPE));
+        doThrow(new IOException("Broken pipe")).when(output).write(any(byte[].class));
+
+        openStreams.queueFrame(new byte[] { 1 });
+        listener.onError(new IOException("Broken pipe"));
+        openStreams.queueFrame(new byte[] { 2 });
+
+        verify(asyncContext).complete();
+        verify(onClose).run();
+        verify(output).write(any(byte[].class));
+    }
+
+    @Test
+    public void frameRingIsClearedWhenTheLastStreamIsRemoved() throws IOException {
+        StreamOutput first = new StreamOutput(response, CONTENT_TYPE);
+        StreamOutput second = new StreamOutput(response, CONTENT_TYPE);
+        openStreams.addStream(first);
+        openStreams.addStream(second);
+        openStreams.queueFrame(new byte[] { 1 });
+
+        openStreams.removeStream(first);
+        assertNotNull(openStreams.frameRing.next(0));
+
+        openStreams.removeStream(second);
+        assertNull(openStreams.frameRing.next(0));
+    }
+}
@@ -16,12 +16,12 @@ import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -31,6 +31,7 @@ import org.openhab.binding.knx.internal.dpt.ValueEncoder;
 import org.openhab.binding.knx.internal.handler.GroupAddressListener;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler.CommandExtensionData;
 import org.openhab.binding.knx.internal.i18n.KNXTranslationProvider;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingUID;
@@ -103,8 +104,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final TelegramDispatcher telegramDispatcher;
+    private final ReadScheduler readScheduler;
+    /** Executes the blocking read requests, so that they cannot hold the threads dispatching incoming telegrams */
+    private final ThreadPoolExecutor readExecutor;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -149,6 +152,14 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
         this.commandExtensionData = commandExtensionData;
+        this.telegramDispatcher = new TelegramDispatcher(knxScheduler, commandExtensionData.telegramStatistics());
+        this.readScheduler = new ReadScheduler(thingUID.toString(), readingPause,
+                commandExtensionData.telegramStatistics());
+        // the read scheduler never has more reads outstanding than there are threads, so the queue stays empty
+        this.readExecutor = new ThreadPoolExecutor(ReadScheduler.MAX_OUTSTANDING_READS,
+                ReadScheduler.MAX_OUTSTANDING_READS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("knx-read-" + thingUID.getId(), true));
+        this.readExecutor.allowCoreThreadTimeOut(true);
     }
 
     public void initialize() {
@@ -299,7 +310,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             tmplink.removeLinkListener(this);
         }
         busJob = nullify(busJob, j -> j.cancel(true));
-        readDatapoints.clear();
+        readScheduler.clear();
         responseCommunicator = nullify(responseCommunicator, rc -> {
             rc.removeProcessListener(processListener);
             rc.detach();
@@ -327,13 +338,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
+        readScheduler.telegramReceived(destination, event.getServiceCode() != 0x00, System.nanoTime());
+        boolean isHandled = telegramDispatcher.dispatch(destination,
+                listener -> action.apply(listener, source, destination, asdu));
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -349,8 +356,6 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
-    // datapoint is null at end of the list, warning is misleading
-    @SuppressWarnings("null")
     private void readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
             return;
@@ -359,32 +364,46 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
-        if (datapoint != null) {
-            datapoint.incrementRetries();
+        // reads wait for the response, so they are sent from the read executor to allow several outstanding requests
+        ReadDatapoint datapoint;
+        while ((datapoint = readScheduler.poll(System.nanoTime())) != null) {
+            ReadDatapoint next = datapoint;
             try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
-                processCommunicator.read(datapoint.getDatapoint());
-            } catch (KNXException e) {
-                // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
-                // KnxIllegArgumentException
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
-                    logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
-                            datapoint.getDatapoint().getMainAddress(), e.getMessage());
-                } else {
-                    logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
-                            datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
-                }
-            } catch (InterruptedException | CancellationException e) {
-                logger.debug("Interrupted sending KNX read request");
-            } catch (Exception e) {
-                // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
-                // Not catching this would end the scheduled read for all DPs in case of an error.
-                // Severity is warning as this is likely caused by a configuration error.
-                logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(),
-                        e.getMessage());
+                readExecutor.execute(() -> readQueuedDatapoint(processCommunicator, next));
+            } catch (RejectedExecutionException e) {
+                // disposed meanwhile
+                readScheduler.readFailed(next, false);
+                return;
+            }
+        }
+    }
+
+    private void readQueuedDatapoint(ProcessCommunicator processCommunicator, ReadDatapoint datapoint) {
+        datapoint.incrementRetries();
+        long start = System.nanoTime();
+        try {
+            logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+            processCommunicator.read(datapoint.getDatapoint());
+            readScheduler.readSucceeded(datapoint, System.nanoTime() - start);
+        } catch (KNXException e) {
+            // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
+            // KnxIllegArgumentException
+            if (readScheduler.readFailed(datapoint, true)) {
+                logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
+                        datapoint.getDatapoint().getMainAddress(), e.getMessage());
+            } else if (datapoint.getRetries() >= datapoint.getLimit()) {
+                logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
+                        datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
             }
+        } catch (InterruptedException | CancellationException e) {
+            readScheduler.readFailed(datapoint, false);
+            logger.debug("Interrupted sending KNX read request");
+        } catch (Exception e) {
+            // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
+            // Not catching this would end the scheduled read for all DPs in case of an error.
+            // Severity is warning as this is likely caused by a configuration error.
+            readScheduler.readFailed(datapoint, false);
+            logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(), e.getMessage());
         }
     }
 
@@ -393,6 +412,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         cancelReconnectJob();
         disconnect(null);
+        readExecutor.shutdownNow();
     }
 
     @Override
@@ -457,22 +477,19 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
+        if (!readScheduler.add(new ReadDatapoint(datapoint, readRetriesLimit))) {
+            logger.trace("Read of {} is already pending", datapoint.getMainAddress());
         }
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        telegramDispatcher.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        telegramDispatcher.unregister(listener);
     }
 
     @Override
@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Schedules the group read requests a bridge sends to the KNX bus.
+ *
+ * Pending reads are kept per group address, so the same address requested by several things is read only once.
+ * Addresses for which no value has been seen since the connection was established are read before refreshing
+ * addresses which already have a value, and a pending read is dropped when the value arrives on the bus anyway.
+ *
+ * Several reads may wait for their response at the same time. The number of outstanding reads grows while responses
+ * arrive quickly and is halved on slow responses or errors. While the bus is busy with other traffic, read requests
+ * are spaced out further.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadScheduler {
+    /** Maximum number of read requests waiting for a response at the same time */
+    static final int MAX_OUTSTANDING_READS = 4;
+    /** Responses slower than this reduce the number of outstanding reads */
+    static final long SLOW_RESPONSE_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    /** Telegrams per second not caused by our own reads above which the bus is considered busy */
+    static final int BUSY_BUS_TELEGRAMS_PER_SECOND = 20;
+    /** Factor applied to the reading pause while the bus is busy */
+    static final int BUSY_BUS_PAUSE_FACTOR = 5;
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(ReadScheduler.class);
+
+    private final String name;
+    private final long busyPauseNanos;
+    private final TelegramStatistics statistics;
+
+    private final Map<GroupAddress, ReadDatapoint> initialReads = new LinkedHashMap<>();
+    private final Map<GroupAddress, ReadDatapoint> refreshReads = new LinkedHashMap<>();
+    private final Map<GroupAddress, ReadDatapoint> outstandingReads = new HashMap<>();
+    private final Set<GroupAddress> knownAddresses = new HashSet<>();
+
+    private int window = 1;
+    private boolean paused;
+    private long pausedUntilNanos;
+    private boolean busBusy;
+    private boolean bucketStarted;
+    private long bucketStartNanos;
+    private int telegramsInBucket;
+    private int telegramsInLastBucket;
+    private int readsSinceIdle;
+
+    /**
+     * @param name name of the bridge, used for logging
+     * @param readingPause minimum pause between two read requests in milliseconds, used as the unit for backing off
+     *            while the bus is busy
+     * @param statistics statistics to record the progress of reading
+     */
+    ReadScheduler(String name, int readingPause, TelegramStatistics statistics) {
+        this.name = name;
+        this.busyPauseNanos = TimeUnit.MILLISECONDS.toNanos((long) Math.max(readingPause, 1) * BUSY_BUS_PAUSE_FACTOR);
+        this.statistics = statistics;
+    }
+
+    /**
+     * Queue a read request.
+     *
+     * @param datapoint the datapoint to read
+     * @return {@code false} if a read of the same group address is already pending
+     */
+    synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (initialReads.containsKey(groupAddress) || refreshReads.containsKey(groupAddress)
+                || outstandingReads.containsKey(groupAddress)) {
+            return false;
+        }
+        queueFor(groupAddress).put(groupAddress, datapoint);
+        statistics.recordReadQueued();
+        return true;
+    }
+
+    /**
+     * Take the next read request to send, if the current pacing allows it.
+     *
+     * @param now current value of {@link System#nanoTime()}
+     * @return the datapoint to read, or {@code null} if nothing is to be sent now
+     */
+    synchronized @Nullable ReadDatapoint poll(long now) {
+        if (paused && now - pausedUntilNanos < 0) {
+            return null;
+        }
+        paused = false;
+        if (outstandingReads.size() >= window) {
+            return null;
+        }
+        ReadDatapoint datapoint = pollFirst(initialReads);
+        if (datapoint == null) {
+            datapoint = pollFirst(refreshReads);
+        }
+        if (datapoint != null) {
+            outstandingReads.put(datapoint.getDatapoint().getMainAddress(), datapoint);
+            if (isBusBusy(now)) {
+                paused = true;
+                pausedUntilNanos = now + busyPauseNanos;
+            }
+        }
+        return datapoint;
+    }
+
+    /**
+     * Record the response to a read request obtained from {@link #poll(long)}.
+     *
+     * @param datapoint the datapoint which was read
+     * @param latency time from sending the request until the response, in nanoseconds
+     */
+    synchronized void readSucceeded(ReadDatapoint datapoint, long latency) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (!completeOutstanding(datapoint, latency < SLOW_RESPONSE_NANOS)) {
+            return;
+        }
+        knownAddresses.add(groupAddress);
+        statistics.recordReadCompleted(true);
+        logIfIdle();
+    }
+
+    /**
+     * Record the failure of a read request obtained from {@link #poll(long)}.
+     *
+     * @param datapoint the datapoint which was read
+     * @param retry {@code true} to queue the request again as long as its retry limit is not reached
+     * @return {@code true} if the read is going to be retried
+     */
+    synchronized boolean readFailed(ReadDatapoint datapoint, boolean retry) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (!completeOutstanding(datapoint, false)) {
+            return false;
+        }
+        if (retry && datapoint.getRetries() < datapoint.getLimit()) {
+            queueFor(groupAddress).put(groupAddress, datapoint);
+            return true;
+        }
+        statistics.recordReadCompleted(false);
+        logIfIdle();
+        return false;
+    }
+
+    private boolean completeOutstanding(ReadDatapoint datapoint, boolean fast) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (outstandingReads.get(groupAddress) != datapoint) {
+            // the scheduler was cleared in the meantime
+            return false;
+        }
+        outstandingReads.remove(groupAddress);
+        if (fast && !busBusy) {
+            window = Math.min(MAX_OUTSTANDING_READS, window + 1);
+        } else if (!fast) {
+            window = Math.max(1, window / 2);
+        }
+        readsSinceIdle++;
+        return true;
+    }
+
+    private void logIfIdle() {
+        if (initialReads.isEmpty() && refreshReads.isEmpty() && outstandingReads.isEmpty()) {
+            logger.debug("Bridge {} finished {} read requests", name, readsSinceIdle);
+            readsSinceIdle = 0;
+        }
+    }
+
+    /**
+     * Notify the scheduler about a group telegram received from the bus.
+     *
+     * @param groupAddress the destination of the telegram
+     * @param carriesValue {@code true} for group writes and read responses
+     * @param now current value of {@link System#nanoTime()}
+     */
+    synchronized void telegramReceived(GroupAddress groupAddress, boolean carriesValue, long now) {
+        if (!outstandingReads.containsKey(groupAddress)) {
+            rollBucket(now);
+            telegramsInBucket++;
+        }
+        if (carriesValue) {
+            knownAddresses.add(groupAddress);
+            ReadDatapoint skipped = initialReads.remove(groupAddress);
+            if (skipped == null) {
+                skipped = refreshReads.remove(groupAddress);
+            }
+            if (skipped != null) {
+                logger.trace("Skipping read of {}, value was received from the bus", groupAddress);
+                statistics.recordReadSkipped(1);
+            }
+        }
+    }
+
+    /**
+     * Drop all pending reads and forget the known values, e.g. when the connection is lost.
+     */
+    synchronized void clear() {
+        statistics.recordReadSkipped(initialReads.size() + refreshReads.size() + outstandingReads.size());
+        initialReads.clear();
+        refreshReads.clear();
+        outstandingReads.clear();
+        knownAddresses.clear();
+        window = 1;
+        paused = false;
+        readsSinceIdle = 0;
+    }
+
+    synchronized int getPending() {
+        return initialReads.size() + refreshReads.size() + outstandingReads.size();
+    }
+
+    synchronized int getWindow() {
+        return window;
+    }
+
+    private Map<GroupAddress, ReadDatapoint> queueFor(GroupAddress groupAddress) {
+        return knownAddresses.contains(groupAddress) ? refreshReads : initialReads;
+    }
+
+    private @Nullable ReadDatapoint pollFirst(Map<GroupAddress, ReadDatapoint> queue) {
+        Iterator<ReadDatapoint> iterator = queue.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        ReadDatapoint datapoint = iterator.next();
+        iterator.remove();
+        return datapoint;
+    }
+
+    private boolean isBusBusy(long now) {
+        rollBucket(now);
+        boolean busy = Math.max(telegramsInLastBucket, telegramsInBucket) > BUSY_BUS_TELEGRAMS_PER_SECOND;
+        if (busy && !busBusy) {
+            window = 1;
+            logger.debug("Bridge {} slows down reading, the bus is busy", name);
+        }
+        busBusy = busy;
+        return busy;
+    }
+
+    private void rollBucket(long now) {
+        long elapsed = now - bucketStartNanos;
+        if (!bucketStarted || elapsed >= SECOND_NANOS) {
+            telegramsInLastBucket = !bucketStarted || elapsed >= 2 * SECOND_NANOS ? 0 : telegramsInBucket;
+            bucketStarted = true;
+            telegramsInBucket = 0;
+            bucketStartNanos = now;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Dispatches received group telegrams to the {@link GroupAddressListener}s interested in their destination.
+ *
+ * The listeners are indexed by the group addresses they reported on registration, so finding the receivers of a
+ * telegram does not depend on the number of registered things. Each listener has its own queue of pending
+ * telegrams, which is processed in order by a single task on the executor. During bursts (e.g. scenes) a thing thus
+ * processes all its pending telegrams in one batch instead of one task per telegram.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class TelegramDispatcher {
+    /** Maximum number of telegrams processed in one run, to avoid blocking a thread of the shared pool */
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(TelegramDispatcher.class);
+
+    private final Executor executor;
+    private final TelegramStatistics statistics;
+    private final Map<GroupAddress, Set<GroupAddressListener>> listenersByGroupAddress = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, ListenerQueue> listenerQueues = new ConcurrentHashMap<>();
+
+    TelegramDispatcher(Executor executor, TelegramStatistics statistics) {
+        this.executor = executor;
+        this.statistics = statistics;
+    }
+
+    void register(GroupAddressListener listener) {
+        ListenerQueue queue = new ListenerQueue(listener, Set.copyOf(listener.getGroupAddresses()));
+        ListenerQueue previous = listenerQueues.put(listener, queue);
+        if (previous != null) {
+            removeFromIndex(previous);
+        }
+        for (GroupAddress groupAddress : queue.groupAddresses) {
+            listenersByGroupAddress.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+        }
+    }
+
+    void unregister(GroupAddressListener listener) {
+        ListenerQueue queue = listenerQueues.remove(listener);
+        if (queue != null) {
+            removeFromIndex(queue);
+            queue.pending.clear();
+        }
+    }
+
+    private void removeFromIndex(ListenerQueue queue) {
+        for (GroupAddress groupAddress : queue.groupAddresses) {
+            listenersByGroupAddress.computeIfPresent(groupAddress, (ga, listeners) -> {
+                listeners.remove(queue.listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+        }
+    }
+
+    /**
+     * Queue a telegram for all listeners of its destination.
+     *
+     * @param destination destination group address of the telegram
+     * @param notification the notification of a listener
+     * @return true if at least one listener is interested in the telegram
+     */
+    boolean dispatch(GroupAddress destination, Consumer<GroupAddressListener> notification) {
+        Set<GroupAddressListener> listeners = listenersByGroupAddress.get(destination);
+        if (listeners == null) {
+            return false;
+        }
+        long received = System.nanoTime();
+        boolean isHandled = false;
+        for (GroupAddressListener listener : listeners) {
+            ListenerQueue queue = listenerQueues.get(listener);
+            if (queue != null && listener.listensTo(destination)) {
+                isHandled = true;
+                queue.add(new PendingTelegram(received, notification));
+            }
+        }
+        return isHandled;
+    }
+
+    private record PendingTelegram(long received, Consumer<GroupAddressListener> notification) {
+    }
+
+    private class ListenerQueue implements Runnable {
+        private final GroupAddressListener listener;
+        private final Set<GroupAddress> groupAddresses;
+        private final Queue<PendingTelegram> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private ListenerQueue(GroupAddressListener listener, Set<GroupAddress> groupAddresses) {
+            this.listener = listener;
+            this.groupAddresses = groupAddresses;
+        }
+
+        private void add(PendingTelegram telegram) {
+            pending.add(telegram);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    logger.debug("Could not dispatch telegrams: {}", e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+                PendingTelegram telegram = pending.poll();
+                if (telegram == null) {
+                    break;
+                }
+                try {
+                    telegram.notification().accept(listener);
+                } catch (RuntimeException e) {
+                    logger.warn("Processing a telegram failed: {}", e.getMessage(), e);
+                }
+                statistics.recordDispatch(System.nanoTime() - telegram.received());
+            }
+            scheduled.set(false);
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Statistics about the dispatching of received group telegrams to the things of a bridge, e.g. for display on the
+ * openHAB console.
+ *
+ * The latency is measured from the reception of a telegram until the thing has finished processing it, i.e. the
+ * channel has been updated.
+ *
+ * In addition, the progress of the read requests sent to the bus, e.g. for the initial state after a restart, is
+ * counted.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TelegramStatistics {
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final LongAdder readsQueued = new LongAdder();
+    private final LongAdder readsSucceeded = new LongAdder();
+    private final LongAdder readsFailed = new LongAdder();
+    private final LongAdder readsSkipped = new LongAdder();
+
+    /**
+     * Record that a telegram has been processed by a thing.
+     *
+     * @param latency time from reception of the telegram until it was processed, in nanoseconds
+     */
+    public void recordDispatch(long latency) {
+        dispatched.increment();
+        latencyNanos.add(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * @return number of telegrams processed by things
+     */
+    public long getDispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return average latency in microseconds, 0 if no telegram has been processed
+     */
+    public long getAverageLatencyMicros() {
+        long count = dispatched.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(latencyNanos.sum() / count);
+    }
+
+    /**
+     * @return maximum latency in microseconds
+     */
+    public long getMaxLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos.get());
+    }
+
+    void recordReadQueued() {
+        readsQueued.increment();
+    }
+
+    void recordReadCompleted(boolean success) {
+        (success ? readsSucceeded : readsFailed).increment();
+    }
+
+    void recordReadSkipped(int count) {
+        readsSkipped.add(count);
+    }
+
+    /**
+     * @return number of read requests answered by the bus
+     */
+    public long getReadsSucceeded() {
+        return readsSucceeded.sum();
+    }
+
+    /**
+     * @return number of read requests given up after reaching the retry limit
+     */
+    public long getReadsFailed() {
+        return readsFailed.sum();
+    }
+
+    /**
+     * @return number of queued read requests which were not sent, as the value was received from the bus anyway or
+     *         the connection was lost
+     */
+    public long getReadsSkipped() {
+        return readsSkipped.sum();
+    }
+
+    /**
+     * @return number of read requests queued or waiting for a response
+     */
+    public long getReadsPending() {
+        return Math.max(0, readsQueued.sum() - readsSucceeded.sum() - readsFailed.sum() - readsSkipped.sum());
+    }
+
+    public void reset() {
+        dispatched.reset();
+        latencyNanos.reset();
+        maxLatencyNanos.set(0);
+    }
+}
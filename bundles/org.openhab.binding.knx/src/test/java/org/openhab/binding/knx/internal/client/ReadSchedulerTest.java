@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ReadSchedulerTest {
+
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA_3 = new GroupAddress(1, 2, 5);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final TelegramStatistics statistics = new TelegramStatistics();
+    private final ReadScheduler scheduler = new ReadScheduler("bridge", 50, statistics);
+
+    private static ReadDatapoint read(GroupAddress groupAddress) {
+        return new ReadDatapoint(new CommandDP(groupAddress, "thing", 0, "1.001"), 2);
+    }
+
+    private static GroupAddress address(@Nullable ReadDatapoint datapoint) {
+        assertNotNull(datapoint);
+        return datapoint.getDatapoint().getMainAddress();
+    }
+
+    private ReadDatapoint pollNow(long now) {
+        ReadDatapoint datapoint = scheduler.poll(now);
+        assertNotNull(datapoint);
+        datapoint.incrementRetries();
+        return datapoint;
+    }
+
+    @Test
+    void testDuplicateGroupAddressIsReadOnce() {
+        assertTrue(scheduler.add(read(GA_1)));
+        assertFalse(scheduler.add(read(GA_1)));
+
+        ReadDatapoint datapoint = pollNow(0);
+        assertFalse(scheduler.add(read(GA_1)));
+        scheduler.readSucceeded(datapoint, FAST);
+
+        assertNull(scheduler.poll(0));
+        assertEquals(1, statistics.getReadsSucceeded());
+        assertEquals(0, statistics.getReadsPending());
+    }
+
+    @Test
+    void testUnknownGroupAddressesAreReadFirst() {
+        scheduler.add(read(GA_1));
+        scheduler.readSucceeded(pollNow(0), FAST);
+
+        // GA_1 has a value now, so refreshing it waits until GA_2 and GA_3 are read
+        scheduler.add(read(GA_1));
+        scheduler.add(read(GA_2));
+        scheduler.add(read(GA_3));
+
+        assertEquals(GA_2, address(scheduler.poll(0)));
+        assertEquals(GA_3, address(scheduler.poll(0)));
+        assertNull(scheduler.poll(0));
+    }
+
+    @Test
+    void testReadIsSkippedWhenValueIsReceived() {
+        scheduler.add(read(GA_1));
+        scheduler.add(read(GA_2));
+
+        scheduler.telegramReceived(GA_1, true, 0);
+        // a read request from another device does not carry a value
+        scheduler.telegramReceived(GA_2, false, 0);
+
+        assertEquals(GA_2, address(scheduler.poll(0)));
+        assertEquals(1, statistics.getReadsSkipped());
+        assertEquals(1, statistics.getReadsPending());
+    }
+
+    @Test
+    void testOutstandingReadsAdaptToResponseTime() {
+        scheduler.add(read(GA_1));
+        scheduler.add(read(GA_2));
+        scheduler.add(read(GA_3));
+        assertEquals(1, scheduler.getWindow());
+
+        ReadDatapoint first = pollNow(0);
+        assertNull(scheduler.poll(0));
+        scheduler.readSucceeded(first, FAST);
+        assertEquals(2, scheduler.getWindow());
+
+        ReadDatapoint second = pollNow(0);
+        ReadDatapoint third = pollNow(0);
+        scheduler.readSucceeded(second, SECOND);
+        assertEquals(1, scheduler.getWindow());
+        scheduler.readSucceeded(third, FAST);
+        assertEquals(2, scheduler.getWindow());
+    }
+
+    @Test
+    void testFailedReadIsRetriedUpToLimit() {
+        scheduler.add(read(GA_1));
+
+        assertTrue(scheduler.readFailed(pollNow(0), true));
+        assertFalse(scheduler.readFailed(pollNow(0), true));
+
+        assertNull(scheduler.poll(0));
+        assertEquals(1, statistics.getReadsFailed());
+        assertEquals(0, statistics.getReadsPending());
+    }
+
+    @Test
+    void testReadsAreSpacedOutOnBusyBus() {
+        for (int i = 0; i <= ReadScheduler.BUSY_BUS_TELEGRAMS_PER_SECOND; i++) {
+            scheduler.telegramReceived(GA_3, true, 0);
+        }
+        scheduler.add(read(GA_1));
+        scheduler.add(read(GA_2));
+
+        scheduler.readSucceeded(pollNow(0), FAST);
+        assertEquals(1, scheduler.getWindow());
+        long pause = TimeUnit.MILLISECONDS.toNanos(50 * ReadScheduler.BUSY_BUS_PAUSE_FACTOR);
+        assertNull(scheduler.poll(pause - 1));
+        assertEquals(GA_2, address(scheduler.poll(pause)));
+    }
+
+    @Test
+    void testClearDropsPendingReads() {
+        scheduler.add(read(GA_1));
+        scheduler.add(read(GA_2));
+        ReadDatapoint outstanding = pollNow(0);
+
+        scheduler.clear();
+        scheduler.readSucceeded(outstanding, FAST);
+
+        assertNull(scheduler.poll(0));
+        assertEquals(0, scheduler.getPending());
+        assertEquals(0, statistics.getReadsSucceeded());
+        assertTrue(scheduler.add(read(GA_1)));
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class TelegramDispatcherTest {
+
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA_3 = new GroupAddress(1, 2, 5);
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final TelegramStatistics statistics = new TelegramStatistics();
+    private final TelegramDispatcher dispatcher = new TelegramDispatcher(tasks::add, statistics);
+
+    private GroupAddressListener createListener(GroupAddress... groupAddresses) {
+        Set<GroupAddress> addresses = Set.of(groupAddresses);
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getGroupAddresses()).thenReturn(addresses);
+        when(listener.listensTo(any())).thenAnswer(i -> addresses.contains(i.getArgument(0)));
+        return listener;
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    void testDispatchToListenersOfGroupAddress() {
+        GroupAddressListener first = createListener(GA_1, GA_2);
+        GroupAddressListener second = createListener(GA_2);
+        dispatcher.register(first);
+        dispatcher.register(second);
+
+        List<String> received = new ArrayList<>();
+        assertTrue(dispatcher.dispatch(GA_1, listener -> received.add(listener == first ? "first" : "second")));
+        assertTrue(dispatcher.dispatch(GA_2, listener -> received.add(listener == first ? "first" : "second")));
+        assertFalse(dispatcher.dispatch(GA_3, listener -> received.add("none")));
+        runTasks();
+
+        assertEquals(3, received.size());
+        assertEquals(2, received.stream().filter("first"::equals).count());
+        assertEquals(1, received.stream().filter("second"::equals).count());
+        assertEquals(3, statistics.getDispatched());
+    }
+
+    @Test
+    void testTelegramsOfOneListenerAreBatchedInOrder() {
+        GroupAddressListener listener = createListener(GA_1, GA_2);
+        dispatcher.register(listener);
+
+        List<Integer> received = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int value = i;
+            dispatcher.dispatch(i % 2 == 0 ? GA_1 : GA_2, l -> received.add(value));
+        }
+
+        // a single task processes all pending telegrams
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), received);
+    }
+
+    @Test
+    void testUnregister() {
+        GroupAddressListener listener = createListener(GA_1);
+        dispatcher.register(listener);
+        dispatcher.unregister(listener);
+
+        assertFalse(dispatcher.dispatch(GA_1, l -> fail("must not be called")));
+        runTasks();
+        assertEquals(0, statistics.getDispatched());
+    }
+}
@@ -13,6 +13,8 @@
 package org.openhab.binding.logreader.internal.filereader;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -29,16 +31,23 @@ import org.slf4j.LoggerFactory;
 /**
  * Apache Tailer based log file reader implementation.
  *
+ * Lines are passed to the listeners in batches, each time the end of the file is reached or
+ * {@value #MAX_BATCH_SIZE} lines have been read.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class FileTailer extends AbstractLogFileReader implements LogFileReader {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(FileTailer.class);
 
     private @Nullable Tailer tailer;
     private @Nullable ExecutorService executor;
 
     TailerListener logListener = new TailerListenerAdapter() {
+        // only accessed by the tailer thread
+        private List<String> batch = new ArrayList<>();
 
         @Override
         public void handle(@Nullable String line) {
@@ -46,11 +55,20 @@ public class FileTailer extends AbstractLogFileReader implements LogFileReader {
                 return;
             }
 
-            sendLineToListeners(line);
+            batch.add(line);
+            if (batch.size() >= MAX_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void endOfFileReached() {
+            flush();
         }
 
         @Override
         public void fileNotFound() {
+            flush();
             sendFileNotFoundToListeners();
         }
 
@@ -60,13 +78,23 @@ public class FileTailer extends AbstractLogFileReader implements LogFileReader {
                 return;
             }
 
+            flush();
             sendExceptionToListeners(e);
         }
 
         @Override
         public void fileRotated() {
+            flush();
             sendFileRotationToListeners();
         }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                List<String> lines = batch;
+                batch = new ArrayList<>();
+                sendLinesToListeners(lines);
+            }
+        }
     };
 
     @Override
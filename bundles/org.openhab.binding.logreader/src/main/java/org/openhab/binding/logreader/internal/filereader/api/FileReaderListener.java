@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.logreader.internal.filereader.api;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -41,6 +43,17 @@ public interface FileReaderListener {
      */
     void handle(@Nullable String line);
 
+    /**
+     * This method is called when new lines are detected. By default, the lines are handled one by one.
+     *
+     * @param lines the lines, in the order they were read.
+     */
+    default void handle(List<String> lines) {
+        for (String line : lines) {
+            handle(line);
+        }
+    }
+
     /**
      * This method is called when exception has occurred.
      *
@@ -15,6 +15,9 @@ package org.openhab.binding.logreader.internal.handler;
 import static org.openhab.binding.logreader.internal.LogReaderBindingConstants.*;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -46,6 +49,8 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class LogHandler extends BaseThingHandler implements FileReaderListener {
+    private static final long PATTERN_HITS_UPDATE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     private final Logger logger = LoggerFactory.getLogger(LogHandler.class);
 
     private final LogFileReader fileReader;
@@ -56,6 +61,8 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
     private @Nullable SearchEngine warningEngine;
     private @Nullable SearchEngine customEngine;
 
+    private long lastPatternHitsUpdate;
+
     public LogHandler(Thing thing, LogFileReader fileReader) {
         super(thing);
         this.fileReader = fileReader;
@@ -96,6 +103,7 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
         logger.debug("Using configuration: {}", configuration);
 
         clearCounters();
+        lastPatternHitsUpdate = System.nanoTime();
 
         try {
             warningEngine = new SearchEngine(configuration.warningPatterns, configuration.warningBlacklistingPatterns);
@@ -184,24 +192,64 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
             return;
         }
 
+        handle(List.of(line));
+    }
+
+    @Override
+    public void handle(List<String> lines) {
         if (thing.getStatus() != ThingStatus.ONLINE) {
             updateStatus(ThingStatus.ONLINE);
         }
 
-        if (errorEngine != null && errorEngine.isMatching(line)) {
-            updateChannelIfLinked(CHANNEL_ERRORS, new DecimalType(errorEngine.getMatchCount()));
-            updateChannelIfLinked(CHANNEL_LASTERROR, new StringType(line));
-            triggerChannel(CHANNEL_NEWERROR, line);
+        @Nullable SearchEngine localErrorEngine = this.errorEngine;
+        @Nullable SearchEngine localWarningEngine = this.warningEngine;
+        @Nullable SearchEngine localCustomEngine = this.customEngine;
+        List<String> errors = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        List<String> customEvents = new ArrayList<>();
+        for (String line : lines) {
+            if (localErrorEngine != null && localErrorEngine.isMatching(line)) {
+                errors.add(line);
+            }
+            if (localWarningEngine != null && localWarningEngine.isMatching(line)) {
+                warnings.add(line);
+            }
+            if (localCustomEngine != null && localCustomEngine.isMatching(line)) {
+                customEvents.add(line);
+            }
         }
-        if (warningEngine != null && warningEngine.isMatching(line)) {
-            updateChannelIfLinked(CHANNEL_WARNINGS, new DecimalType(warningEngine.getMatchCount()));
-            updateChannelIfLinked(CHANNEL_LASTWARNING, new StringType(line));
-            triggerChannel(CHANNEL_NEWWARNING, line);
+
+        // channel states are updated once per batch, but before the events are triggered
+        if (localErrorEngine != null && !errors.isEmpty()) {
+            updateChannelIfLinked(CHANNEL_ERRORS, new DecimalType(localErrorEngine.getMatchCount()));
+            updateChannelIfLinked(CHANNEL_LASTERROR, new StringType(errors.get(errors.size() - 1)));
+            errors.forEach(line -> triggerChannel(CHANNEL_NEWERROR, line));
+        }
+        if (localWarningEngine != null && !warnings.isEmpty()) {
+            updateChannelIfLinked(CHANNEL_WARNINGS, new DecimalType(localWarningEngine.getMatchCount()));
+            updateChannelIfLinked(CHANNEL_LASTWARNING, new StringType(warnings.get(warnings.size() - 1)));
+            warnings.forEach(line -> triggerChannel(CHANNEL_NEWWARNING, line));
         }
-        if (customEngine != null && customEngine.isMatching(line)) {
-            updateChannelIfLinked(CHANNEL_CUSTOMEVENTS, new DecimalType(customEngine.getMatchCount()));
-            updateChannelIfLinked(CHANNEL_LASTCUSTOMEVENT, new StringType(line));
-            triggerChannel(CHANNEL_NEWCUSTOM, line);
+        if (localCustomEngine != null && !customEvents.isEmpty()) {
+            updateChannelIfLinked(CHANNEL_CUSTOMEVENTS, new DecimalType(localCustomEngine.getMatchCount()));
+            updateChannelIfLinked(CHANNEL_LASTCUSTOMEVENT,
+                    new StringType(customEvents.get(customEvents.size() - 1)));
+            customEvents.forEach(line -> triggerChannel(CHANNEL_NEWCUSTOM, line));
+        }
+
+        long now = System.nanoTime();
+        if (logger.isDebugEnabled() && now - lastPatternHitsUpdate >= PATTERN_HITS_UPDATE_INTERVAL_NANOS) {
+            lastPatternHitsUpdate = now;
+            logPatternHits("error", localErrorEngine);
+            logPatternHits("warning", localWarningEngine);
+            logPatternHits("custom", localCustomEngine);
+        }
+    }
+
+    private void logPatternHits(String kind, @Nullable SearchEngine engine) {
+        if (engine != null) {
+            logger.debug("Lines found by {} patterns: {}, bypassed by blacklisting patterns: {}", kind,
+                    engine.getPatternHits(), engine.getBlacklistingPatternHits());
         }
     }
 
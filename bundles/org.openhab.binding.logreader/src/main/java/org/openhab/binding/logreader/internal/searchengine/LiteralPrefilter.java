@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link LiteralPrefilter} finds, in a single pass over a line, which of a set of literals occur in it.
+ *
+ * The literals are compiled into an Aho-Corasick automaton, so the cost of a scan depends on the length of the line
+ * only, not on the number of literals. It is used in front of regular expressions: a pattern only needs to be
+ * evaluated if its required literal (see {@link #requiredLiteral(String)}) occurs in the line.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LiteralPrefilter {
+    private static final int ASCII = 128;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final int literalCount;
+    private final int[] asciiClasses = new int[ASCII];
+    private final Map<Character, Integer> otherClasses = new HashMap<>();
+    private final int[][] transitions;
+    private final int[][] outputs;
+
+    /**
+     * Compile the automaton.
+     *
+     * @param literals literals to search for, <code>null</code> entries are ignored and never reported.
+     */
+    public LiteralPrefilter(List<@Nullable String> literals) {
+        literalCount = literals.size();
+
+        // character classes: 0 for characters not used by any literal
+        int classCount = 1;
+        for (String literal : literals) {
+            if (literal != null) {
+                for (char c : literal.toCharArray()) {
+                    if (classOf(c) == 0) {
+                        if (c < ASCII) {
+                            asciiClasses[c] = classCount++;
+                        } else {
+                            otherClasses.put(c, classCount++);
+                        }
+                    }
+                }
+            }
+        }
+
+        // trie
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> trieOutputs = new ArrayList<>();
+        trie.add(new int[classCount]);
+        trieOutputs.add(new ArrayList<>());
+        for (int i = 0; i < literals.size(); i++) {
+            String literal = literals.get(i);
+            if (literal == null) {
+                continue;
+            }
+            int state = 0;
+            for (char c : literal.toCharArray()) {
+                int charClass = classOf(c);
+                if (trie.get(state)[charClass] == 0) {
+                    trie.get(state)[charClass] = trie.size();
+                    trie.add(new int[classCount]);
+                    trieOutputs.add(new ArrayList<>());
+                }
+                state = trie.get(state)[charClass];
+            }
+            trieOutputs.get(state).add(i);
+        }
+
+        // failure links, resolved into a complete transition table (breadth first, so the failure state is final)
+        transitions = trie.toArray(new int[0][]);
+        outputs = new int[transitions.length][];
+        outputs[0] = NO_OUTPUT;
+        int[] failure = new int[transitions.length];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int charClass = 0; charClass < classCount; charClass++) {
+            int next = transitions[0][charClass];
+            if (next != 0) {
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            List<Integer> stateOutputs = new ArrayList<>(trieOutputs.get(state));
+            for (int output : outputs[failure[state]]) {
+                stateOutputs.add(output);
+            }
+            outputs[state] = stateOutputs.isEmpty() ? NO_OUTPUT
+                    : stateOutputs.stream().mapToInt(Integer::intValue).toArray();
+            for (int charClass = 0; charClass < classCount; charClass++) {
+                int next = transitions[state][charClass];
+                if (next != 0) {
+                    failure[next] = transitions[failure[state]][charClass];
+                    queue.add(next);
+                } else {
+                    transitions[state][charClass] = transitions[failure[state]][charClass];
+                }
+            }
+        }
+    }
+
+    /**
+     * Scan a line.
+     *
+     * @param data the line.
+     * @return for each literal, whether it occurs in the line.
+     */
+    public boolean[] scan(String data) {
+        boolean[] found = new boolean[literalCount];
+        int state = 0;
+        for (int i = 0; i < data.length(); i++) {
+            state = transitions[state][classOf(data.charAt(i))];
+            for (int output : outputs[state]) {
+                found[output] = true;
+            }
+        }
+        return found;
+    }
+
+    private int classOf(char c) {
+        if (c < ASCII) {
+            return asciiClasses[c];
+        }
+        Integer charClass = otherClasses.get(c);
+        return charClass != null ? charClass : 0;
+    }
+
+    /**
+     * Determine a literal which is part of every match of a regular expression.
+     *
+     * Only the top level of the expression is considered; groups, character classes and escape sequences with special
+     * meaning end a literal. The result is conservative: if in doubt, a shorter literal or none is returned.
+     *
+     * @param regex the regular expression.
+     * @return the longest literal found, or <code>null</code> if there is none.
+     */
+    public static @Nullable String requiredLiteral(String regex) {
+        String longest = "";
+        StringBuilder literal = new StringBuilder();
+        // whether the last atom is the last character of the literal being collected
+        boolean lastAtomInLiteral = false;
+        int i = 0;
+        scan: while (i < regex.length()) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '\\':
+                    if (i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                        literal.append(regex.charAt(i + 1));
+                        lastAtomInLiteral = true;
+                        i += 2;
+                        continue;
+                    }
+                    // character classes, back references, quoting, ...
+                    break scan;
+                case '[':
+                    i = skipCharacterClass(regex, i);
+                    break;
+                case '(':
+                    if (i + 2 < regex.length() && regex.charAt(i + 1) == '?'
+                            && (Character.isLetter(regex.charAt(i + 2)) || regex.charAt(i + 2) == '-')) {
+                        // embedded flags may change the meaning of what follows (case insensitivity, comments)
+                        return null;
+                    }
+                    i = skipGroup(regex, i);
+                    if (i < 0) {
+                        return null;
+                    }
+                    break;
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                    // the quantified character is optional or repeated
+                    if (lastAtomInLiteral) {
+                        literal.setLength(literal.length() - 1);
+                        if (literal.length() > 0 && Character.isHighSurrogate(literal.charAt(literal.length() - 1))) {
+                            literal.setLength(literal.length() - 1);
+                        }
+                    }
+                    if (c == '{') {
+                        i = regex.indexOf('}', i);
+                        if (i < 0) {
+                            return null;
+                        }
+                    }
+                    // lazy or possessive quantifier
+                    if (i + 1 < regex.length() && (regex.charAt(i + 1) == '?' || regex.charAt(i + 1) == '+')) {
+                        i++;
+                    }
+                    break;
+                case '|':
+                    return null;
+                case '.':
+                case '^':
+                case '$':
+                    break;
+                default:
+                    literal.append(c);
+                    lastAtomInLiteral = true;
+                    i++;
+                    continue;
+            }
+            if (literal.length() > longest.length()) {
+                longest = literal.toString();
+            }
+            literal.setLength(0);
+            lastAtomInLiteral = false;
+            i++;
+        }
+        if (literal.length() > longest.length()) {
+            longest = literal.toString();
+        }
+        return longest.isEmpty() ? null : longest;
+    }
+
+    private static int skipCharacterClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+                // a closing bracket right at the beginning of a class is a literal
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+                    i++;
+                }
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+                    i++;
+                }
+            } else if (c == ']' && --depth == 0) {
+                return i;
+            }
+            i++;
+        }
+        return regex.length();
+    }
+
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == 'Q') {
+                    // quoted text may contain parentheses
+                    return -1;
+                }
+                i++;
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+}
@@ -13,8 +13,11 @@
 package org.openhab.binding.logreader.internal.searchengine;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -24,13 +27,17 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * This class implements logic for regular expression based searching.
  *
+ * All patterns of a set are searched with a {@link LiteralPrefilter} first, so a regular expression is only evaluated
+ * if a literal required by it occurs in the line. Lines not containing any of the literals, usually the vast majority,
+ * are rejected with a single pass, no matter how many patterns are configured.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class SearchEngine {
 
-    private List<Pattern> matchers;
-    private List<Pattern> blacklistingMatchers;
+    private PatternSet matchers;
+    private PatternSet blacklistingMatchers;
 
     private long matchCount;
 
@@ -42,8 +49,8 @@ public class SearchEngine {
      *
      */
     public SearchEngine(String patterns, @Nullable String blacklistingPatterns) throws PatternSyntaxException {
-        matchers = compilePatterns(patterns);
-        blacklistingMatchers = compilePatterns(blacklistingPatterns);
+        matchers = new PatternSet(compilePatterns(patterns));
+        blacklistingMatchers = new PatternSet(compilePatterns(blacklistingPatterns));
     }
 
     /**
@@ -53,7 +60,7 @@ public class SearchEngine {
      * @return true if one of the search patterns found.
      */
     public boolean isMatching(String data) {
-        if (isMatching(matchers, data)) {
+        if (matchers.isMatching(data)) {
             if (notBlacklisted(data)) {
                 matchCount++;
                 return true;
@@ -74,6 +81,26 @@ public class SearchEngine {
         setMatchCount(0);
     }
 
+    /**
+     * Get the number of lines found by each search pattern, including the blacklisted ones. A line is counted for the
+     * first pattern found only.
+     *
+     * @return number of lines found, by search pattern.
+     */
+    public Map<String, Long> getPatternHits() {
+        return matchers.getHits();
+    }
+
+    /**
+     * Get the number of lines bypassed by each blacklisting pattern. A line is counted for the first pattern found
+     * only.
+     *
+     * @return number of lines bypassed, by blacklisting pattern.
+     */
+    public Map<String, Long> getBlacklistingPatternHits() {
+        return blacklistingMatchers.getHits();
+    }
+
     /**
      * Split pattern string and precompile search patterns.
      *
@@ -94,18 +121,67 @@ public class SearchEngine {
     }
 
     private boolean notBlacklisted(String data) {
-        return !isMatching(blacklistingMatchers, data);
+        return !blacklistingMatchers.isMatching(data);
     }
 
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
-        if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
-                if (matcher.find()) {
+    /**
+     * Precompiled patterns, with the literals required by them.
+     */
+    private static class PatternSet {
+        private final List<Pattern> patterns;
+        private final boolean[] hasLiteral;
+        private final boolean allHaveLiteral;
+        private final LiteralPrefilter prefilter;
+        private final AtomicLongArray hits;
+
+        private PatternSet(List<Pattern> patterns) {
+            this.patterns = patterns;
+            hasLiteral = new boolean[patterns.size()];
+            List<@Nullable String> literals = new ArrayList<>();
+            boolean all = true;
+            for (int i = 0; i < patterns.size(); i++) {
+                String literal = LiteralPrefilter.requiredLiteral(patterns.get(i).pattern());
+                literals.add(literal);
+                hasLiteral[i] = literal != null;
+                all &= hasLiteral[i];
+            }
+            allHaveLiteral = all;
+            prefilter = new LiteralPrefilter(literals);
+            hits = new AtomicLongArray(patterns.size());
+        }
+
+        private boolean isMatching(String data) {
+            if (patterns.isEmpty()) {
+                return false;
+            }
+            boolean[] found = prefilter.scan(data);
+            if (allHaveLiteral && !anyFound(found)) {
+                return false;
+            }
+            for (int i = 0; i < patterns.size(); i++) {
+                if ((found[i] || !hasLiteral[i]) && patterns.get(i).matcher(data).find()) {
+                    hits.incrementAndGet(i);
                     return true;
                 }
             }
+            return false;
+        }
+
+        private Map<String, Long> getHits() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (int i = 0; i < patterns.size(); i++) {
+                result.merge(patterns.get(i).pattern(), hits.get(i), Long::sum);
+            }
+            return Collections.unmodifiableMap(result);
+        }
+
+        private static boolean anyFound(boolean[] found) {
+            for (boolean f : found) {
+                if (f) {
+                    return true;
+                }
+            }
+            return false;
         }
-        return false;
     }
 }
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LiteralPrefilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LiteralPrefilterTest {
+
+    @Test
+    public void testPlainText() {
+        assertEquals("ERROR", LiteralPrefilter.requiredLiteral("ERROR"));
+        assertEquals("Exception in thread", LiteralPrefilter.requiredLiteral("Exception in thread"));
+        assertNull(LiteralPrefilter.requiredLiteral(""));
+    }
+
+    @Test
+    public void testQuantifiers() {
+        assertEquals("ERRO", LiteralPrefilter.requiredLiteral("ERROR?"));
+        assertEquals("ERRO", LiteralPrefilter.requiredLiteral("ERROR*"));
+        assertEquals("ERRO", LiteralPrefilter.requiredLiteral("ERROR+"));
+        assertEquals("ERRO", LiteralPrefilter.requiredLiteral("ERROR{2}"));
+        assertEquals("ERRO", LiteralPrefilter.requiredLiteral("ERROR{2,}"));
+        assertEquals("warn", LiteralPrefilter.requiredLiteral("ab*warn"));
+        assertEquals("warn", LiteralPrefilter.requiredLiteral("ab*?warn"));
+        assertEquals("warn", LiteralPrefilter.requiredLiteral("ab++warn"));
+        assertEquals("warn", LiteralPrefilter.requiredLiteral("ab{1,3}?warn"));
+        assertNull(LiteralPrefilter.requiredLiteral("a*"));
+        assertNull(LiteralPrefilter.requiredLiteral("a{"));
+    }
+
+    @Test
+    public void testQuantifiedSurrogatePair() {
+        assertEquals("ab", LiteralPrefilter.requiredLiteral("ab😀+"));
+        assertEquals("ab😀", LiteralPrefilter.requiredLiteral("ab😀"));
+    }
+
+    @Test
+    public void testWildcardsAndAnchors() {
+        assertEquals("failed", LiteralPrefilter.requiredLiteral("^.*failed.*$"));
+        assertEquals("timeout", LiteralPrefilter.requiredLiteral("io.timeout"));
+    }
+
+    @Test
+    public void testEscapes() {
+        assertEquals("a.b", LiteralPrefilter.requiredLiteral("a\\.b"));
+        assertEquals("(x)", LiteralPrefilter.requiredLiteral("\\(x\\)"));
+        assertEquals("a\\b", LiteralPrefilter.requiredLiteral("a\\\\b"));
+        assertEquals("ab", LiteralPrefilter.requiredLiteral("ab\\.+"));
+        // escapes with a special meaning end the literal
+        assertEquals("value ", LiteralPrefilter.requiredLiteral("value \\d+"));
+        assertNull(LiteralPrefilter.requiredLiteral("\\d+ items"));
+        assertNull(LiteralPrefilter.requiredLiteral("\\bword\\b"));
+    }
+
+    @Test
+    public void testCharacterClasses() {
+        assertEquals("rror", LiteralPrefilter.requiredLiteral("[Ee]rror"));
+        assertEquals("code", LiteralPrefilter.requiredLiteral("x[^abc]code"));
+        assertEquals("after", LiteralPrefilter.requiredLiteral("[]a]after"));
+        assertEquals("after", LiteralPrefilter.requiredLiteral("[^]a]after"));
+        assertEquals("after", LiteralPrefilter.requiredLiteral("[a-z&&[^x]]after"));
+        assertEquals("after", LiteralPrefilter.requiredLiteral("[\\]]after"));
+        assertEquals("ab", LiteralPrefilter.requiredLiteral("ab[cd]*"));
+    }
+
+    @Test
+    public void testGroups() {
+        assertEquals("failed", LiteralPrefilter.requiredLiteral("(a|b)failed"));
+        assertEquals("failed", LiteralPrefilter.requiredLiteral("(?:x(y)z)?failed"));
+        assertEquals("failed", LiteralPrefilter.requiredLiteral("(?<name>[(]x)failed"));
+        assertEquals("ERROR", LiteralPrefilter.requiredLiteral("ERROR(.*)"));
+        assertNull(LiteralPrefilter.requiredLiteral("(unclosed"));
+    }
+
+    @Test
+    public void testQuoting() {
+        assertNull(LiteralPrefilter.requiredLiteral("\\Qa.b\\E"));
+        assertEquals("pre", LiteralPrefilter.requiredLiteral("pre\\Qa.b\\E"));
+        assertNull(LiteralPrefilter.requiredLiteral("x(\\Q)\\E)y"));
+    }
+
+    @Test
+    public void testEmbeddedFlags() {
+        assertNull(LiteralPrefilter.requiredLiteral("(?i)error"));
+        assertNull(LiteralPrefilter.requiredLiteral("warning(?i)error"));
+        assertNull(LiteralPrefilter.requiredLiteral("(?x) a b c"));
+        assertNull(LiteralPrefilter.requiredLiteral("(?-i)error"));
+        assertNull(LiteralPrefilter.requiredLiteral("(?i:e)rror"));
+    }
+
+    @Test
+    public void testAlternation() {
+        assertNull(LiteralPrefilter.requiredLiteral("error|warning"));
+    }
+
+    @Test
+    public void testScan() {
+        List<@Nullable String> literals = Arrays.asList("he", "she", null, "hers", "his", "äö");
+        LiteralPrefilter prefilter = new LiteralPrefilter(literals);
+
+        assertArrayEquals(new boolean[] { true, true, false, true, false, false }, prefilter.scan("ushers"));
+        assertArrayEquals(new boolean[] { false, false, false, false, true, false }, prefilter.scan("this"));
+        assertArrayEquals(new boolean[] { false, false, false, false, false, true }, prefilter.scan("xäöy"));
+        assertArrayEquals(new boolean[6], prefilter.scan(""));
+        assertArrayEquals(new boolean[6], prefilter.scan("h e s"));
+    }
+
+    @Test
+    public void testScanWithoutLiterals() {
+        assertArrayEquals(new boolean[0], new LiteralPrefilter(List.of()).scan("anything"));
+        assertArrayEquals(new boolean[1], new LiteralPrefilter(Arrays.asList((String) null)).scan("anything"));
+    }
+}
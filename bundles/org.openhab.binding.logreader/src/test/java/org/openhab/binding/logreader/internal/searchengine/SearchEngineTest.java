@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SearchEngine}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SearchEngineTest {
+    private static final String[] PATTERN_PARTS = { "a", "b", "c", "ab", "ba", ".", "\\.", "x*", "b+", "c?", "a{2}",
+            "[ab]", "[^c]", "(ab)?", "(?:ca)", "\\d", "\\s", "^", "$", "(?i)a", "\\Qa.\\E", "ä", ".*" };
+    private static final String LINE_CHARACTERS = "abcABx.1 ä";
+
+    @Test
+    public void testMatching() {
+        SearchEngine engine = new SearchEngine("ERROR|WARN(ING)?", "ignored");
+
+        assertTrue(engine.isMatching("12:00 ERROR something failed"));
+        assertTrue(engine.isMatching("12:00 WARN something odd"));
+        assertFalse(engine.isMatching("12:00 INFO all fine"));
+        assertFalse(engine.isMatching("12:00 ERROR can be ignored"));
+        assertEquals(2, engine.getMatchCount());
+        assertEquals(2L, engine.getPatternHits().get("ERROR"));
+        assertEquals(1L, engine.getPatternHits().get("WARN(ING)?"));
+        assertEquals(1L, engine.getBlacklistingPatternHits().get("ignored"));
+    }
+
+    @Test
+    public void testNoPatterns() {
+        SearchEngine engine = new SearchEngine("", null);
+
+        assertFalse(engine.isMatching("anything"));
+        assertTrue(engine.getPatternHits().isEmpty());
+    }
+
+    @Test
+    public void testPrefilteredMatchingIsSameAsFind() {
+        Random random = new Random(4711);
+        for (int round = 0; round < 2000; round++) {
+            List<String> patterns = randomPatterns(random);
+            @Nullable List<String> blacklistingPatterns = random.nextBoolean() ? randomPatterns(random) : null;
+            SearchEngine engine;
+            try {
+                engine = new SearchEngine(String.join("|", patterns),
+                        blacklistingPatterns == null ? null : String.join("|", blacklistingPatterns));
+            } catch (PatternSyntaxException e) {
+                continue;
+            }
+            List<Pattern> compiled = patterns.stream().map(Pattern::compile).collect(Collectors.toList());
+            List<Pattern> blacklisting = blacklistingPatterns == null ? List.of()
+                    : blacklistingPatterns.stream().map(Pattern::compile).collect(Collectors.toList());
+            for (int i = 0; i < 20; i++) {
+                String line = randomLine(random);
+                boolean expected = compiled.stream().anyMatch(p -> p.matcher(line).find())
+                        && blacklisting.stream().noneMatch(p -> p.matcher(line).find());
+                assertEquals(expected, engine.isMatching(line),
+                        () -> "patterns " + patterns + ", blacklisting " + blacklistingPatterns + ", line " + line);
+            }
+        }
+    }
+
+    private static List<String> randomPatterns(Random random) {
+        List<String> patterns = new ArrayList<>();
+        int count = 1 + random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            StringBuilder pattern = new StringBuilder();
+            int parts = 1 + random.nextInt(5);
+            for (int j = 0; j < parts; j++) {
+                pattern.append(PATTERN_PARTS[random.nextInt(PATTERN_PARTS.length)]);
+            }
+            patterns.add(pattern.toString());
+        }
+        return patterns;
+    }
+
+    private static String randomLine(Random random) {
+        StringBuilder line = new StringBuilder();
+        int length = random.nextInt(12);
+        for (int i = 0; i < length; i++) {
+            line.append(LINE_CHARACTERS.charAt(random.nextInt(LINE_CHARACTERS.length())));
+        }
+        return line.toString();
+    }
+}
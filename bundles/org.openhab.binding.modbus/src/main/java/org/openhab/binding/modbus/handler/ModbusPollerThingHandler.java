@@ -12,9 +12,13 @@
  */
 package org.openhab.binding.modbus.handler;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -22,6 +26,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.ReadRange;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
@@ -62,6 +68,9 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
      * bridge. This makes sense, as the callback delegates
      * to all child things of this bridge.
      *
+     * With automatic planning, there is one delegator per planned request, delegating only to the child things
+     * reading within the planned range.
+     *
      * @author Sami Salonen - Initial contribution
      *
      */
@@ -69,6 +78,17 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
 
         private volatile @Nullable AtomicStampedValue<PollResult> lastResult;
+        private final @Nullable ReadRange plannedRange;
+        private final @Nullable ModbusReadRequestBlueprint plannedRequest;
+
+        ReadCallbackDelegator() {
+            this(null, null);
+        }
+
+        ReadCallbackDelegator(@Nullable ReadRange plannedRange, @Nullable ModbusReadRequestBlueprint plannedRequest) {
+            this.plannedRange = plannedRange;
+            this.plannedRequest = plannedRequest;
+        }
 
         public synchronized void handleResult(PollResult result) {
             // Ignore all incoming data and errors if configuration is not correct
@@ -101,7 +121,9 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             // Casting to allow registers.orElse(null) below..
             Optional<@Nullable ModbusRegisterArray> registers = (Optional<@Nullable ModbusRegisterArray>) result
                     .getRegisters();
-            lastPolledDataCache.set(registers.orElse(null));
+            if (plannedRange == null) {
+                lastPolledDataCache.set(registers.orElse(null));
+            }
             handleResult(new PollResult(result));
         }
 
@@ -139,7 +161,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             AsyncModbusReadResult result = pollResult.result;
             @Nullable
             AsyncModbusFailure<ModbusReadRequestBlueprint> failure = pollResult.failure;
+            ReadRange range = plannedRange;
             childCallbacks.forEach(handler -> {
+                if (range != null) {
+                    ReadRange childRange = handler.getReadRange();
+                    if (childRange == null || !range.contains(childRange)) {
+                        return;
+                    }
+                }
                 if (result != null) {
                     handler.onReadResult(result);
                 } else if (failure != null) {
@@ -183,6 +212,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
     private final Logger logger = LoggerFactory.getLogger(ModbusPollerThingHandler.class);
 
+    private static final long READ_PLANNING_DELAY_MILLIS = 200;
+
     private static final List<String> SORTED_READ_FUNCTION_CODES = ModbusBindingConstantsInternal.READ_FUNCTION_CODES
             .keySet().stream().sorted().collect(Collectors.toUnmodifiableList());
 
@@ -199,6 +230,13 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
     private @Nullable ModbusReadFunctionCode functionCode;
 
+    private volatile boolean autoPlan;
+    private volatile int maxReadLength;
+    private volatile List<ReadCallbackDelegator> plannedReads = List.of();
+    private final List<PollTask> plannedPollTasks = new ArrayList<>();
+    private final Object readPlanningLock = new Object();
+    private @Nullable ScheduledFuture<?> readPlanningJob;
+
     public ModbusPollerThingHandler(Bridge bridge) {
         super(bridge);
     }
@@ -255,25 +293,35 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 return;
             }
             functionCode = ModbusBindingConstantsInternal.READ_FUNCTION_CODES.get(type);
-            switch (functionCode) {
-                case READ_INPUT_REGISTERS:
-                case READ_MULTIPLE_REGISTERS:
-                    if (config.getLength() > ModbusConstants.MAX_REGISTERS_READ_COUNT) {
-                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
-                                "Maximum of %d registers can be polled at once due to protocol limitations. Length %d is out of bounds.",
-                                ModbusConstants.MAX_REGISTERS_READ_COUNT, config.getLength()));
-                        return;
-                    }
-                    break;
-                case READ_COILS:
-                case READ_INPUT_DISCRETES:
-                    if (config.getLength() > ModbusConstants.MAX_BITS_READ_COUNT) {
-                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
-                                "Maximum of %d coils/discrete inputs can be polled at once due to protocol limitations. Length %d is out of bounds.",
-                                ModbusConstants.MAX_BITS_READ_COUNT, config.getLength()));
-                        return;
-                    }
-                    break;
+            autoPlan = config.isAutoPlan();
+            boolean readingBits = functionCode == ModbusReadFunctionCode.READ_COILS
+                    || functionCode == ModbusReadFunctionCode.READ_INPUT_DISCRETES;
+            int protocolMaxReadLength = readingBits ? ModbusConstants.MAX_BITS_READ_COUNT
+                    : ModbusConstants.MAX_REGISTERS_READ_COUNT;
+            maxReadLength = config.getMaxReadLength() > 0 ? Math.min(config.getMaxReadLength(), protocolMaxReadLength)
+                    : protocolMaxReadLength;
+            // With automatic planning, length only limits the addresses the data things may read from
+            if (!autoPlan) {
+                switch (functionCode) {
+                    case READ_INPUT_REGISTERS:
+                    case READ_MULTIPLE_REGISTERS:
+                        if (config.getLength() > ModbusConstants.MAX_REGISTERS_READ_COUNT) {
+                            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
+                                    "Maximum of %d registers can be polled at once due to protocol limitations. Length %d is out of bounds.",
+                                    ModbusConstants.MAX_REGISTERS_READ_COUNT, config.getLength()));
+                            return;
+                        }
+                        break;
+                    case READ_COILS:
+                    case READ_INPUT_DISCRETES:
+                        if (config.getLength() > ModbusConstants.MAX_BITS_READ_COUNT) {
+                            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
+                                    "Maximum of %d coils/discrete inputs can be polled at once due to protocol limitations. Length %d is out of bounds.",
+                                    ModbusConstants.MAX_BITS_READ_COUNT, config.getLength()));
+                            return;
+                        }
+                        break;
+                }
             }
             cacheMillis = this.config.getCacheMillis();
             registerPollTask();
@@ -307,6 +355,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         if (config == null) {
             return;
         }
+        synchronized (readPlanningLock) {
+            ScheduledFuture<?> job = readPlanningJob;
+            if (job != null) {
+                job.cancel(false);
+            }
+            readPlanningJob = null;
+        }
+        cancelPlannedReads();
         PollTask localPollTask = this.pollTask;
         if (localPollTask != null) {
             logger.debug("Unregistering polling from ModbusManager");
@@ -357,6 +413,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 localFunctionCode, config.getStart(), config.getLength(), config.getMaxTries());
         this.request = localRequest;
 
+        if (autoPlan) {
+            // The requests actually polled are planned once the data things have been initialized
+            logger.debug("Planning read requests from the data things of {}", getThing().getUID());
+            updateStatus(ThingStatus.ONLINE);
+            scheduleReadPlanning();
+            return;
+        }
+
         if (config.getRefresh() <= 0L) {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
@@ -369,6 +433,86 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Plans the read requests again, once the data things have settled. No-op unless automatic planning is enabled.
+     *
+     * Data things call this when their read configuration changes.
+     */
+    public void scheduleReadPlanning() {
+        if (!autoPlan || disposed) {
+            return;
+        }
+        synchronized (readPlanningLock) {
+            ScheduledFuture<?> job = readPlanningJob;
+            if (job != null) {
+                job.cancel(false);
+            }
+            readPlanningJob = scheduler.schedule(this::planReads, READ_PLANNING_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Replaces the planned read requests with the minimal set of requests covering the data read by the data things
+     */
+    private synchronized void planReads() {
+        ModbusReadRequestBlueprint window = request;
+        ModbusCommunicationInterface localComms = comms;
+        if (disposed || !autoPlan || window == null || localComms == null) {
+            return;
+        }
+        cancelPlannedReads();
+
+        List<ReadRange> requested = new ArrayList<>();
+        for (ModbusDataThingHandler child : childCallbacks) {
+            ReadRange range = child.getReadRange();
+            if (range != null) {
+                requested.add(range);
+            }
+        }
+        List<ReadRange> plan = ModbusReadPlanner.plan(requested, maxReadLength, Math.max(0, config.getMaxReadGap()));
+
+        List<ReadCallbackDelegator> delegators = new ArrayList<>(plan.size());
+        for (ReadRange range : plan) {
+            ModbusReadRequestBlueprint plannedRequest = new ModbusReadRequestBlueprint(window.getUnitID(),
+                    window.getFunctionCode(), range.start(), range.length(), config.getMaxTries());
+            ReadCallbackDelegator delegator = new ReadCallbackDelegator(range, plannedRequest);
+            delegators.add(delegator);
+            if (config.getRefresh() > 0L) {
+                plannedPollTasks.add(localComms.registerRegularPoll(plannedRequest, config.getRefresh(), 0, delegator,
+                        delegator));
+            }
+        }
+        plannedReads = delegators;
+
+        int used = ModbusReadPlanner.countUsed(requested);
+        int read = ModbusReadPlanner.countRead(plan);
+        int utilization = read == 0 ? 0 : 100 * used / read;
+        Map<String, String> properties = editProperties();
+        properties.put(ModbusBindingConstantsInternal.PROPERTY_READ_REQUESTS_PER_CYCLE, String.valueOf(plan.size()));
+        properties.put(ModbusBindingConstantsInternal.PROPERTY_ELEMENTS_READ_PER_CYCLE, String.valueOf(read));
+        properties.put(ModbusBindingConstantsInternal.PROPERTY_READ_UTILIZATION, utilization + " %");
+        updateProperties(properties);
+        logger.debug(
+                "Poller {} planned {} read requests per cycle for {} data things: {}. {} elements read, {} used ({} %)",
+                getThing().getUID(), plan.size(), requested.size(), plan, read, used, utilization);
+    }
+
+    private synchronized void cancelPlannedReads() {
+        ModbusCommunicationInterface localComms = comms;
+        if (localComms != null) {
+            plannedPollTasks.forEach(localComms::unregisterRegularPoll);
+        }
+        plannedPollTasks.clear();
+        plannedReads = List.of();
+    }
+
+    /**
+     * @return whether the read requests are planned from the data read by the data things
+     */
+    public boolean isAutoPlan() {
+        return autoPlan;
+    }
+
     private boolean hasConfigurationError() {
         ThingStatusInfo statusInfo = getThing().getStatusInfo();
         return statusInfo.getStatus() == ThingStatus.OFFLINE
@@ -386,6 +530,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
         if (childHandler instanceof ModbusDataThingHandler modbusDataThingHandler) {
             this.childCallbacks.add(modbusDataThingHandler);
+            scheduleReadPlanning();
         }
     }
 
@@ -394,12 +539,16 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
         if (childHandler instanceof ModbusDataThingHandler) {
             this.childCallbacks.remove(childHandler);
+            scheduleReadPlanning();
         }
     }
 
     /**
      * Return {@link ModbusReadRequestBlueprint} represented by this thing.
      *
+     * With automatic planning, the request only defines the addresses the data things may read from, and is not
+     * polled as such.
+     *
      * Note that request might be <code>null</code> in case initialization is not complete.
      *
      * @return modbus request represented by this poller
@@ -423,6 +572,15 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
      * If data or error was just recently received (i.e. cache is fresh), return the cached response.
      */
     public void refresh() {
+        if (autoPlan) {
+            for (ReadCallbackDelegator delegator : plannedReads) {
+                ModbusReadRequestBlueprint plannedRequest = delegator.plannedRequest;
+                if (plannedRequest != null) {
+                    refresh(plannedRequest, delegator);
+                }
+            }
+            return;
+        }
         ModbusReadRequestBlueprint localRequest = this.request;
         if (localRequest == null) {
             return;
@@ -441,10 +599,13 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 }
             }
         }
+        refresh(localRequest, callbackDelegator);
+    }
 
+    private void refresh(ModbusReadRequestBlueprint localRequest, ReadCallbackDelegator delegator) {
         long oldDataThreshold = System.currentTimeMillis() - cacheMillis;
         boolean cacheWasRecentEnoughForUpdate = cacheMillis > 0
-                && this.callbackDelegator.updateChildrenWithOldData(oldDataThreshold);
+                && delegator.updateChildrenWithOldData(oldDataThreshold);
         if (cacheWasRecentEnoughForUpdate) {
             logger.debug(
                     "Poller {} received refresh() and cache was recent enough (age at most {} ms). Reusing old response",
@@ -455,7 +616,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                     getThing().getUID());
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
-                localComms.submitOneTimePoll(localRequest, callbackDelegator, callbackDelegator);
+                localComms.submitOneTimePoll(localRequest, delegator, delegator);
             }
         }
     }
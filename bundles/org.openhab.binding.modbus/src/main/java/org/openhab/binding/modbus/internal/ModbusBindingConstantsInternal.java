@@ -59,6 +59,11 @@ public class ModbusBindingConstantsInternal {
     public static final String[] DATA_CHANNELS_TO_DELEGATE_COMMAND_FROM_READWRITE_TO_WRITE = { CHANNEL_SWITCH,
             CHANNEL_CONTACT, CHANNEL_DATETIME, CHANNEL_DIMMER, CHANNEL_NUMBER, CHANNEL_STRING, CHANNEL_ROLLERSHUTTER };
 
+    // List of poller properties, set with automatic read planning
+    public static final String PROPERTY_READ_REQUESTS_PER_CYCLE = "readRequestsPerCycle";
+    public static final String PROPERTY_ELEMENTS_READ_PER_CYCLE = "elementsReadPerCycle";
+    public static final String PROPERTY_READ_UTILIZATION = "readUtilization";
+
     public static final String WRITE_TYPE_COIL = "coil";
     public static final String WRITE_TYPE_HOLDING = "holding";
 
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Decoder for the value read by a data thing, compiled once from its read configuration.
+ *
+ * The position of the value (byte, bit within the byte, word order) is resolved when compiling, leaving only the
+ * offset of the polled request to be taken into account when decoding. Integer types are decoded directly from the
+ * register bytes, with the same semantics as {@link ModbusBitUtilities#extractStateFromRegisters}. Other types are
+ * delegated to {@link ModbusBitUtilities}, with the index resolved in advance.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public abstract class ModbusReadDecoder {
+
+    private final ValueType valueType;
+
+    private ModbusReadDecoder(ValueType valueType) {
+        this.valueType = valueType;
+    }
+
+    /**
+     * Compile decoder for a value
+     *
+     * @param valueType type of the value
+     * @param readIndex address of the (first) register holding the value
+     * @param readSubIndex index of the value within the register, with types smaller than 16 bits
+     * @return decoder
+     */
+    public static ModbusReadDecoder compile(ValueType valueType, int readIndex, int readSubIndex) {
+        // first byte of the value, and index of the value, relative to the first register
+        int byteIndex = 2 * readIndex;
+        switch (valueType) {
+            case BIT:
+                // bits 0-7 are in the low byte (second byte) of the register
+                return new BitDecoder(valueType, byteIndex + (readSubIndex % 16 >= 8 ? 0 : 1), readSubIndex % 8);
+            case INT8:
+                // even indices are in the low byte (second byte) of the register
+                return new IntegerDecoder(valueType, byteIndex + (readSubIndex % 2 == 1 ? 0 : 1),
+                        (bytes, i) -> bytes[i]);
+            case UINT8:
+                return new IntegerDecoder(valueType, byteIndex + (readSubIndex % 2 == 1 ? 0 : 1),
+                        (bytes, i) -> bytes[i] & 0xff);
+            case INT16:
+                return new IntegerDecoder(valueType, byteIndex, (bytes, i) -> (short) word(bytes, i));
+            case UINT16:
+                return new IntegerDecoder(valueType, byteIndex, ModbusReadDecoder::word);
+            case INT32:
+                return new IntegerDecoder(valueType, byteIndex, (bytes, i) -> (int) dword(bytes, i, i + 2));
+            case UINT32:
+                return new IntegerDecoder(valueType, byteIndex, (bytes, i) -> dword(bytes, i, i + 2));
+            case INT32_SWAP:
+                return new IntegerDecoder(valueType, byteIndex, (bytes, i) -> (int) dword(bytes, i + 2, i));
+            case UINT32_SWAP:
+                return new IntegerDecoder(valueType, byteIndex, (bytes, i) -> dword(bytes, i + 2, i));
+            case INT64:
+                return new IntegerDecoder(valueType, byteIndex,
+                        (bytes, i) -> dword(bytes, i, i + 2) << 32 | dword(bytes, i + 4, i + 6));
+            case INT64_SWAP:
+                return new IntegerDecoder(valueType, byteIndex,
+                        (bytes, i) -> dword(bytes, i + 6, i + 4) << 32 | dword(bytes, i + 2, i));
+            case UINT64:
+                return new UnsignedLongDecoder(valueType, byteIndex,
+                        (bytes, i) -> dword(bytes, i, i + 2) << 32 | dword(bytes, i + 4, i + 6));
+            case UINT64_SWAP:
+                return new UnsignedLongDecoder(valueType, byteIndex,
+                        (bytes, i) -> dword(bytes, i + 6, i + 4) << 32 | dword(bytes, i + 2, i));
+            default:
+                return new GenericDecoder(valueType, readIndex);
+        }
+    }
+
+    /**
+     * Decode the value from the registers of a read request
+     *
+     * @param registers registers received
+     * @param reference address of the first register received
+     * @return decoded value, or {@link UnDefType#UNDEF} with floating point NaN or infinity
+     */
+    public abstract State decode(ModbusRegisterArray registers, int reference);
+
+    public ValueType getValueType() {
+        return valueType;
+    }
+
+    private static long word(byte[] bytes, int i) {
+        return (bytes[i] & 0xff) << 8 | (bytes[i + 1] & 0xff);
+    }
+
+    private static long dword(byte[] bytes, int hiWord, int loWord) {
+        return word(bytes, hiWord) << 16 | word(bytes, loWord);
+    }
+
+    @FunctionalInterface
+    private interface LongExtractor {
+        long extract(byte[] bytes, int byteIndex);
+    }
+
+    private static class BitDecoder extends ModbusReadDecoder {
+        private final int byteIndex;
+        private final int shift;
+
+        private BitDecoder(ValueType valueType, int byteIndex, int shift) {
+            super(valueType);
+            this.byteIndex = byteIndex;
+            this.shift = shift;
+        }
+
+        @Override
+        public State decode(ModbusRegisterArray registers, int reference) {
+            return new DecimalType((registers.getBytes()[byteIndex - 2 * reference] >>> shift) & 1);
+        }
+    }
+
+    private static class IntegerDecoder extends ModbusReadDecoder {
+        private final int byteIndex;
+        private final LongExtractor extractor;
+
+        private IntegerDecoder(ValueType valueType, int byteIndex, LongExtractor extractor) {
+            super(valueType);
+            this.byteIndex = byteIndex;
+            this.extractor = extractor;
+        }
+
+        @Override
+        public State decode(ModbusRegisterArray registers, int reference) {
+            return new DecimalType(extractor.extract(registers.getBytes(), byteIndex - 2 * reference));
+        }
+    }
+
+    private static class UnsignedLongDecoder extends ModbusReadDecoder {
+        private final int byteIndex;
+        private final LongExtractor extractor;
+
+        private UnsignedLongDecoder(ValueType valueType, int byteIndex, LongExtractor extractor) {
+            super(valueType);
+            this.byteIndex = byteIndex;
+            this.extractor = extractor;
+        }
+
+        @Override
+        public State decode(ModbusRegisterArray registers, int reference) {
+            long value = extractor.extract(registers.getBytes(), byteIndex - 2 * reference);
+            return value >= 0 ? new DecimalType(value)
+                    : new DecimalType(new BigDecimal(new BigInteger(Long.toUnsignedString(value))));
+        }
+    }
+
+    private static class GenericDecoder extends ModbusReadDecoder {
+        private final int readIndex;
+
+        private GenericDecoder(ValueType valueType, int readIndex) {
+            super(valueType);
+            this.readIndex = readIndex;
+        }
+
+        @Override
+        public State decode(ModbusRegisterArray registers, int reference) {
+            return ModbusBitUtilities.extractStateFromRegisters(registers, readIndex - reference, getValueType())
+                    .map(state -> (State) state).orElse(UnDefType.UNDEF);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Plans the read requests of a poller from the data requested by its data things.
+ *
+ * The requested ranges are merged into as few requests as possible. Two ranges end up in the same request when the
+ * number of unused elements between them is at most the allowed gap, and the merged request does not exceed the
+ * maximum request length.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlanner {
+
+    /**
+     * Range of registers, coils or discrete inputs
+     *
+     * @param start address of the first element, as zero-based index number
+     * @param length number of elements
+     */
+    public record ReadRange(int start, int length) {
+
+        /**
+         * @return address after the last element of this range
+         */
+        public int end() {
+            return start + length;
+        }
+
+        /**
+         * @return whether the given range lies completely within this range
+         */
+        public boolean contains(ReadRange other) {
+            return other.start >= start && other.end() <= end();
+        }
+    }
+
+    private ModbusReadPlanner() {
+    }
+
+    /**
+     * Computes the minimal set of read requests covering all the requested ranges
+     *
+     * @param requested ranges read by the data things, possibly overlapping and in any order
+     * @param maxLength maximum number of elements read by a single request
+     * @param maxGap maximum number of unused elements that may be read to merge two ranges into one request
+     * @return requests to be polled, ordered by address
+     */
+    public static List<ReadRange> plan(Collection<ReadRange> requested, int maxLength, int maxGap) {
+        List<ReadRange> sorted = new ArrayList<>(requested);
+        sorted.sort(Comparator.comparingInt(ReadRange::start).thenComparingInt(ReadRange::length));
+
+        List<ReadRange> plan = new ArrayList<>();
+        int start = -1;
+        int end = -1;
+        for (ReadRange range : sorted) {
+            if (start >= 0 && range.start() - end <= maxGap && Math.max(end, range.end()) - start <= maxLength) {
+                end = Math.max(end, range.end());
+                continue;
+            }
+            if (start >= 0) {
+                plan.add(new ReadRange(start, end - start));
+            }
+            start = range.start();
+            end = range.end();
+        }
+        if (start >= 0) {
+            plan.add(new ReadRange(start, end - start));
+        }
+        return plan;
+    }
+
+    /**
+     * Counts the elements actually used by the data things, elements requested several times being counted once
+     *
+     * @param requested ranges read by the data things
+     * @return number of distinct elements in the requested ranges
+     */
+    public static int countUsed(Collection<ReadRange> requested) {
+        List<ReadRange> sorted = new ArrayList<>(requested);
+        sorted.sort(Comparator.comparingInt(ReadRange::start));
+        int used = 0;
+        int coveredUntil = Integer.MIN_VALUE;
+        for (ReadRange range : sorted) {
+            int from = Math.max(range.start(), coveredUntil);
+            if (range.end() > from) {
+                used += range.end() - from;
+                coveredUntil = range.end();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * @return total number of elements read by the given requests
+     */
+    public static int countRead(Collection<ReadRange> plan) {
+        return plan.stream().mapToInt(ReadRange::length).sum();
+    }
+}
@@ -29,6 +29,9 @@ public class ModbusPollerConfiguration {
     private @Nullable String type;
     private int maxTries = 3;// backwards compatibility and tests
     private long cacheMillis = 50L;
+    private boolean autoPlan;
+    private int maxReadLength;
+    private int maxReadGap = 10;
 
     /**
      * Gets refresh period in milliseconds
@@ -115,4 +118,51 @@ public class ModbusPollerConfiguration {
     public void setCacheMillis(long cacheMillis) {
         this.cacheMillis = cacheMillis;
     }
+
+    /**
+     * Gets whether read requests are planned from the data requested by the child things.
+     *
+     * With automatic planning, start and length only define the address window the child things may read from.
+     */
+    public boolean isAutoPlan() {
+        return autoPlan;
+    }
+
+    /**
+     * Sets whether read requests are planned from the data requested by the child things.
+     */
+    public void setAutoPlan(boolean autoPlan) {
+        this.autoPlan = autoPlan;
+    }
+
+    /**
+     * Gets maximum number of registers, coils or discrete inputs read by a single planned request. Zero means the
+     * protocol limit.
+     */
+    public int getMaxReadLength() {
+        return maxReadLength;
+    }
+
+    /**
+     * Sets maximum number of registers, coils or discrete inputs read by a single planned request.
+     */
+    public void setMaxReadLength(int maxReadLength) {
+        this.maxReadLength = maxReadLength;
+    }
+
+    /**
+     * Gets maximum number of unused registers, coils or discrete inputs that may be read to merge two planned
+     * requests into one.
+     */
+    public int getMaxReadGap() {
+        return maxReadGap;
+    }
+
+    /**
+     * Sets maximum number of unused registers, coils or discrete inputs that may be read to merge two planned
+     * requests into one.
+     */
+    public void setMaxReadGap(int maxReadGap) {
+        this.maxReadGap = maxReadGap;
+    }
 }
@@ -17,6 +17,7 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +36,8 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.CascadedValueTransformationImpl;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusReadDecoder;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.ReadRange;
 import org.openhab.binding.modbus.internal.SingleValueTransformation;
 import org.openhab.binding.modbus.internal.ValueTransformation;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
@@ -78,7 +81,6 @@ import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
-import org.openhab.core.types.UnDefType;
 import org.openhab.core.util.HexUtils;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
@@ -130,6 +132,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     //
     private volatile @Nullable ModbusDataConfiguration config;
     private volatile @Nullable ValueType readValueType;
+    private volatile @Nullable ModbusReadDecoder readDecoder;
     private volatile @Nullable ValueType writeValueType;
     private volatile @Nullable CascadedValueTransformationImpl readTransformation;
     private volatile @Nullable CascadedValueTransformationImpl writeTransformation;
@@ -142,6 +145,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable ModbusReadFunctionCode functionCode;
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
     private volatile long updateUnchangedValuesEveryMillis;
+    private volatile long updateTimestampsEveryMillis;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
@@ -151,6 +155,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    // Raw data behind the last update of the data channels, to skip decoding and transforming unchanged data
+    private volatile byte @Nullable [] lastReadRegisters;
+    private volatile @Nullable Boolean lastReadBit;
+    private volatile long lastReadValueUpdateMillis;
+    private volatile long lastReadSuccessUpdateMillis;
+    private volatile long lastWriteSuccessUpdateMillis;
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -180,6 +190,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             // We *schedule* the REFRESH to avoid dead-lock situation where poller is trying update this
             // data thing with cached data (resulting in deadlock in two synchronized methods: this (handleCommand) and
             // onRegisters.
+            resetLastReadData();
             scheduler.schedule(() -> poller.refresh(), 0, TimeUnit.SECONDS);
             return;
         } else if (hasConfigurationError()) {
@@ -403,6 +414,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             logger.trace("initialize() of thing {} '{}' starting", thing.getUID(), thing.getLabel());
             ModbusDataConfiguration localConfig = config = getConfigAs(ModbusDataConfiguration.class);
             updateUnchangedValuesEveryMillis = localConfig.getUpdateUnchangedValuesEveryMillis();
+            updateTimestampsEveryMillis = localConfig.getUpdateTimestampsEveryMillis();
             Bridge bridge = getBridge();
             if (bridge == null || !bridge.getStatus().equals(ThingStatus.ONLINE)) {
                 logger.debug("Thing {} '{}' has no bridge or it is not online", getThing().getUID(),
@@ -447,6 +459,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             validateMustReadOrWrite();
 
             updateStatusIfChanged(ThingStatus.ONLINE);
+            ModbusPollerThingHandler localPollerHandler = pollerHandler;
+            if (localPollerHandler != null) {
+                localPollerHandler.scheduleReadPlanning();
+            }
         } catch (ModbusConfigurationException | EndpointNotInitializedException e) {
             logger.debug("Thing {} '{}' initialization error: {}", getThing().getUID(), getThing().getLabel(),
                     e.getMessage());
@@ -460,6 +476,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     public synchronized void dispose() {
         config = null;
         readValueType = null;
+        readDecoder = null;
         writeValueType = null;
         readTransformation = null;
         writeTransformation = null;
@@ -482,6 +499,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        resetLastReadData();
+        lastReadSuccessUpdateMillis = 0L;
+        lastWriteSuccessUpdateMillis = 0L;
     }
 
     @Override
@@ -491,6 +511,26 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         this.initialize();
     }
 
+    /**
+     * Return the data elements (registers, coils or discrete inputs) read by this thing.
+     *
+     * Used by pollers planning the reads automatically.
+     *
+     * @return range read by this thing, or <code>null</code> in case the thing does not read anything or has invalid
+     *         configuration
+     */
+    public @Nullable ReadRange getReadRange() {
+        ValueType readValueType = this.readValueType;
+        Optional<Integer> readIndex = this.readIndex;
+        if (!isReadEnabled || readValueType == null || readIndex.isEmpty() || hasConfigurationError()) {
+            return null;
+        }
+        ModbusReadFunctionCode functionCode = this.functionCode;
+        boolean readingBits = functionCode == ModbusReadFunctionCode.READ_COILS
+                || functionCode == ModbusReadFunctionCode.READ_INPUT_DISCRETES;
+        return new ReadRange(readIndex.get(), readingBits ? 1 : Math.max(1, readValueType.getBits() / 16));
+    }
+
     private boolean hasConfigurationError() {
         ThingStatusInfo statusInfo = getThing().getStatusInfo();
         return statusInfo.getStatus() == ThingStatus.OFFLINE
@@ -571,6 +611,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                         config.getReadStart());
                 throw new ModbusConfigurationException(errmsg);
             }
+            ValueType localReadValueType = readValueType;
+            if (localReadValueType != null) {
+                readDecoder = ModbusReadDecoder.compile(localReadValueType, readIndex.get(), readSubIndex.orElse(0));
+            }
         }
         readTransformation = new CascadedValueTransformationImpl(config.getReadTransform());
         validateReadIndex();
@@ -678,6 +722,13 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                             getThing().getUID());
                     throw new ModbusConfigurationException(errmsg);
                 }
+                ModbusPollerThingHandler localPollerHandler = pollerHandler;
+                if (localPollerHandler != null && localPollerHandler.isAutoPlan()) {
+                    String errmsg = String.format(
+                            "Thing %s invalid. writeStart=X.Y is not supported with pollers planning the reads automatically (autoPlan=true).",
+                            getThing().getUID());
+                    throw new ModbusConfigurationException(errmsg);
+                }
             }
             validateWriteIndex();
         } else {
@@ -811,38 +862,27 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         ValueType readValueType = this.readValueType;
-        if (readValueType == null) {
+        ModbusReadDecoder readDecoder = this.readDecoder;
+        if (readValueType == null || readDecoder == null) {
             return;
         }
         State numericState;
 
-        // extractIndex:
-        // e.g. with bit, extractIndex=4 means 5th bit (from right) ("10.4" -> 5th bit of register 10, "10.4" -> 5th bit
-        // of register 10)
-        // bit of second register)
-        // e.g. with 8bit integer, extractIndex=3 means high byte of second register
-        //
-        // with <16 bit types, this is the index of the N'th 1-bit/8-bit item. Each register has 16/2 items,
-        // respectively.
-        // with >=16 bit types, this is index of first register
-        int extractIndex;
-        if (readValueType.getBits() >= 16) {
-            // Invariant, checked in initialize
-            assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
-        } else {
-            int subIndex = readSubIndex.orElse(0);
-            int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+        long now = System.currentTimeMillis();
+        if (isReadRegistersUnchanged(registers, readIndex.get() - request.getReference(),
+                Math.max(1, readValueType.getBits() / 16), now)) {
+            updateReadSuccess(now);
+            logger.trace("Thing {} registers unchanged since last update, not updating data channels. Registers {}",
+                    thing.getUID(), registers);
+            return;
         }
-        numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
-                .map(state -> (State) state).orElse(UnDefType.UNDEF);
+        numericState = readDecoder.decode(registers, request.getReference());
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
-                "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
-                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
-                boolValue, registers, request);
+                "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={} -> numeric value {} and boolValue={}. Registers {} for request {}",
+                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), numericState, boolValue,
+                registers, request);
     }
 
     private synchronized void onBits(ModbusReadRequestBlueprint request, BitArray bits) {
@@ -851,7 +891,14 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
-        boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        boolean boolValue = bits.getBit(readIndex.get() - request.getReference());
+        long now = System.currentTimeMillis();
+        if (isReadBitUnchanged(boolValue, now)) {
+            updateReadSuccess(now);
+            logger.trace("Thing {} bit unchanged since last update, not updating data channels. Bits {}",
+                    thing.getUID(), bits);
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -877,6 +924,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                     getThing().getUID(), getThing().getLabel(), error.getClass().getName(), error.toString(),
                     error.getMessage(), error);
         }
+        resetLastReadData();
         Map<ChannelUID, State> states = new HashMap<>();
         ChannelUID lastReadErrorUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_ERROR);
         if (isLinked(lastReadErrorUID)) {
@@ -940,9 +988,83 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         logger.debug("Successful write, matching request {}", result.getRequest());
         updateStatusIfChanged(ThingStatus.ONLINE);
         ChannelUID lastWriteSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_WRITE_SUCCESS);
-        if (isLinked(lastWriteSuccessUID)) {
+        long now = System.currentTimeMillis();
+        if (isLinked(lastWriteSuccessUID) && isTimestampExpired(lastWriteSuccessUpdateMillis, now)) {
             updateState(lastWriteSuccessUID, new DateTimeType());
+            lastWriteSuccessUpdateMillis = now;
+        }
+    }
+
+    /**
+     * Check whether the registers read by this thing are the same as with the last update of the data channels.
+     *
+     * Unchanged data is not decoded nor transformed again, until the data channels need to be updated anyways (see
+     * updateUnchangedValuesEveryMillis).
+     *
+     * @param registers registers received
+     * @param firstRegister index of the first register read by this thing, relative to the received registers
+     * @param registerCount number of registers read by this thing
+     * @param now current time, in milliseconds
+     * @return whether updating the data channels can be skipped
+     */
+    private boolean isReadRegistersUnchanged(ModbusRegisterArray registers, int firstRegister, int registerCount,
+            long now) {
+        int from = firstRegister * 2;
+        int to = Math.min(from + registerCount * 2, registers.size() * 2);
+        if (from < 0 || from >= to) {
+            return false;
+        }
+        byte[] bytes = registers.getBytes();
+        byte @Nullable [] lastBytes = lastReadRegisters;
+        if (lastBytes != null && isLastReadValueFresh(now)
+                && Arrays.equals(lastBytes, 0, lastBytes.length, bytes, from, to)) {
+            return true;
+        }
+        lastReadRegisters = Arrays.copyOfRange(bytes, from, to);
+        lastReadValueUpdateMillis = now;
+        return false;
+    }
+
+    private boolean isReadBitUnchanged(boolean bit, long now) {
+        Boolean lastBit = lastReadBit;
+        if (lastBit != null && isLastReadValueFresh(now) && lastBit.booleanValue() == bit) {
+            return true;
         }
+        lastReadBit = bit;
+        lastReadValueUpdateMillis = now;
+        return false;
+    }
+
+    private boolean isLastReadValueFresh(long now) {
+        return updateUnchangedValuesEveryMillis > 0L
+                && now - lastReadValueUpdateMillis <= updateUnchangedValuesEveryMillis;
+    }
+
+    private void resetLastReadData() {
+        lastReadRegisters = null;
+        lastReadBit = null;
+        lastReadValueUpdateMillis = 0L;
+    }
+
+    private boolean isTimestampExpired(long lastUpdateMillis, long now) {
+        return updateTimestampsEveryMillis <= 0L || now - lastUpdateMillis >= updateTimestampsEveryMillis;
+    }
+
+    /**
+     * Update the lastReadSuccess channel, at most once every updateTimestampsEveryMillis
+     *
+     * @return updated state, or <code>null</code> if the channel was not updated
+     */
+    private @Nullable State updateReadSuccess(long now) {
+        updateStatusIfChanged(ThingStatus.ONLINE);
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (!isLinked(lastReadSuccessUID) || !isTimestampExpired(lastReadSuccessUpdateMillis, now)) {
+            return null;
+        }
+        State state = new DateTimeType();
+        tryUpdateState(lastReadSuccessUID, state);
+        lastReadSuccessUpdateMillis = now;
+        return state;
     }
 
     /**
@@ -1013,11 +1135,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             }
         });
 
-        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
-        if (isLinked(lastReadSuccessUID)) {
-            states.put(lastReadSuccessUID, new DateTimeType());
-        }
+        // All channels of the thing are updated at once, followed by the (possibly throttled) timestamp
         updateExpiredChannels(states);
+        State lastReadSuccess = updateReadSuccess(System.currentTimeMillis());
+        if (lastReadSuccess != null) {
+            states.put(getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS), lastReadSuccess);
+        }
         return states;
     }
 
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadDecoderTest {
+
+    private static final int REGISTER_COUNT = 8;
+
+    private static State expected(ModbusRegisterArray registers, int readIndex, int readSubIndex, int reference,
+            ValueType valueType) {
+        int extractIndex = valueType.getBits() >= 16 ? readIndex - reference
+                : (readIndex - reference) * 16 / valueType.getBits() + readSubIndex;
+        return ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, valueType)
+                .map(state -> (State) state).orElse(UnDefType.UNDEF);
+    }
+
+    @Test
+    public void testSameAsBitUtilities() {
+        Random random = new Random(42);
+        for (int round = 0; round < 100; round++) {
+            byte[] bytes = new byte[REGISTER_COUNT * 2];
+            random.nextBytes(bytes);
+            ModbusRegisterArray registers = new ModbusRegisterArray(bytes);
+            int reference = random.nextInt(1000);
+            for (ValueType valueType : ValueType.values()) {
+                int registersPerValue = Math.max(1, valueType.getBits() / 16);
+                int subIndices = valueType.getBits() >= 16 ? 1 : 16 / valueType.getBits();
+                for (int index = 0; index + registersPerValue <= REGISTER_COUNT; index++) {
+                    for (int subIndex = 0; subIndex < subIndices; subIndex++) {
+                        ModbusReadDecoder decoder = ModbusReadDecoder.compile(valueType, reference + index, subIndex);
+                        assertThat(valueType + " at " + index + "." + subIndex, decoder.decode(registers, reference),
+                                is(equalTo(expected(registers, reference + index, subIndex, reference, valueType))));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testKnownValues() {
+        ModbusRegisterArray registers = new ModbusRegisterArray(0xFFFE, 0x1234, 0x8001);
+        assertThat(ModbusReadDecoder.compile(ValueType.INT16, 10, 0).decode(registers, 10),
+                is(equalTo(new DecimalType(-2))));
+        assertThat(ModbusReadDecoder.compile(ValueType.UINT16, 10, 0).decode(registers, 10),
+                is(equalTo(new DecimalType(0xFFFE))));
+        assertThat(ModbusReadDecoder.compile(ValueType.INT8, 11, 0).decode(registers, 10),
+                is(equalTo(new DecimalType(0x34))));
+        assertThat(ModbusReadDecoder.compile(ValueType.INT8, 11, 1).decode(registers, 10),
+                is(equalTo(new DecimalType(0x12))));
+        assertThat(ModbusReadDecoder.compile(ValueType.BIT, 12, 0).decode(registers, 10),
+                is(equalTo(new DecimalType(1))));
+        assertThat(ModbusReadDecoder.compile(ValueType.BIT, 12, 15).decode(registers, 10),
+                is(equalTo(new DecimalType(1))));
+        assertThat(ModbusReadDecoder.compile(ValueType.BIT, 12, 1).decode(registers, 10),
+                is(equalTo(new DecimalType(0))));
+        assertThat(ModbusReadDecoder.compile(ValueType.UINT32, 11, 0).decode(registers, 10),
+                is(equalTo(new DecimalType(0x12348001L))));
+        assertThat(ModbusReadDecoder.compile(ValueType.UINT32_SWAP, 11, 0).decode(registers, 10),
+                is(equalTo(new DecimalType(0x80011234L))));
+        assertThat(ModbusReadDecoder.compile(ValueType.INT32_SWAP, 11, 0).decode(registers, 10),
+                is(equalTo(new DecimalType((int) 0x80011234L))));
+    }
+
+    @Test
+    public void testDifferentRequests() {
+        ModbusReadDecoder decoder = ModbusReadDecoder.compile(ValueType.UINT16, 5, 0);
+        assertThat(decoder.decode(new ModbusRegisterArray(0, 7), 4), is(equalTo(new DecimalType(7))));
+        assertThat(decoder.decode(new ModbusRegisterArray(9), 5), is(equalTo(new DecimalType(9))));
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.ReadRange;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlannerTest {
+
+    @Test
+    public void testNothingRequested() {
+        assertThat(ModbusReadPlanner.plan(List.of(), 125, 10), is(equalTo(List.of())));
+    }
+
+    @Test
+    public void testAdjacentAndOverlappingRangesAreMerged() {
+        List<ReadRange> plan = ModbusReadPlanner.plan(
+                List.of(new ReadRange(12, 2), new ReadRange(10, 2), new ReadRange(13, 4), new ReadRange(10, 1)), 125,
+                0);
+        assertThat(plan, is(equalTo(List.of(new ReadRange(10, 7)))));
+    }
+
+    @Test
+    public void testGapTolerance() {
+        List<ReadRange> requested = List.of(new ReadRange(0, 2), new ReadRange(5, 1), new ReadRange(20, 2));
+        assertThat(ModbusReadPlanner.plan(requested, 125, 3),
+                is(equalTo(List.of(new ReadRange(0, 6), new ReadRange(20, 2)))));
+        assertThat(ModbusReadPlanner.plan(requested, 125, 2),
+                is(equalTo(List.of(new ReadRange(0, 2), new ReadRange(5, 1), new ReadRange(20, 2)))));
+        assertThat(ModbusReadPlanner.plan(requested, 125, 18), is(equalTo(List.of(new ReadRange(0, 22)))));
+    }
+
+    @Test
+    public void testMaxLengthSplitsRequests() {
+        List<ReadRange> requested = List.of(new ReadRange(0, 2), new ReadRange(100, 2), new ReadRange(124, 2),
+                new ReadRange(200, 4));
+        List<ReadRange> plan = ModbusReadPlanner.plan(requested, 125, 100);
+        assertThat(plan, is(equalTo(List.of(new ReadRange(0, 102), new ReadRange(124, 80)))));
+        for (ReadRange request : plan) {
+            assertThat(request.length() <= 125, is(true));
+        }
+        for (ReadRange range : requested) {
+            assertThat(plan.stream().anyMatch(request -> request.contains(range)), is(true));
+        }
+    }
+
+    @Test
+    public void testUtilization() {
+        List<ReadRange> requested = List.of(new ReadRange(0, 2), new ReadRange(1, 2), new ReadRange(10, 4));
+        List<ReadRange> plan = ModbusReadPlanner.plan(requested, 125, 10);
+        assertThat(ModbusReadPlanner.countUsed(requested), is(equalTo(7)));
+        assertThat(ModbusReadPlanner.countRead(plan), is(equalTo(14)));
+    }
+}
@@ -12,7 +12,6 @@
  */
 package org.openhab.binding.mqtt.generic;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.IllegalFormatException;
 import java.util.List;
@@ -63,6 +62,7 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
     private final Object futureLock = new Object();
+    private @Nullable TopicMessageDispatcher dispatcher;
 
     /**
      * Creates a new channel state.
@@ -149,6 +149,17 @@ public class ChannelState implements MqttMessageSubscriber {
         return channelUID;
     }
 
+    /**
+     * Set a dispatcher that subscribes to the state topic on behalf of this and other channel states,
+     * so that a received message is only decoded and parsed once. Must be set before
+     * {@link #start(MqttBrokerConnection, ScheduledExecutorService, int)} is called.
+     *
+     * @param dispatcher A dispatcher for the state topic or <code>null</code> to subscribe directly
+     */
+    public void setDispatcher(@Nullable TopicMessageDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
     /**
      * Incoming message from the MqttBrokerConnection
      *
@@ -157,6 +168,16 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     @Override
     public void processMessage(String topic, byte[] payload) {
+        processMessage(topic, new IncomingMessage(payload));
+    }
+
+    /**
+     * Incoming message, possibly shared with other channel states on the same topic.
+     *
+     * @param topic The topic. Is the same as the field stateTopic.
+     * @param message The received message
+     */
+    public void processMessage(String topic, IncomingMessage message) {
         final ChannelStateUpdateListener channelStateUpdateListener = this.channelStateUpdateListener;
         if (channelStateUpdateListener == null) {
             logger.warn("MQTT message received for topic {}, but MessageSubscriber object hasn't been started!", topic);
@@ -164,16 +185,17 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         if (cachedValue.isBinary()) {
-            cachedValue.update(payload);
+            cachedValue.update(message.getPayload());
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
             receivedOrTimeout();
             return;
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
-        for (ChannelStateTransformation t : transformationsIn) {
-            String transformedValue = t.processValue(strValue);
+        String strValue = message.getString();
+        for (int i = 0; i < transformationsIn.size(); i++) {
+            ChannelStateTransformation t = transformationsIn.get(i);
+            String transformedValue = i == 0 ? t.processMessage(message) : t.processValue(strValue);
             if (transformedValue != null) {
                 strValue = transformedValue;
             } else {
@@ -262,7 +284,7 @@ public class ChannelState implements MqttMessageSubscriber {
     public CompletableFuture<@Nullable Void> stop() {
         final MqttBrokerConnection connection = this.connection;
         if (connection != null && !config.stateTopic.isBlank()) {
-            return connection.unsubscribe(config.stateTopic, this).thenRun(this::internalStop);
+            return unsubscribe(connection).thenRun(this::internalStop);
         } else {
             internalStop();
             return CompletableFuture.completedFuture(null);
@@ -322,7 +344,7 @@ public class ChannelState implements MqttMessageSubscriber {
 
             this.future = new CompletableFuture<>();
         }
-        connection.subscribe(config.stateTopic, this).thenRun(() -> {
+        subscribe(connection).thenRun(() -> {
             hasSubscribed = true;
             logger.debug("Subscribed channel {} to topic: {}", this.channelUID, config.stateTopic);
             if (timeout > 0 && !future.isDone()) {
@@ -334,6 +356,18 @@ public class ChannelState implements MqttMessageSubscriber {
         return future;
     }
 
+    private CompletableFuture<Boolean> subscribe(MqttBrokerConnection connection) {
+        final TopicMessageDispatcher dispatcher = this.dispatcher;
+        return dispatcher != null ? dispatcher.subscribe(connection, this)
+                : connection.subscribe(config.stateTopic, this);
+    }
+
+    private CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection) {
+        final TopicMessageDispatcher dispatcher = this.dispatcher;
+        return dispatcher != null ? dispatcher.unsubscribe(connection, this)
+                : connection.unsubscribe(config.stateTopic, this);
+    }
+
     /**
      * Return true if this channel has subscribed to its MQTT topics.
      * You need to call {@link #start(MqttBrokerConnection, ScheduledExecutorService, int)} and
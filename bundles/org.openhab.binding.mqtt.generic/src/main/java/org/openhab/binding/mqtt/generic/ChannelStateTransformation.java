@@ -16,11 +16,14 @@ import java.lang.ref.WeakReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.SimpleJsonPath;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonElement;
+
 /**
  * A transformation for a {@link ChannelState}. It is applied for each received value on an MQTT topic.
  *
@@ -28,11 +31,14 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class ChannelStateTransformation {
+    private static final String JSONPATH = "JSONPATH";
+
     private final Logger logger = LoggerFactory.getLogger(ChannelStateTransformation.class);
     private final TransformationServiceProvider provider;
     private WeakReference<@Nullable TransformationService> transformationService = new WeakReference<>(null);
     final String pattern;
     final String serviceName;
+    private final @Nullable SimpleJsonPath jsonPath;
 
     /**
      * Creates a new channel state transformer.
@@ -53,6 +59,7 @@ public class ChannelStateTransformation {
         String type = pattern.substring(0, index).toUpperCase();
         this.pattern = pattern.substring(index + 1);
         this.serviceName = type;
+        this.jsonPath = JSONPATH.equals(serviceName) ? SimpleJsonPath.compile(this.pattern) : null;
     }
 
     /**
@@ -68,6 +75,31 @@ public class ChannelStateTransformation {
         this.serviceName = serviceName;
         this.pattern = pattern;
         this.provider = provider;
+        this.jsonPath = JSONPATH.equals(serviceName) ? SimpleJsonPath.compile(pattern) : null;
+    }
+
+    /**
+     * Will be called by the {@link ChannelState} for each incoming MQTT message, if this is the first
+     * transformation. The result is shared with all channels using the same transformation on the message.
+     *
+     * Simple JSONPATH expressions are evaluated directly on the JSON tree of the message, which is parsed only once
+     * for all channels of the topic.
+     *
+     * @param message The incoming message
+     * @return The transformed value
+     */
+    protected @Nullable String processMessage(IncomingMessage message) {
+        return message.computeTransformationIfAbsent(serviceName + ':' + pattern, () -> {
+            SimpleJsonPath jsonPath = this.jsonPath;
+            if (jsonPath != null && getTransformationService() != null) {
+                JsonElement json = message.getJson();
+                String value = json != null ? jsonPath.evaluate(json) : null;
+                if (value != null) {
+                    return value;
+                }
+            }
+            return processValue(message.getString());
+        });
     }
 
     /**
@@ -77,14 +109,10 @@ public class ChannelStateTransformation {
      * @return The transformed value
      */
     protected @Nullable String processValue(String value) {
-        TransformationService transformationService = this.transformationService.get();
+        TransformationService transformationService = getTransformationService();
         if (transformationService == null) {
-            transformationService = provider.getTransformationService(serviceName);
-            if (transformationService == null) {
-                logger.warn("Transformation service {} for pattern {} not found!", serviceName, pattern);
-                return value;
-            }
-            this.transformationService = new WeakReference<>(transformationService);
+            logger.warn("Transformation service {} for pattern {} not found!", serviceName, pattern);
+            return value;
         }
         String returnValue = null;
         try {
@@ -94,4 +122,15 @@ public class ChannelStateTransformation {
         }
         return returnValue;
     }
+
+    private @Nullable TransformationService getTransformationService() {
+        TransformationService transformationService = this.transformationService.get();
+        if (transformationService == null) {
+            transformationService = provider.getTransformationService(serviceName);
+            if (transformationService != null) {
+                this.transformationService = new WeakReference<>(transformationService);
+            }
+        }
+        return transformationService;
+    }
 }
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * A received MQTT message, shared by all {@link ChannelState}s that are subscribed to the same topic.
+ *
+ * The payload is decoded to a String and parsed as JSON at most once, no matter how many channels evaluate it. The
+ * results of the first incoming transformation of each channel are memorized as well, so that channels using the
+ * same transformation on a topic only execute it once.
+ *
+ * An instance only lives for the dispatching of a single message and is not thread-safe.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class IncomingMessage {
+    private final byte[] payload;
+    private @Nullable String stringValue;
+    private @Nullable JsonElement json;
+    private boolean jsonParsed = false;
+    private final Map<String, @Nullable String> transformationResults = new HashMap<>();
+
+    public IncomingMessage(byte[] payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * Returns the raw payload.
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Returns the payload decoded as UTF-8 text.
+     */
+    public String getString() {
+        String stringValue = this.stringValue;
+        if (stringValue == null) {
+            stringValue = new String(payload, StandardCharsets.UTF_8);
+            this.stringValue = stringValue;
+        }
+        return stringValue;
+    }
+
+    /**
+     * Returns the payload parsed as JSON.
+     *
+     * @return The JSON tree or <code>null</code> if the payload is not a valid JSON document
+     */
+    public @Nullable JsonElement getJson() {
+        if (!jsonParsed) {
+            jsonParsed = true;
+            String value = getString();
+            if (!value.isBlank()) {
+                try {
+                    json = JsonParser.parseString(value);
+                } catch (JsonParseException e) {
+                    json = null;
+                }
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Returns the memorized result of the given transformation or computes it.
+     *
+     * @param transformation The transformation pattern, including the service name
+     * @param function Computes the result if it is not known yet
+     * @return The transformation result, might be <code>null</code> if the transformation failed
+     */
+    @Nullable String computeTransformationIfAbsent(String transformation, Supplier<@Nullable String> function) {
+        if (transformationResults.containsKey(transformation)) {
+            return transformationResults.get(transformation);
+        }
+        String result = function.get();
+        transformationResults.put(transformation, result);
+        return result;
+    }
+}
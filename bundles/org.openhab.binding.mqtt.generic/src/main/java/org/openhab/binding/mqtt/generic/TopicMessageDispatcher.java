@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes once to an MQTT topic on behalf of several {@link ChannelState}s and hands each received message to
+ * all of them as a shared {@link IncomingMessage}. That way the payload of a topic that feeds many channels (for
+ * example a JSON state topic with one JSONPATH transformation per channel) is only decoded and parsed once.
+ *
+ * A {@link ChannelState} uses the dispatcher instead of subscribing itself, if one is set with
+ * {@link ChannelState#setDispatcher(TopicMessageDispatcher)}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TopicMessageDispatcher implements MqttMessageSubscriber {
+    private final Logger logger = LoggerFactory.getLogger(TopicMessageDispatcher.class);
+
+    private final String topic;
+    private final Set<ChannelState> channelStates = new CopyOnWriteArraySet<>();
+    private @Nullable MqttBrokerConnection connection;
+    private CompletableFuture<Boolean> subscribeFuture = CompletableFuture.completedFuture(false);
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param topic The topic all channel states of this dispatcher are subscribed to
+     */
+    public TopicMessageDispatcher(String topic) {
+        this.topic = topic;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * Adds the channel state to the receivers of this topic. The topic is only subscribed on the broker
+     * connection for the first channel state.
+     *
+     * @param connection A broker connection
+     * @param channelState The channel state that should receive the messages of this topic
+     * @return A future that completes with true if the subscription succeeded
+     */
+    public synchronized CompletableFuture<Boolean> subscribe(MqttBrokerConnection connection,
+            ChannelState channelState) {
+        channelStates.add(channelState);
+        if (!connection.equals(this.connection)) {
+            this.connection = connection;
+            logger.debug("Subscribing to topic {} for {} channels", topic, channelStates.size());
+            subscribeFuture = connection.subscribe(topic, this);
+        }
+        return subscribeFuture;
+    }
+
+    /**
+     * Removes the channel state from the receivers of this topic. The topic is unsubscribed from the broker
+     * connection together with the last channel state.
+     *
+     * @param connection A broker connection
+     * @param channelState The channel state that should no longer receive messages of this topic
+     * @return A future that completes with true if unsubscribing succeeded
+     */
+    public synchronized CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection,
+            ChannelState channelState) {
+        channelStates.remove(channelState);
+        if (!channelStates.isEmpty() || !connection.equals(this.connection)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        this.connection = null;
+        subscribeFuture = CompletableFuture.completedFuture(false);
+        logger.debug("Unsubscribing from topic {}", topic);
+        return connection.unsubscribe(topic, this);
+    }
+
+    @Override
+    public void processMessage(String topic, byte[] payload) {
+        IncomingMessage message = new IncomingMessage(payload);
+        for (ChannelState channelState : channelStates) {
+            channelState.processMessage(topic, message);
+        }
+    }
+}
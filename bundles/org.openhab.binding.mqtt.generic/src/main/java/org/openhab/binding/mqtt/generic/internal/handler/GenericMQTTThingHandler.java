@@ -29,6 +29,7 @@ import org.openhab.binding.mqtt.generic.ChannelConfig;
 import org.openhab.binding.mqtt.generic.ChannelState;
 import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
 import org.openhab.binding.mqtt.generic.MqttChannelStateDescriptionProvider;
+import org.openhab.binding.mqtt.generic.TopicMessageDispatcher;
 import org.openhab.binding.mqtt.generic.TransformationServiceProvider;
 import org.openhab.binding.mqtt.generic.internal.MqttBindingConstants;
 import org.openhab.binding.mqtt.generic.utils.FutureCollector;
@@ -153,6 +154,7 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
         boolean modified = false;
 
         List<ChannelUID> configErrors = new ArrayList<>();
+        Map<String, List<ChannelState>> channelStatesByStateTopic = new HashMap<>();
         for (Channel channel : thing.getChannels()) {
             final ChannelTypeUID channelTypeUID = channel.getChannelTypeUID();
             if (channelTypeUID == null) {
@@ -189,6 +191,10 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
                 Value value = ValueFactory.createValueState(channelConfig, channelTypeUID.getId());
                 ChannelState channelState = createChannelState(channelConfig, channel.getUID(), value);
                 channelStateByChannelUID.put(channel.getUID(), channelState);
+                if (!channelConfig.stateTopic.isBlank()) {
+                    channelStatesByStateTopic.computeIfAbsent(channelConfig.stateTopic, t -> new ArrayList<>())
+                            .add(channelState);
+                }
                 StateDescription description = value.createStateDescription(channelConfig.commandTopic.isBlank())
                         .build().toStateDescription();
                 if (description != null) {
@@ -204,6 +210,15 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
             updateThing(thingBuilder.build());
         }
 
+        // Channels sharing a state topic receive the messages through one subscription, so that the payload
+        // is only decoded and parsed once per message
+        channelStatesByStateTopic.forEach((topic, channelStates) -> {
+            if (channelStates.size() > 1) {
+                TopicMessageDispatcher dispatcher = new TopicMessageDispatcher(topic);
+                channelStates.forEach(c -> c.setDispatcher(dispatcher));
+            }
+        });
+
         // If some channels could not start up, put the entire thing offline and display the channels
         // in question to the user.
         if (!configErrors.isEmpty()) {
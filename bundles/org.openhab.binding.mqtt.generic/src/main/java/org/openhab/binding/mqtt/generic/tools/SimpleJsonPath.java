@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A definite JSONPath expression (like <code>$.device.status[0].temperature</code> or
+ * <code>$['device']['status']</code>) that can be evaluated on an already parsed JSON tree.
+ *
+ * Only member and array index access is supported. Expressions using filters, wildcards, deep scans or functions
+ * can not be compiled and have to be evaluated by the JSONPATH transformation service.
+ *
+ * The results are formatted the same way the JSONPATH transformation service formats them, so that both can be used
+ * interchangeably.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleJsonPath {
+    private final List<Object> segments;
+
+    private SimpleJsonPath(List<Object> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the given JSONPath expression.
+     *
+     * @param expression A JSONPath expression
+     * @return The compiled path or <code>null</code> if the expression is not a simple definite path
+     */
+    public static @Nullable SimpleJsonPath compile(String expression) {
+        String path = expression.trim();
+        if (!path.startsWith("$")) {
+            return null;
+        }
+        List<Object> segments = new ArrayList<>();
+        int length = path.length();
+        int i = 1;
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < length && isNameChar(path.charAt(i))) {
+                    i++;
+                }
+                if (i == start) {
+                    return null;
+                }
+                segments.add(path.substring(start, i));
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                Object segment = parseBracket(path.substring(i + 1, end).trim());
+                if (segment == null) {
+                    return null;
+                }
+                segments.add(segment);
+                i = end + 1;
+            } else {
+                return null;
+            }
+        }
+        return new SimpleJsonPath(segments);
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+    }
+
+    private static @Nullable Object parseBracket(String content) {
+        if (content.length() >= 2) {
+            char quote = content.charAt(0);
+            if ((quote == '\'' || quote == '"') && content.charAt(content.length() - 1) == quote) {
+                String name = content.substring(1, content.length() - 1);
+                if (name.isEmpty() || name.indexOf('\'') >= 0 || name.indexOf('"') >= 0 || name.indexOf(',') >= 0
+                        || name.indexOf('\\') >= 0) {
+                    return null;
+                }
+                return name;
+            }
+        }
+        if (content.isEmpty() || content.length() > 9 || !content.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Integer.valueOf(content);
+    }
+
+    /**
+     * Evaluates the path on the given JSON tree.
+     *
+     * @param root The parsed JSON document
+     * @return The string representation of the selected value or <code>null</code> if the path does not select a
+     *         primitive value
+     */
+    public @Nullable String evaluate(JsonElement root) {
+        JsonElement current = root;
+        for (Object segment : segments) {
+            if (segment instanceof String name) {
+                if (!current.isJsonObject()) {
+                    return null;
+                }
+                current = current.getAsJsonObject().get(name);
+            } else {
+                int index = (Integer) segment;
+                if (!current.isJsonArray()) {
+                    return null;
+                }
+                JsonArray array = current.getAsJsonArray();
+                if (index >= array.size()) {
+                    return null;
+                }
+                current = array.get(index);
+            }
+            if (current == null) {
+                return null;
+            }
+        }
+        if (!current.isJsonPrimitive()) {
+            return null;
+        }
+        JsonPrimitive primitive = current.getAsJsonPrimitive();
+        if (primitive.isNumber()) {
+            return formatNumber(primitive.getAsString());
+        }
+        return primitive.getAsString();
+    }
+
+    /**
+     * Formats a JSON number literal like the JSON provider of the JSONPATH transformation does: decimal numbers are
+     * represented as doubles (or as big decimals if they are too long) and integral numbers without loss.
+     */
+    static String formatNumber(String literal) {
+        try {
+            if (literal.indexOf('.') >= 0 || literal.indexOf('e') >= 0 || literal.indexOf('E') >= 0) {
+                if (literal.length() > 18) {
+                    return new BigDecimal(literal).toString();
+                }
+                return Double.toString(Double.parseDouble(literal));
+            }
+            return new BigInteger(literal).toString();
+        } catch (NumberFormatException e) {
+            return literal;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.*;
 import static org.openhab.binding.mqtt.generic.internal.handler.ThingChannelConstants.*;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -30,9 +31,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openhab.binding.mqtt.generic.internal.handler.GenericMQTTThingHandler;
+import org.openhab.binding.mqtt.generic.values.TextValue;
 import org.openhab.binding.mqtt.handler.AbstractBrokerHandler;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -120,4 +123,62 @@ public class ChannelStateTransformationTests {
         verify(callbackMock).stateUpdated(eq(TEXT_CHANNEL_UID), argThat(arg -> "23.2".equals(arg.toString())));
         assertThat(channelConfig.getCache().getChannelState().toString(), is("23.2"));
     }
+
+    @Test
+    public void processSharedMessageWithSimpleJSONPath() throws Exception {
+        TopicMessageDispatcher dispatcher = new TopicMessageDispatcher("test/state");
+        ChannelState temperature = createSharedChannelState("temperature", "JSONPATH:$.device.status.temperature",
+                dispatcher);
+        ChannelState status = createSharedChannelState("status", "JSONPATH:$['device'].status", dispatcher);
+
+        dispatcher.processMessage("test/state", JSON_PATH_JSON.getBytes());
+
+        assertThat(temperature.getCache().getChannelState().toString(), is("23.2"));
+        // not a primitive value, so it is evaluated by the transformation service
+        verify(jsonPathServiceMock).transform("$['device'].status", JSON_PATH_JSON);
+        verify(jsonPathServiceMock, never()).transform(eq("$.device.status.temperature"), any());
+        verify(callbackMock).stateUpdated(eq(temperature.channelUID()), argThat(arg -> "23.2".equals(arg.toString())));
+        verify(callbackMock, never()).stateUpdated(eq(status.channelUID()), any());
+    }
+
+    @Test
+    public void processSharedMessageTransformsOnce() throws Exception {
+        String pattern = "$..temperature";
+        when(jsonPathServiceMock.transform(pattern, JSON_PATH_JSON)).thenReturn("23.2");
+        TopicMessageDispatcher dispatcher = new TopicMessageDispatcher("test/state");
+        ChannelState first = createSharedChannelState("first", "JSONPATH:" + pattern, dispatcher);
+        ChannelState second = createSharedChannelState("second", "JSONPATH:" + pattern, dispatcher);
+
+        dispatcher.processMessage("test/state", JSON_PATH_JSON.getBytes());
+
+        verify(jsonPathServiceMock, times(1)).transform(pattern, JSON_PATH_JSON);
+        assertThat(first.getCache().getChannelState().toString(), is("23.2"));
+        assertThat(second.getCache().getChannelState().toString(), is("23.2"));
+    }
+
+    @Test
+    public void sharedSubscription() {
+        TopicMessageDispatcher dispatcher = new TopicMessageDispatcher("test/state");
+        ChannelState first = createSharedChannelState("first", "", dispatcher);
+        ChannelState second = createSharedChannelState("second", "", dispatcher);
+
+        first.start(connectionMock, mock(ScheduledExecutorService.class), 0);
+        second.start(connectionMock, mock(ScheduledExecutorService.class), 0);
+        verify(connectionMock, times(1)).subscribe("test/state", dispatcher);
+
+        first.stop();
+        verify(connectionMock, never()).unsubscribe(any(), any());
+        second.stop();
+        verify(connectionMock, times(1)).unsubscribe("test/state", dispatcher);
+    }
+
+    private ChannelState createSharedChannelState(String id, String transformation,
+            TopicMessageDispatcher dispatcher) {
+        ChannelState channelState = new ChannelState(ChannelConfigBuilder.create("test/state", "").build(),
+                new ChannelUID(TEST_GENERIC_THING, id), new TextValue(), thingHandler);
+        channelState.addTransformation(transformation, transformationServiceProviderMock);
+        channelState.setDispatcher(dispatcher);
+        dispatcher.subscribe(connectionMock, channelState);
+        return channelState;
+    }
 }
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests cases for {@link SimpleJsonPath}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleJsonPathTests {
+    private static final JsonElement JSON = JsonParser.parseString(
+            "{ \"device\": { \"status\": { \"temperature\": 23.20, \"on\": true, \"name\": \"Living room\" },"
+                    + " \"values\": [ 1, 12345678901234, 1e3 ], \"my-key\": null }}");
+
+    private @Nullable String evaluate(String path) {
+        SimpleJsonPath jsonPath = SimpleJsonPath.compile(path);
+        assertThat(jsonPath, is(notNullValue()));
+        return jsonPath.evaluate(JSON);
+    }
+
+    @Test
+    public void dotNotation() {
+        assertThat(evaluate("$.device.status.temperature"), is("23.2"));
+        assertThat(evaluate("$.device.status.on"), is("true"));
+        assertThat(evaluate("$.device.status.name"), is("Living room"));
+    }
+
+    @Test
+    public void bracketNotation() {
+        assertThat(evaluate("$['device'][\"status\"].name"), is("Living room"));
+        assertThat(evaluate("$.device.values[0]"), is("1"));
+        assertThat(evaluate("$.device.values[1]"), is("12345678901234"));
+        assertThat(evaluate("$.device.values[2]"), is("1000.0"));
+    }
+
+    @Test
+    public void notPrimitiveOrMissing() {
+        assertThat(evaluate("$.device.status"), is(nullValue()));
+        assertThat(evaluate("$.device.values"), is(nullValue()));
+        assertThat(evaluate("$.device.my-key"), is(nullValue()));
+        assertThat(evaluate("$.device.missing"), is(nullValue()));
+        assertThat(evaluate("$.device.values[3]"), is(nullValue()));
+        assertThat(evaluate("$.device.status[0]"), is(nullValue()));
+    }
+
+    @Test
+    public void unsupportedExpressions() {
+        assertThat(SimpleJsonPath.compile("$..temperature"), is(nullValue()));
+        assertThat(SimpleJsonPath.compile("$.device.values[*]"), is(nullValue()));
+        assertThat(SimpleJsonPath.compile("$.device.values[?(@ > 1)]"), is(nullValue()));
+        assertThat(SimpleJsonPath.compile("$.device['status','values']"), is(nullValue()));
+        assertThat(SimpleJsonPath.compile("$.device.values.length()"), is(nullValue()));
+        assertThat(SimpleJsonPath.compile("device.status"), is(nullValue()));
+    }
+}
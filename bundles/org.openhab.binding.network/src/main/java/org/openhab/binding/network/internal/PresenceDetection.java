@@ -15,15 +15,22 @@ package org.openhab.binding.network.internal;
 import java.io.IOException;
 import java.net.Inet4Address;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -53,6 +60,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private static final int DESTINATION_TTL = 300 * 1000; // in ms, 300 s
 
     NetworkUtils networkUtils = new NetworkUtils();
+    PresenceProbeScheduler probeScheduler = PresenceProbeScheduler.getInstance();
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
@@ -67,6 +75,8 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private long refreshIntervalInMS = 60000;
     private int timeoutInMS = 5000;
     private long lastSeenInMS;
+    private long detectionStartInMS;
+    private long lastProbeStartInMS;
 
     private @NonNullByDefault({}) String hostname;
     private @NonNullByDefault({}) ExpiringCache<@Nullable InetAddress> destination;
@@ -78,10 +88,12 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     ExpiringCacheAsync<PresenceDetectionValue> cache;
     private final PresenceDetectionListener updateListener;
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService executorService;
+    protected @Nullable CompletableFuture<@Nullable Void> detectionFinished;
+    private final List<Future<?>> runningProbes = new ArrayList<>();
     private String dhcpState = "off";
     private Integer currentCheck = 0;
     int detectionChecks;
+    int queuedProbes;
 
     public PresenceDetection(final PresenceDetectionListener updateListener, int cacheDeviceStateTimeInMS)
             throws IllegalArgumentException {
@@ -253,14 +265,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
-    }
-
     /**
      * Perform a presence detection with ICMP-, ARP ping and
-     * TCP connection attempts simultaneously. A fixed thread pool will be created with as many
-     * thread as necessary to perform all tests at once.
+     * TCP connection attempts simultaneously. ICMP and ARP pings are run on the binding wide
+     * {@link PresenceProbeScheduler} pool, TCP connection attempts are performed non-blocking.
      *
      * This is a NO-OP, if there is already an ongoing detection or if the cached value
      * is not expired yet.
@@ -274,7 +282,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * @return Return true if a presence detection is performed and false otherwise.
      */
     public boolean performPresenceDetection(boolean waitForDetectionToFinish) {
-        if (executorService != null) {
+        if (detectionFinished != null) {
             logger.debug(
                     "There is already an ongoing presence discovery for {} and a new one was issued by the scheduler! TCP Port {}",
                     hostname, tcpPorts);
@@ -288,6 +296,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         Set<String> interfaceNames = null;
 
         currentCheck = 0;
+        queuedProbes = 0;
         detectionChecks = tcpPorts.size();
         if (pingMethod != null) {
             detectionChecks += 1;
@@ -301,46 +310,35 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             return false;
         }
 
-        final ExecutorService executorService = getThreadsFor(detectionChecks);
-        this.executorService = executorService;
+        final CompletableFuture<@Nullable Void> detection = new CompletableFuture<>();
+        detectionFinished = detection;
+        detectionStartInMS = System.currentTimeMillis();
+        lastProbeStartInMS = detectionStartInMS;
+        final ExecutorService executorService = probeScheduler.getExecutor();
 
         for (Integer tcpPort : tcpPorts) {
-            executorService.execute(() -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + String.valueOf(tcpPort));
-                performServicePing(tcpPort);
-                checkIfFinished();
-            });
+            addProbe(performServicePing(tcpPort).whenComplete((result, e) -> checkIfFinished(detection)));
         }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
+        // ARP ping for IPv4 addresses. Use single task for Windows tool and
+        // one task for each network interface for other tools
         if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
-            executorService.execute(() -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
-                // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performARPping("");
-                checkIfFinished();
-            });
+            // arp-ping.exe tool capable of handling multiple interfaces by itself
+            submitProbe(executorService, detection, () -> performARPping(""));
         } else if (interfaceNames != null) {
             for (final String interfaceName : interfaceNames) {
-                executorService.execute(() -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performARPping(interfaceName);
-                    checkIfFinished();
-                });
+                submitProbe(executorService, detection, () -> performARPping(interfaceName));
             }
         }
 
         // ICMP ping
         if (pingMethod != null) {
-            executorService.execute(() -> {
+            submitProbe(executorService, detection, () -> {
                 if (pingMethod != IpPingMethodEnum.JAVA_PING) {
-                    Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
                     performSystemPing();
                 } else {
                     performJavaPing();
                 }
-                checkIfFinished();
             });
         }
 
@@ -351,28 +349,99 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         return true;
     }
 
+    /**
+     * Runs a blocking probe on the shared pool. The probe counts as a finished check once it ran.
+     * The pool is shared by all devices, so the probe may wait in the queue for a while. Its timeout only starts
+     * when it actually runs, see {@link #probeStarted(CompletableFuture)}.
+     */
+    private void submitProbe(ExecutorService executorService, CompletableFuture<@Nullable Void> detection,
+            Runnable probe) {
+        FutureTask<@Nullable Void> task = new FutureTask<>(() -> {
+            try {
+                probeStarted(detection);
+                probe.run();
+            } finally {
+                checkIfFinished(detection);
+            }
+        }, null);
+        synchronized (this) {
+            queuedProbes++;
+        }
+        addProbe(task);
+        executorService.execute(task);
+    }
+
+    private synchronized void probeStarted(CompletableFuture<@Nullable Void> detection) {
+        if (detection == detectionFinished) {
+            queuedProbes--;
+            lastProbeStartInMS = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Returns the time until which {@link #waitForPresenceDetection()} waits for the probes. Each probe is given
+     * its full timeout from the moment it started to run. Probes still waiting for a pool thread are waited for
+     * at most one refresh interval after the detection started.
+     */
+    private synchronized long getProbeDeadline() {
+        long deadline = lastProbeStartInMS + timeoutInMS + 100;
+        if (queuedProbes > 0) {
+            deadline = Math.max(deadline, detectionStartInMS + Math.max(refreshIntervalInMS, timeoutInMS + 100));
+        }
+        return deadline;
+    }
+
+    private synchronized void addProbe(Future<?> probe) {
+        if (detectionFinished == null) {
+            // The detection already finished, e.g. because waiting for it timed out
+            probe.cancel(true);
+        } else if (!probe.isDone()) {
+            runningProbes.add(probe);
+        }
+    }
+
+    /**
+     * Cancels probes that are still queued or running, e.g. a system ping that did not return in time.
+     */
+    private synchronized void cancelRunningProbes() {
+        runningProbes.forEach(probe -> probe.cancel(true));
+        runningProbes.clear();
+    }
+
     /**
      * Calls updateListener.finalDetectionResult() with a final result value.
      * Safe to be called from different threads. After a call to this method,
-     * the presence detection process is finished and all threads are forcefully
-     * shut down.
+     * the presence detection process is finished and all probes that are still
+     * running are cancelled.
+     *
+     * Probes that never got a pool thread are not part of the verdict. If the device was not seen and not a single
+     * probe could run, no result is submitted at all instead of reporting the device as unreachable.
      */
     private synchronized void submitFinalResult() {
         // Do nothing if we are not in a detection process
-        ExecutorService service = executorService;
-        if (service == null) {
+        CompletableFuture<@Nullable Void> finished = detectionFinished;
+        if (finished == null) {
             return;
         }
         // Finish the detection process
-        service.shutdownNow();
-        executorService = null;
+        detectionFinished = null;
+        cancelRunningProbes();
+        int startedChecks = detectionChecks - queuedProbes;
         detectionChecks = 0;
+        logger.debug("Presence detection for {} finished after {} ms", hostname,
+                System.currentTimeMillis() - detectionStartInMS);
 
         PresenceDetectionValue v;
 
         // The cache will be expired by now if cache_time < timeoutInMS. But the device might be actually reachable.
         // Therefore use lastSeenInMS here and not cache.isExpired() to determine if we got a ping response.
-        if (lastSeenInMS + timeoutInMS + 100 < System.currentTimeMillis()) {
+        boolean seen = lastSeenInMS >= detectionStartInMS;
+        if (!seen && startedChecks == 0) {
+            logger.debug("No presence probe for {} could run in time, the probe pool is busy. Keeping the last state.",
+                    hostname);
+            finished.complete(null);
+            return;
+        } else if (!seen) {
             // We haven't seen the device in the detection process
             v = new PresenceDetectionValue(hostname, -1);
         } else {
@@ -386,15 +455,21 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             destination.invalidateValue();
         }
         updateListener.finalDetectionResult(v);
+        finished.complete(null);
     }
 
     /**
      * This method is called after each individual check and increases a check counter.
      * If the counter equals the total checks,the final result is submitted. This will
      * happen way before the "timeoutInMS", if all checks were successful.
-     * Thread safe.
+     * Thread safe. Checks of an already finished detection are not counted.
+     *
+     * @param detection The detection the check belongs to
      */
-    private synchronized void checkIfFinished() {
+    private synchronized void checkIfFinished(CompletableFuture<@Nullable Void> detection) {
+        if (detection != detectionFinished) {
+            return;
+        }
         currentCheck += 1;
         if (currentCheck < detectionChecks) {
             return;
@@ -403,23 +478,36 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     }
 
     /**
-     * Waits for the presence detection threads to finish. Returns immediately
+     * Waits for the presence detection probes to finish. Returns immediately
      * if no presence detection is performed right now.
      */
     public void waitForPresenceDetection() {
-        ExecutorService service = executorService;
-        if (service == null) {
+        CompletableFuture<@Nullable Void> finished = detectionFinished;
+        if (finished == null) {
             return;
         }
         try {
-            // We may get interrupted here by cancelRefreshJob().
-            service.awaitTermination(timeoutInMS + 100, TimeUnit.MILLISECONDS);
-            submitFinalResult();
+            long remaining;
+            while ((remaining = getProbeDeadline() - System.currentTimeMillis()) > 0) {
+                try {
+                    // We may get interrupted here by cancelRefreshJob().
+                    finished.get(Math.min(remaining, timeoutInMS + 100), TimeUnit.MILLISECONDS);
+                    break;
+                } catch (TimeoutException e) {
+                    // Queued probes may have started in the meantime and moved the deadline
+                }
+            }
+        } catch (ExecutionException e) {
+            // Submit what we have got so far
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // Reset interrupt flag
-            service.shutdownNow();
-            executorService = null;
+            synchronized (this) {
+                cancelRunningProbes();
+                detectionFinished = null;
+            }
+            return;
         }
+        submitFinalResult();
     }
 
     /**
@@ -447,24 +535,35 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         return v;
     }
 
-    protected void performServicePing(int tcpPort) {
+    /**
+     * Performs a TCP connection attempt to the given port. The attempt does not block a thread, the returned
+     * future completes when the connection is established, refused or timed out.
+     *
+     * @param tcpPort The tcp port
+     */
+    protected CompletableFuture<@Nullable Void> performServicePing(int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
-        try {
-            InetAddress destinationAddress = destination.getValue();
-            if (destinationAddress != null) {
-                networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeoutInMS).ifPresent(o -> {
-                    if (o.isSuccess()) {
-                        PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.TCP_CONNECTION,
-                                getLatency(o, preferResponseTimeAsLatency));
-                        v.addReachableTcpService(tcpPort);
-                        updateListener.partialDetectionResult(v);
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return probeScheduler.tcpConnect(new InetSocketAddress(destinationAddress, tcpPort), timeoutInMS)
+                .handle((o, e) -> {
+                    if (e != null) {
+                        // This should not happen and might be a user configuration issue, we log a warning message
+                        // therefore.
+                        logger.warn("Could not create a socket connection", e);
+                    } else {
+                        probeScheduler.recordProbe(PresenceDetectionType.TCP_CONNECTION, o);
+                        if (o.isSuccess()) {
+                            PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.TCP_CONNECTION,
+                                    getLatency(o, preferResponseTimeAsLatency));
+                            v.addReachableTcpService(tcpPort);
+                            updateListener.partialDetectionResult(v);
+                        }
                     }
+                    return null;
                 });
-            }
-        } catch (IOException e) {
-            // This should not happen and might be a user configuration issue, we log a warning message therefore.
-            logger.warn("Could not create a socket connection", e);
-        }
     }
 
     /**
@@ -489,6 +588,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
             networkUtils.nativeARPPing(arpPingMethod, arpPingUtilPath, interfaceName,
                     destinationAddress.getHostAddress(), timeoutInMS).ifPresent(o -> {
+                        probeScheduler.recordProbe(PresenceDetectionType.ARP_PING, o);
                         if (o.isSuccess()) {
                             PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ARP_PING,
                                     getLatency(o, preferResponseTimeAsLatency));
@@ -517,6 +617,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
 
         networkUtils.javaPing(timeoutInMS, destinationAddress).ifPresent(o -> {
+            probeScheduler.recordProbe(PresenceDetectionType.ICMP_PING, o);
             if (o.isSuccess()) {
                 PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ICMP_PING,
                         getLatency(o, preferResponseTimeAsLatency));
@@ -534,6 +635,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             }
 
             networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(), timeoutInMS).ifPresent(o -> {
+                probeScheduler.recordProbe(PresenceDetectionType.ICMP_PING, o);
                 if (o.isSuccess()) {
                     PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.ICMP_PING,
                             getLatency(o, preferResponseTimeAsLatency));
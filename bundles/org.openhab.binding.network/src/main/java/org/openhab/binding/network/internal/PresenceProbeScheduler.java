@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import java.net.InetSocketAddress;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.TcpConnectProber;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A singleton that performs the probes of all {@link PresenceDetection} instances of the binding.
+ *
+ * Blocking probes (system ping, arping and Java ping) are run on one bounded thread pool shared by all devices
+ * instead of a new pool per device and refresh. Pool threads are released again when the binding is idle.
+ * TCP connection attempts do not need a thread at all, they are multiplexed by a {@link TcpConnectProber}.
+ *
+ * Latency and success counts are collected per {@link PresenceDetectionType} and logged on debug level.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProbeScheduler {
+    public static final int MAX_PROBE_THREADS = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+    private static final long STATISTICS_LOG_INTERVAL_MS = 300000;
+
+    private static final PresenceProbeScheduler INSTANCE = new PresenceProbeScheduler(MAX_PROBE_THREADS);
+
+    private final Logger logger = LoggerFactory.getLogger(PresenceProbeScheduler.class);
+    private final ThreadPoolExecutor executor;
+    private final TcpConnectProber tcpProber = new TcpConnectProber("OH-binding-network-tcpprobe");
+    private final Map<PresenceDetectionType, ProbeStatistics> statistics = new EnumMap<>(
+            PresenceDetectionType.class);
+    private final AtomicLong lastStatisticsLog = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Latency metrics of one kind of probe.
+     */
+    public static class ProbeStatistics {
+        private final LongAdder probes = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+        private final DoubleAdder totalLatency = new DoubleAdder();
+        private final DoubleAccumulator maxLatency = new DoubleAccumulator(Math::max, 0);
+
+        void record(PingResult result) {
+            probes.increment();
+            if (result.isSuccess()) {
+                successes.increment();
+            }
+            totalLatency.add(result.getExecutionTimeInMS());
+            maxLatency.accumulate(result.getExecutionTimeInMS());
+        }
+
+        public long getProbes() {
+            return probes.sum();
+        }
+
+        public long getSuccesses() {
+            return successes.sum();
+        }
+
+        /**
+         * Returns the average execution time of all probes in ms.
+         */
+        public double getAverageLatency() {
+            long count = probes.sum();
+            return count == 0 ? 0 : totalLatency.sum() / count;
+        }
+
+        /**
+         * Returns the longest execution time of a probe in ms.
+         */
+        public double getMaxLatency() {
+            return maxLatency.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d probes, %d successful, avg %.1f ms, max %.1f ms", getProbes(), getSuccesses(),
+                    getAverageLatency(), getMaxLatency());
+        }
+    }
+
+    PresenceProbeScheduler(int maxThreads) {
+        executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("network-probe", true));
+        executor.allowCoreThreadTimeOut(true);
+        for (PresenceDetectionType type : PresenceDetectionType.values()) {
+            statistics.put(type, new ProbeStatistics());
+        }
+    }
+
+    public static PresenceProbeScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the bounded executor for blocking probes. Do not shut it down, it is shared by all devices.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the shared prober for non-blocking tcp connection attempts.
+     */
+    public TcpConnectProber getTcpProber() {
+        return tcpProber;
+    }
+
+    /**
+     * Try to establish a tcp connection to the given address without blocking the calling thread.
+     *
+     * @param address The resolved address and port to connect to
+     * @param timeoutInMS Timeout in ms
+     * @return A future for the ping result
+     */
+    public CompletableFuture<PingResult> tcpConnect(InetSocketAddress address, int timeoutInMS) {
+        return tcpProber.connect(address, timeoutInMS);
+    }
+
+    /**
+     * Adds the outcome of a finished probe to the statistics.
+     */
+    public void recordProbe(PresenceDetectionType type, PingResult result) {
+        ProbeStatistics typeStatistics = getStatistics(type);
+        typeStatistics.record(result);
+        logger.trace("{} probe finished: {}", type, result);
+
+        long now = System.currentTimeMillis();
+        long last = lastStatisticsLog.get();
+        if (logger.isDebugEnabled() && now - last >= STATISTICS_LOG_INTERVAL_MS
+                && lastStatisticsLog.compareAndSet(last, now)) {
+            statistics.forEach((t, s) -> {
+                if (s.getProbes() > 0) {
+                    logger.debug("Presence probe statistics for {}: {}", t, s);
+                }
+            });
+            logger.debug("Presence probe pool: {} active, {} queued", executor.getActiveCount(),
+                    executor.getQueue().size());
+        }
+    }
+
+    public ProbeStatistics getStatistics(PresenceDetectionType type) {
+        ProbeStatistics typeStatistics = statistics.get(type);
+        if (typeStatistics == null) {
+            // All types are added in the constructor
+            throw new IllegalStateException("No statistics for " + type);
+        }
+        return typeStatistics;
+    }
+}
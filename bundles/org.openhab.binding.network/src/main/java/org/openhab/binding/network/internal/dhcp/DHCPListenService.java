@@ -13,8 +13,11 @@
 package org.openhab.binding.network.internal.dhcp;
 
 import java.net.SocketException;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,13 +31,24 @@ import org.slf4j.LoggerFactory;
  * after the receive socket is closed.
  * IPRequestReceivedCallback will be called for the address that is registered and matches the
  * DHO_DHCP_REQUESTED_ADDRESS address field.
+ * The addresses of the most recent DHCP requests are remembered, no matter if a listener is registered for them,
+ * so that the discovery can check them first.
  *
  * @author David Graeff - Initial contribution
  */
 @NonNullByDefault
 public class DHCPListenService {
     static @Nullable DHCPPacketListenerServer instance;
+    private static final int MAX_RECENT_REQUESTS = 1024;
     private static Map<String, IPRequestReceivedCallback> registeredListeners = new TreeMap<>();
+    private static final Map<String, Long> recentRequests = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_RECENT_REQUESTS;
+        }
+    };
     private static Logger logger = LoggerFactory.getLogger(DHCPListenService.class);
 
     public static synchronized DHCPPacketListenerServer register(String hostAddress,
@@ -42,6 +56,9 @@ public class DHCPListenService {
         DHCPPacketListenerServer instance = DHCPListenService.instance;
         if (instance == null) {
             instance = new DHCPPacketListenerServer((String ipAddress) -> {
+                synchronized (recentRequests) {
+                    recentRequests.put(ipAddress, System.currentTimeMillis());
+                }
                 IPRequestReceivedCallback listener = registeredListeners.get(ipAddress);
                 if (listener != null) {
                     listener.dhcpRequestReceived(ipAddress);
@@ -58,6 +75,19 @@ public class DHCPListenService {
         return instance;
     }
 
+    /**
+     * Returns the addresses DHCP requests were received for within the given time.
+     *
+     * @param maxAgeInMS The maximum age of a request in milliseconds
+     */
+    public static Set<String> getRecentRequestAddresses(long maxAgeInMS) {
+        long oldest = System.currentTimeMillis() - maxAgeInMS;
+        synchronized (recentRequests) {
+            return recentRequests.entrySet().stream().filter(e -> e.getValue() >= oldest).map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        }
+    }
+
     public static void unregister(String hostAddress) {
         synchronized (registeredListeners) {
             registeredListeners.remove(hostAddress);
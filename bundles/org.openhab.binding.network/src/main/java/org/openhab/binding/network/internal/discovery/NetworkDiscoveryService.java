@@ -14,17 +14,13 @@ package org.openhab.binding.network.internal.discovery;
 
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,6 +28,9 @@ import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.PresenceProbeScheduler;
+import org.openhab.binding.network.internal.dhcp.DHCPListenService;
+import org.openhab.binding.network.internal.discovery.NetworkSweep.SweepListener;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -48,33 +47,48 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
- * It tries common TCP ports to connect to, ICMP pings and ARP pings.
+ * It sweeps all addresses with non-blocking connection attempts to common TCP ports (see {@link NetworkSweep}).
+ * Hosts that do not answer on any port are taken from the ARP table afterwards, or pinged if the ARP table
+ * is not available on this system.
  *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
  */
 @NonNullByDefault
 @Component(service = DiscoveryService.class, configurationPid = "discovery.network")
-public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
+public class NetworkDiscoveryService extends AbstractDiscoveryService
+        implements PresenceDetectionListener, SweepListener {
     static final int PING_TIMEOUT_IN_MS = 500;
-    static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    // All addresses of a /22 network
+    static final int MAXIMUM_IPS_PER_INTERFACE = 1022;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
+    private static final long DHCP_REQUEST_MAX_AGE_IN_MS = TimeUnit.HOURS.toMillis(1);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
     // TCP port 548 (Apple Filing Protocol (AFP))
     // TCP port 554 (Windows share / Linux samba)
     // TCP port 1025 (Xbox / MS-RPC)
-    private Set<Integer> tcpServicePorts = Collections
-            .unmodifiableSet(Stream.of(80, 548, 554, 1025).collect(Collectors.toSet()));
-    private AtomicInteger scannedIPcount = new AtomicInteger(0);
-    private @Nullable ExecutorService executorService = null;
+    private static final Set<Integer> TCP_SERVICE_PORTS = Set.of(80, 548, 554, 1025);
+    private AtomicInteger remainingPings = new AtomicInteger(0);
+    private @Nullable NetworkSweep sweep = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
 
     public NetworkDiscoveryService() {
-        super(SUPPORTED_THING_TYPES_UIDS, (int) Math.round(
-                new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size() * (PING_TIMEOUT_IN_MS / 1000.0)),
-                false);
+        super(SUPPORTED_THING_TYPES_UIDS,
+                estimateScanTimeout(new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size()), false);
+    }
+
+    /**
+     * Returns an upper bound for the scan duration in seconds: The sweep without growing its window, with every
+     * attempt running into the timeout, followed by pinging every address.
+     */
+    static int estimateScanTimeout(int addresses) {
+        double sweepSeconds = (double) addresses * TCP_SERVICE_PORTS.size() / NetworkSweep.INITIAL_WINDOW
+                * PING_TIMEOUT_IN_MS / 1000.0;
+        double pingSeconds = (double) addresses / PresenceProbeScheduler.MAX_PROBE_THREADS * PING_TIMEOUT_IN_MS
+                / 1000.0;
+        return (int) Math.ceil(sweepSeconds + pingSeconds) + 5;
     }
 
     @Override
@@ -97,9 +111,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     @Override
     @Deactivate
     protected void deactivate() {
-        if (executorService != null) {
-            executorService.shutdown();
-        }
+        stopSweep();
         super.deactivate();
     }
 
@@ -118,65 +130,111 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
     @Override
     public void finalDetectionResult(PresenceDetectionValue value) {
+        pingFinished();
+    }
+
+    private void pingFinished() {
+        if (remainingPings.decrementAndGet() == 0) {
+            logger.trace("Pinging silent hosts finished");
+            stopScan();
+        }
+    }
+
+    @Override
+    public void hostFound(String ip) {
+        newPingDevice(ip);
+    }
+
+    @Override
+    public void serviceFound(String ip, int port) {
+        newServiceDevice(ip, port);
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Sweeps all IPs on each interface on the network. Addresses from the ARP table and from recent DHCP requests
+     * are reported and scanned first.
      */
     @Override
-    protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        }
-        final ExecutorService service = executorService;
-        if (service == null) {
+    protected synchronized void startScan() {
+        if (sweep != null) {
+            logger.debug("Network discovery is already running");
             return;
         }
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
-        scannedIPcount.set(0);
+        Set<String> knownHosts = new LinkedHashSet<>(
+                DHCPListenService.getRecentRequestAddresses(DHCP_REQUEST_MAX_AGE_IN_MS));
+        networkUtils.getArpTableAddresses().ifPresent(knownHosts::addAll);
+
+        final NetworkSweep sweep = new NetworkSweep(PresenceProbeScheduler.getInstance().getTcpProber(), networkIPs,
+                knownHosts, TCP_SERVICE_PORTS, PING_TIMEOUT_IN_MS, this);
+        this.sweep = sweep;
+        sweep.start().thenRun(() -> sweepFinished(sweep, networkIPs));
+    }
+
+    /**
+     * Looks for hosts that did not answer on any port. The connection attempts made the operating system send
+     * an ARP request to every address on directly attached networks, so hosts found in the ARP table are reported
+     * right away. The ARP table does not cover every swept address, e.g. inside a container or for routed networks,
+     * so the remaining silent hosts are pinged with system ping, arping and the iOS wake-up just like a presence
+     * detection.
+     */
+    private void sweepFinished(NetworkSweep finishedSweep, Set<String> networkIPs) {
+        synchronized (this) {
+            if (sweep != finishedSweep) {
+                // Stopped in the meantime
+                return;
+            }
+        }
+        Set<String> respondingHosts = finishedSweep.getRespondingHosts();
+        networkUtils.getArpTableAddresses().ifPresent(addresses -> {
+            for (String ip : addresses) {
+                if (networkIPs.contains(ip) && respondingHosts.add(ip)) {
+                    newPingDevice(ip);
+                }
+            }
+        });
 
-        for (String ip : networkIPs) {
+        List<String> silentHosts = networkIPs.stream().filter(ip -> !respondingHosts.contains(ip)).toList();
+        if (silentHosts.isEmpty()) {
+            logger.trace("Scan of {} IPs successful", networkIPs.size());
+            stopScan();
+            return;
+        }
+        logger.trace("Pinging {} silent hosts", silentHosts.size());
+        remainingPings.set(silentHosts.size());
+        for (String ip : silentHosts) {
             final PresenceDetection s = new PresenceDetection(this, 2000);
             s.setHostname(ip);
             s.setIOSDevice(true);
             s.setUseDhcpSniffing(false);
             s.setTimeout(PING_TIMEOUT_IN_MS);
-            // Ping devices
+            // Ping devices, the probes run on the shared bounded probe pool
             s.setUseIcmpPing(true);
             s.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            s.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                s.performPresenceDetection(true);
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
-                }
-            });
+            if (!s.performPresenceDetection(false)) {
+                pingFinished();
+            }
         }
     }
 
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
+        stopSweep();
+    }
 
-        try {
-            service.awaitTermination(PING_TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
+    private synchronized void stopSweep() {
+        NetworkSweep sweep = this.sweep;
+        if (sweep == null) {
+            return;
         }
-        service.shutdown();
-        executorService = null;
+        // Reset first, the cancelled sweep must not be treated as finished
+        this.sweep = null;
+        remainingPings.set(0);
+        sweep.cancel();
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -185,7 +243,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link startScan}.
+     * Submit newly discovered devices. This method is called by the sweep started in {@link startScan}.
      *
      * @param ip The device IP
      * @param tcpPort The TCP port
@@ -228,7 +286,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link startScan}.
+     * Submit newly discovered devices. This method is called by the sweep started in {@link startScan}.
      *
      * @param ip The device IP
      */
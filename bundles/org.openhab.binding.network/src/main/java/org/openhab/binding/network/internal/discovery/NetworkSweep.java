@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.utils.TcpConnectProber;
+import org.openhab.binding.network.internal.utils.TcpConnectProber.ProbeResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sweeps a range of addresses with non-blocking tcp connection attempts to a few common ports.
+ *
+ * All attempts are multiplexed by one {@link TcpConnectProber}, the number of attempts in flight adapts to the
+ * network: It grows with every attempt that ended in time and is halved if answers get slow or the attempts fail
+ * locally, e.g. because no more sockets are available. A host counts as present as soon as it answers on any port,
+ * a refused connection is an answer as well.
+ *
+ * Addresses that are already known to be present (e.g. from the ARP table or from DHCP requests) are reported right
+ * away and scanned first.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NetworkSweep {
+    static final int INITIAL_WINDOW = 64;
+    static final int MIN_WINDOW = 8;
+    static final int MAX_WINDOW = 512;
+    static final double SLOW_RESPONSE_MS = 250;
+    private static final int PROGRESS_STEPS = 10;
+
+    /**
+     * Receives the results of a sweep.
+     */
+    public interface SweepListener {
+        /**
+         * Called once per address that answered on any port or was known to be present.
+         */
+        void hostFound(String ip);
+
+        /**
+         * Called for every port a connection could be established to.
+         */
+        void serviceFound(String ip, int port);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(NetworkSweep.class);
+    private final TcpConnectProber prober;
+    private final SweepListener listener;
+    private final int timeoutInMS;
+    private final Set<String> knownHosts;
+    private final Queue<InetSocketAddress> pending = new ArrayDeque<>();
+    private final Set<String> respondingHosts = ConcurrentHashMap.newKeySet();
+    private final CompletableFuture<@Nullable Void> finished = new CompletableFuture<>();
+    private final int total;
+
+    private int window = INITIAL_WINDOW;
+    private int inFlight;
+    private int completed;
+    private int nextProgressReport;
+    private boolean filling;
+    private long startTimeInMS;
+
+    /**
+     * @param prober The prober performing the connection attempts
+     * @param addresses The addresses to scan
+     * @param knownHosts Addresses known to be present, they are reported and scanned first
+     * @param ports The tcp ports to try on every address
+     * @param timeoutInMS The timeout of a single connection attempt
+     * @param listener Receives the results
+     */
+    public NetworkSweep(TcpConnectProber prober, Collection<String> addresses, Collection<String> knownHosts,
+            Collection<Integer> ports, int timeoutInMS, SweepListener listener) {
+        this.prober = prober;
+        this.listener = listener;
+        this.timeoutInMS = timeoutInMS;
+
+        Set<String> ordered = new LinkedHashSet<>();
+        Set<String> known = new LinkedHashSet<>();
+        for (String ip : knownHosts) {
+            if (addresses.contains(ip)) {
+                known.add(ip);
+            }
+        }
+        this.knownHosts = known;
+        ordered.addAll(known);
+        ordered.addAll(addresses);
+
+        for (String ip : ordered) {
+            InetAddress address;
+            try {
+                address = InetAddress.getByName(ip);
+            } catch (UnknownHostException e) {
+                logger.debug("Skipping invalid address {}", ip);
+                continue;
+            }
+            for (int port : ports) {
+                pending.add(new InetSocketAddress(address, port));
+            }
+        }
+        total = pending.size();
+        nextProgressReport = total / PROGRESS_STEPS;
+    }
+
+    /**
+     * Starts the sweep. Results are reported from the thread of the prober.
+     *
+     * @return A future that completes when all addresses are scanned or the sweep is cancelled.
+     */
+    public CompletableFuture<@Nullable Void> start() {
+        startTimeInMS = System.currentTimeMillis();
+        for (String ip : knownHosts) {
+            if (respondingHosts.add(ip)) {
+                listener.hostFound(ip);
+            }
+        }
+        logger.debug("Starting network sweep with {} connection attempts ({} known hosts)", total,
+                knownHosts.size());
+        if (total == 0) {
+            finished.complete(null);
+        } else {
+            fill();
+        }
+        return finished;
+    }
+
+    /**
+     * Stops issuing new connection attempts. Attempts in flight end within the timeout.
+     */
+    public void cancel() {
+        synchronized (this) {
+            pending.clear();
+            if (inFlight > 0) {
+                return;
+            }
+        }
+        finished.complete(null);
+    }
+
+    /**
+     * Returns all addresses that answered or were known to be present.
+     */
+    public Set<String> getRespondingHosts() {
+        return respondingHosts;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public synchronized int getCompleted() {
+        return completed;
+    }
+
+    public synchronized int getWindow() {
+        return window;
+    }
+
+    private void fill() {
+        List<InetSocketAddress> batch = new ArrayList<>();
+        while (true) {
+            synchronized (this) {
+                if (batch.isEmpty() && filling) {
+                    // Another thread is filling the window already and will see our capacity
+                    return;
+                }
+                batch.clear();
+                while (inFlight < window && !pending.isEmpty()) {
+                    batch.add(pending.remove());
+                    inFlight++;
+                }
+                if (batch.isEmpty()) {
+                    filling = false;
+                    return;
+                }
+                filling = true;
+            }
+            for (InetSocketAddress address : batch) {
+                prober.probe(address, timeoutInMS).whenComplete((result, e) -> probeFinished(address, result, e));
+            }
+        }
+    }
+
+    private void probeFinished(InetSocketAddress address, @Nullable ProbeResult result, @Nullable Throwable e) {
+        String ip = address.getAddress().getHostAddress();
+        if (result != null) {
+            if (result.isHostResponding() && respondingHosts.add(ip)) {
+                listener.hostFound(ip);
+            }
+            if (result.getOutcome() == TcpConnectProber.Outcome.CONNECTED) {
+                listener.serviceFound(ip, address.getPort());
+            }
+        }
+
+        boolean done;
+        synchronized (this) {
+            inFlight--;
+            completed++;
+            if (e != null || (result != null && result.isHostResponding()
+                    && result.getExecutionTimeInMS() > SLOW_RESPONSE_MS)) {
+                // Local failure (e.g. out of sockets) or congestion, back off
+                window = Math.max(MIN_WINDOW, window / 2);
+            } else if (window < MAX_WINDOW) {
+                window++;
+            }
+            if (completed >= nextProgressReport && total >= PROGRESS_STEPS) {
+                nextProgressReport += total / PROGRESS_STEPS;
+                logger.debug("Network sweep progress: {} of {} connection attempts, {} hosts found, {} in flight",
+                        completed, total, respondingHosts.size(), inFlight);
+            }
+            done = inFlight == 0 && pending.isEmpty();
+        }
+        if (e != null) {
+            logger.debug("Connection attempt to {} failed: {}", address, e.getMessage());
+        }
+        if (done) {
+            logger.debug("Network sweep finished after {} ms: {} of {} connection attempts, {} hosts found",
+                    System.currentTimeMillis() - startTimeInMS, completed, total, respondingHosts.size());
+            finished.complete(null);
+        } else {
+            fill();
+        }
+    }
+}
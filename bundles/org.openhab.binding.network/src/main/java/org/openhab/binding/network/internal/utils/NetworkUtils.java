@@ -15,20 +15,16 @@ package org.openhab.binding.network.internal.utils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
-import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.NoRouteToHostException;
 import java.net.PortUnreachableException;
-import java.net.Socket;
-import java.net.SocketAddress;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Enumeration;
@@ -56,6 +52,9 @@ import org.slf4j.LoggerFactory;
 public class NetworkUtils {
     private final Logger logger = LoggerFactory.getLogger(NetworkUtils.class);
 
+    private static final Path ARP_TABLE = Path.of("/proc/net/arp");
+    private static final int ARP_FLAG_COMPLETE = 0x2;
+
     private LatencyParser latencyParser = new LatencyParser();
 
     /**
@@ -176,25 +175,52 @@ public class NetworkUtils {
     }
 
     /**
-     * Try to establish a tcp connection to the given port. Returns false if a timeout occurred
-     * or the connection was denied.
+     * Reads the addresses of all neighbours the operating system has resolved a hardware address for. Every
+     * address in there answered an ARP request recently, no matter if it responds to pings or tcp connections.
+     * Only available on Linux, where the kernel exposes the table in {@code /proc/net/arp}.
      *
-     * @param host The IP or hostname
-     * @param port The tcp port. Must be not 0.
-     * @param timeout Timeout in ms
-     * @return Ping result information. Optional is empty if ping command was not executed.
-     * @throws IOException
+     * @return The IPv4 addresses from the ARP table. Optional is empty if the table cannot be read.
      */
-    public Optional<PingResult> servicePing(String host, int port, int timeout) throws IOException {
-        double execStartTimeInMS = System.currentTimeMillis();
+    public Optional<Set<String>> getArpTableAddresses() {
+        if (!Files.isReadable(ARP_TABLE)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(parseArpTable(Files.readAllLines(ARP_TABLE)));
+        } catch (IOException e) {
+            logger.debug("Could not read the ARP table: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-        SocketAddress socketAddress = new InetSocketAddress(host, port);
-        try (Socket socket = new Socket()) {
-            socket.connect(socketAddress, timeout);
-            return Optional.of(new PingResult(true, System.currentTimeMillis() - execStartTimeInMS));
-        } catch (ConnectException | SocketTimeoutException | NoRouteToHostException ignored) {
-            return Optional.of(new PingResult(false, System.currentTimeMillis() - execStartTimeInMS));
+    /**
+     * Parses the lines of {@code /proc/net/arp}, e.g.
+     *
+     * <pre>
+     * IP address       HW type     Flags       HW address            Mask     Device
+     * 192.168.1.1      0x1         0x2         00:11:22:33:44:55     *        eth0
+     * </pre>
+     *
+     * Incomplete entries (no answer to the ARP request yet or anymore) are skipped.
+     */
+    static Set<String> parseArpTable(List<String> lines) {
+        Set<String> addresses = new LinkedHashSet<>();
+        // The first line is the header
+        for (int i = 1; i < lines.size(); i++) {
+            String[] columns = lines.get(i).trim().split("\\s+");
+            if (columns.length < 4) {
+                continue;
+            }
+            try {
+                int flags = Integer.decode(columns[2]);
+                if ((flags & ARP_FLAG_COMPLETE) != 0 && !"00:00:00:00:00:00".equals(columns[3])) {
+                    addresses.add(columns[0]);
+                }
+            } catch (NumberFormatException ignored) {
+                // Not an entry
+            }
         }
+        return addresses;
     }
 
     /**
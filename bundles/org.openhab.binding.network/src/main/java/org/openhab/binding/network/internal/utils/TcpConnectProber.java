@@ -0,0 +1,329 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Performs TCP connection attempts without blocking a thread per attempt. All pending connects are multiplexed on a
+ * single selector thread. The thread is started on the first probe and stops again after being idle for
+ * {@link #IDLE_TIMEOUT_MS}, so an unused prober does not hold any resources.
+ *
+ * A probe is successful if the connection could be established within the timeout. A refused connection, an
+ * unreachable host or a timeout is reported as an unsuccessful {@link PingResult}. {@link #probe} tells these
+ * cases apart, a refused connection for example still proves that the host is present. Only errors that prevent
+ * the attempt from being made at all complete the returned future exceptionally.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpConnectProber {
+    static final long IDLE_TIMEOUT_MS = 10000;
+
+    private final Logger logger = LoggerFactory.getLogger(TcpConnectProber.class);
+    private final String threadName;
+    private final Queue<Probe> newProbes = new ConcurrentLinkedQueue<>();
+
+    private @Nullable Selector selector;
+    private @Nullable Thread thread;
+
+    /**
+     * The possible outcomes of a connection attempt.
+     */
+    public enum Outcome {
+        /** The connection was established */
+        CONNECTED,
+        /** The host actively refused the connection, so it is present but the port is closed */
+        REFUSED,
+        /** The host or network is not reachable, e.g. because nobody answered the ARP request */
+        UNREACHABLE,
+        /** Nothing was received within the timeout */
+        TIMEOUT
+    }
+
+    /**
+     * The outcome of a connection attempt and the time it took.
+     */
+    public static class ProbeResult {
+        private final Outcome outcome;
+        private final double executionTimeInMS;
+
+        public ProbeResult(Outcome outcome, double executionTimeInMS) {
+            this.outcome = outcome;
+            this.executionTimeInMS = executionTimeInMS;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        /**
+         * Returns true if the host answered, no matter if the connection was established or refused.
+         */
+        public boolean isHostResponding() {
+            return outcome == Outcome.CONNECTED || outcome == Outcome.REFUSED;
+        }
+
+        public double getExecutionTimeInMS() {
+            return executionTimeInMS;
+        }
+
+        @Override
+        public String toString() {
+            return "ProbeResult{outcome=" + outcome + ", executionTimeInMS=" + executionTimeInMS + '}';
+        }
+    }
+
+    private static class Probe {
+        final SocketChannel channel;
+        final CompletableFuture<ProbeResult> result;
+        final long startNanos;
+        final long deadlineNanos;
+
+        Probe(SocketChannel channel, CompletableFuture<ProbeResult> result, long startNanos, int timeoutInMS) {
+            this.channel = channel;
+            this.result = result;
+            this.startNanos = startNanos;
+            this.deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutInMS);
+        }
+
+        void complete(Outcome outcome, long now) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Nothing we can do about it, the probe is finished anyway
+            }
+            result.complete(new ProbeResult(outcome, (now - startNanos) / 1000000.0));
+        }
+    }
+
+    public TcpConnectProber(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * Try to establish a tcp connection to the given address.
+     *
+     * @param address The resolved address and port to connect to
+     * @param timeoutInMS Timeout in ms
+     * @return A future that is completed with the ping result as soon as the connection is established, refused
+     *         or timed out.
+     */
+    public CompletableFuture<PingResult> connect(InetSocketAddress address, int timeoutInMS) {
+        return probe(address, timeoutInMS).thenApply(
+                r -> new PingResult(r.getOutcome() == Outcome.CONNECTED, r.getExecutionTimeInMS()));
+    }
+
+    /**
+     * Try to establish a tcp connection to the given address and report how the attempt ended.
+     *
+     * @param address The resolved address and port to connect to
+     * @param timeoutInMS Timeout in ms
+     * @return A future that is completed as soon as the connection is established, refused or timed out.
+     */
+    public CompletableFuture<ProbeResult> probe(InetSocketAddress address, int timeoutInMS) {
+        CompletableFuture<ProbeResult> result = new CompletableFuture<>();
+        long start = System.nanoTime();
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            Probe probe = new Probe(channel, result, start, timeoutInMS);
+            try {
+                if (channel.connect(address)) {
+                    probe.complete(Outcome.CONNECTED, System.nanoTime());
+                    return result;
+                }
+            } catch (IOException e) {
+                // Refused or unreachable without even sending a packet, e.g. no route to the network
+                probe.complete(failureOutcome(e), System.nanoTime());
+                return result;
+            }
+            newProbes.add(probe);
+            wakeUpOrStart();
+        } catch (IOException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // Already failed
+                }
+            }
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Return true while the selector thread is running.
+     */
+    synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    private static Outcome failureOutcome(IOException e) {
+        // NoRouteToHostException is not a ConnectException, a refused connection is
+        return e instanceof ConnectException ? Outcome.REFUSED : Outcome.UNREACHABLE;
+    }
+
+    private synchronized void wakeUpOrStart() throws IOException {
+        Selector running = this.selector;
+        if (running != null) {
+            running.wakeup();
+            return;
+        }
+        Selector selector = Selector.open();
+        this.selector = selector;
+        Thread thread = new Thread(() -> run(selector), threadName);
+        thread.setDaemon(true);
+        this.thread = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the selector thread if no new probes arrived in the meantime. Synchronized with
+     * {@link #wakeUpOrStart()}, so a probe queued concurrently is either seen here or starts a new thread.
+     */
+    private synchronized boolean stopIfIdle(Selector selector) {
+        if (!newProbes.isEmpty()) {
+            return false;
+        }
+        this.selector = null;
+        this.thread = null;
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close selector: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    private void run(Selector selector) {
+        long idleSince = System.nanoTime();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                Probe probe;
+                while ((probe = newProbes.poll()) != null) {
+                    try {
+                        probe.channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                    } catch (IOException e) {
+                        probe.complete(Outcome.UNREACHABLE, now);
+                    }
+                }
+
+                long nextDeadline = Long.MAX_VALUE;
+                Iterator<SelectionKey> keys = selector.keys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    Probe p = (Probe) key.attachment();
+                    if (p == null || !key.isValid()) {
+                        continue;
+                    }
+                    if (p.result.isDone() || now - p.deadlineNanos >= 0) {
+                        key.cancel();
+                        p.complete(Outcome.TIMEOUT, now);
+                    } else {
+                        nextDeadline = Math.min(nextDeadline, p.deadlineNanos - now);
+                    }
+                }
+
+                if (nextDeadline == Long.MAX_VALUE) {
+                    if (now - idleSince >= TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MS)) {
+                        if (stopIfIdle(selector)) {
+                            return;
+                        }
+                        continue;
+                    }
+                    nextDeadline = TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MS) - (now - idleSince);
+                } else {
+                    idleSince = now;
+                }
+
+                // Round up, a select timeout of 0 would block forever
+                selector.select(TimeUnit.NANOSECONDS.toMillis(nextDeadline) + 1);
+
+                now = System.nanoTime();
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    Probe p = (Probe) key.attachment();
+                    if (p == null) {
+                        continue;
+                    }
+                    Outcome outcome;
+                    try {
+                        if (!p.channel.finishConnect()) {
+                            // Not connected yet, keep waiting for the connect event
+                            continue;
+                        }
+                        outcome = Outcome.CONNECTED;
+                    } catch (IOException e) {
+                        // Connection refused, host unreachable and the like
+                        outcome = failureOutcome(e);
+                    }
+                    key.cancel();
+                    p.complete(outcome, now);
+                }
+                if (!selector.keys().isEmpty()) {
+                    idleSince = now;
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.warn("TCP probe selector failed: {}", e.getMessage());
+            if (selector.isOpen()) {
+                for (SelectionKey key : selector.keys()) {
+                    Probe p = (Probe) key.attachment();
+                    if (p != null) {
+                        p.complete(Outcome.UNREACHABLE, System.nanoTime());
+                    }
+                }
+            }
+            stopAfterFailure(selector);
+        }
+    }
+
+    private synchronized void stopAfterFailure(Selector selector) {
+        if (this.selector == selector) {
+            this.selector = null;
+            this.thread = null;
+        }
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+            // Already failed
+        }
+        // Probes that were queued in the meantime must not wait for a thread that is gone
+        Probe probe;
+        while ((probe = newProbes.poll()) != null) {
+            probe.complete(Outcome.UNREACHABLE, System.nanoTime());
+        }
+    }
+}
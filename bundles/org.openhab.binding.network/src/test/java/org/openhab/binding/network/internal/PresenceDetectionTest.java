@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -53,6 +55,7 @@ public class PresenceDetectionTest {
     private static final long CACHETIME = 2000L;
 
     private PresenceDetection subject;
+    private PresenceProbeScheduler probeScheduler;
 
     private @Mock Consumer<PresenceDetectionValue> callback;
     private @Mock ExecutorService executorService;
@@ -68,6 +71,8 @@ public class PresenceDetectionTest {
 
         subject = spy(new PresenceDetection(listener, (int) CACHETIME));
         subject.networkUtils = networkUtils;
+        probeScheduler = spy(new PresenceProbeScheduler(4));
+        subject.probeScheduler = probeScheduler;
         subject.cache = spy(new ExpiringCacheAsync<>(CACHETIME, () -> {
             subject.performPresenceDetection(false);
         }));
@@ -87,28 +92,29 @@ public class PresenceDetectionTest {
     @AfterEach
     public void shutDown() {
         subject.waitForPresenceDetection();
+        probeScheduler.getExecutor().shutdownNow();
     }
 
-    // Depending on the amount of test methods an according amount of threads is spawned.
-    // We will check if they spawn and return in time.
+    // Depending on the amount of test methods an according amount of probes is performed.
+    // We will check if they start and return in time.
     @Test
     public void threadCountTest() {
-        assertNull(subject.executorService);
+        assertNull(subject.detectionFinished);
 
         doNothing().when(subject).performARPping(any());
         doNothing().when(subject).performJavaPing();
         doNothing().when(subject).performSystemPing();
-        doNothing().when(subject).performServicePing(anyInt());
+        doReturn(new CompletableFuture<>()).when(subject).performServicePing(anyInt());
 
         subject.performPresenceDetection(false);
 
-        // Thread count: ARP + ICMP + 1*TCP
+        // Check count: ARP + ICMP + 1*TCP
         assertThat(subject.detectionChecks, is(3));
-        assertNotNull(subject.executorService);
+        assertNotNull(subject.detectionFinished);
 
         subject.waitForPresenceDetection();
         assertThat(subject.detectionChecks, is(0));
-        assertNull(subject.executorService);
+        assertNull(subject.detectionFinished);
     }
 
     @Test
@@ -117,7 +123,8 @@ public class PresenceDetectionTest {
                 anyString(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
-        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
+        doReturn(CompletableFuture.completedFuture(new PingResult(true, 10))).when(probeScheduler).tcpConnect(any(),
+                anyInt());
 
         assertTrue(subject.performPresenceDetection(false));
         subject.waitForPresenceDetection();
@@ -140,25 +147,28 @@ public class PresenceDetectionTest {
                 anyString(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
-        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
+        CompletableFuture<PingResult> tcpResult = new CompletableFuture<>();
+        doReturn(tcpResult, new CompletableFuture<PingResult>()).when(probeScheduler).tcpConnect(any(), anyInt());
 
-        doReturn(executorService).when(subject).getThreadsFor(anyInt());
+        doReturn(executorService).when(probeScheduler).getExecutor();
 
         // We expect no valid value
         assertTrue(subject.cache.isExpired());
         // Get value will issue a PresenceDetection internally.
         subject.getValue(callback);
         verify(subject).performPresenceDetection(eq(false));
-        assertNotNull(subject.executorService);
+        assertNotNull(subject.detectionFinished);
         // There should be no straight callback yet
         verify(callback, times(0)).accept(any());
 
-        // Perform the different presence detection threads now
+        // Perform the different presence detection probes now. Only ARP and ICMP pings need a pool thread,
+        // the TCP connection attempt is completed by the non-blocking prober.
         ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(executorService, times(3)).execute(capture.capture());
+        verify(executorService, times(2)).execute(capture.capture());
         for (Runnable r : capture.getAllValues()) {
             r.run();
         }
+        tcpResult.complete(new PingResult(true, 10));
         // "Wait" for the presence detection to finish
         subject.waitForPresenceDetection();
 
@@ -176,6 +186,63 @@ public class PresenceDetectionTest {
         verify(callback, times(2)).accept(any());
     }
 
+    @Test
+    public void probesWaitingForSaturatedPoolGetTheirFullTimeout() throws InterruptedException, IOException {
+        probeScheduler = spy(new PresenceProbeScheduler(1));
+        subject.probeScheduler = probeScheduler;
+        subject.setServicePorts(Set.of());
+        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING),
+                anyString(), anyInt());
+        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
+                .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
+
+        // Occupy the only pool thread for longer than the probe timeout, e.g. with probes of other devices
+        CountDownLatch release = new CountDownLatch(1);
+        probeScheduler.getExecutor().execute(() -> {
+            try {
+                release.await(600, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(subject.performPresenceDetection(false));
+        subject.waitForPresenceDetection();
+
+        verify(subject).performSystemPing();
+        verify(subject).performARPping(any());
+        ArgumentCaptor<PresenceDetectionValue> capture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener, times(1)).finalDetectionResult(capture.capture());
+        assertTrue(capture.getValue().isReachable());
+        assertThat(capture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING"));
+    }
+
+    @Test
+    public void probesThatNeverRanAreNotReportedAsUnreachable() throws InterruptedException {
+        probeScheduler = spy(new PresenceProbeScheduler(1));
+        subject.probeScheduler = probeScheduler;
+        subject.setServicePorts(Set.of());
+        subject.setRefreshInterval(500);
+
+        CountDownLatch release = new CountDownLatch(1);
+        probeScheduler.getExecutor().execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(subject.performPresenceDetection(false));
+        subject.waitForPresenceDetection();
+        release.countDown();
+
+        verify(subject, never()).performSystemPing();
+        verify(subject, never()).performARPping(any());
+        verify(listener, never()).finalDetectionResult(any());
+        assertNull(subject.detectionFinished);
+    }
+
     @Test
     public void reuseValueTests() throws InterruptedException, IOException {
         final long startTime = 1000L;
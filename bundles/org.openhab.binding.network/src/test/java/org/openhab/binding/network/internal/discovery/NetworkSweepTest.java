@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.network.internal.discovery.NetworkSweep.SweepListener;
+import org.openhab.binding.network.internal.utils.TcpConnectProber;
+import org.openhab.binding.network.internal.utils.TcpConnectProber.Outcome;
+import org.openhab.binding.network.internal.utils.TcpConnectProber.ProbeResult;
+
+/**
+ * Tests cases for {@link NetworkSweep}
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class NetworkSweepTest {
+    private @Mock TcpConnectProber prober;
+    private @Mock SweepListener listener;
+
+    private static CompletableFuture<ProbeResult> result(Outcome outcome) {
+        return CompletableFuture.completedFuture(new ProbeResult(outcome, 1));
+    }
+
+    @Test
+    public void reportsRespondingHostsAndServices() throws Exception {
+        when(prober.probe(any(), anyInt())).thenAnswer(i -> {
+            InetSocketAddress address = i.getArgument(0);
+            String ip = address.getAddress().getHostAddress();
+            if ("192.168.0.1".equals(ip)) {
+                return result(address.getPort() == 80 ? Outcome.CONNECTED : Outcome.REFUSED);
+            } else if ("192.168.0.2".equals(ip)) {
+                return result(Outcome.REFUSED);
+            }
+            return result(Outcome.TIMEOUT);
+        });
+
+        NetworkSweep sweep = new NetworkSweep(prober, List.of("192.168.0.1", "192.168.0.2", "192.168.0.3"),
+                Set.of(), List.of(80, 554), 500, listener);
+        sweep.start().get(1, TimeUnit.SECONDS);
+
+        verify(listener).hostFound("192.168.0.1");
+        verify(listener).hostFound("192.168.0.2");
+        verify(listener, never()).hostFound("192.168.0.3");
+        verify(listener).serviceFound("192.168.0.1", 80);
+        verify(listener, times(1)).serviceFound(anyString(), anyInt());
+        assertThat(sweep.getCompleted(), is(6));
+        assertThat(sweep.getRespondingHosts(), is(Set.of("192.168.0.1", "192.168.0.2")));
+    }
+
+    @Test
+    public void knownHostsAreReportedAndScannedFirst() throws Exception {
+        List<String> probed = new ArrayList<>();
+        when(prober.probe(any(), anyInt())).thenAnswer(i -> {
+            probed.add(((InetSocketAddress) i.getArgument(0)).getAddress().getHostAddress());
+            return result(Outcome.TIMEOUT);
+        });
+
+        NetworkSweep sweep = new NetworkSweep(prober, List.of("192.168.0.1", "192.168.0.2", "192.168.0.3"),
+                Set.of("192.168.0.3", "10.0.0.1"), List.of(80), 500, listener);
+        sweep.start().get(1, TimeUnit.SECONDS);
+
+        // Known hosts outside of the scanned range are ignored
+        verify(listener, never()).hostFound("10.0.0.1");
+        verify(listener).hostFound("192.168.0.3");
+        assertThat(probed, is(List.of("192.168.0.3", "192.168.0.1", "192.168.0.2")));
+    }
+
+    @Test
+    public void windowAdaptsToTheNetwork() throws Exception {
+        List<CompletableFuture<ProbeResult>> inFlight = new ArrayList<>();
+        when(prober.probe(any(), anyInt())).thenAnswer(i -> {
+            CompletableFuture<ProbeResult> future = new CompletableFuture<>();
+            inFlight.add(future);
+            return future;
+        });
+        List<String> addresses = new ArrayList<>();
+        for (int i = 1; i < 255; i++) {
+            addresses.add("192.168.0." + i);
+        }
+
+        NetworkSweep sweep = new NetworkSweep(prober, addresses, Set.of(), List.of(80), 500, listener);
+        CompletableFuture<?> finished = sweep.start();
+        // Only the initial window is started
+        assertThat(inFlight.size(), is(NetworkSweep.INITIAL_WINDOW));
+
+        // Timeouts of absent hosts are no sign of congestion
+        inFlight.get(0).complete(new ProbeResult(Outcome.TIMEOUT, 500));
+        assertThat(sweep.getWindow(), is(NetworkSweep.INITIAL_WINDOW + 1));
+        assertThat(inFlight.size(), is(NetworkSweep.INITIAL_WINDOW + 2));
+
+        // Slow answers halve the window
+        inFlight.get(1).complete(new ProbeResult(Outcome.REFUSED, NetworkSweep.SLOW_RESPONSE_MS + 1));
+        assertThat(sweep.getWindow(), is((NetworkSweep.INITIAL_WINDOW + 1) / 2));
+
+        // Local failures as well, and no new attempts are started until we are below the window again
+        inFlight.get(2).completeExceptionally(new IOException("Too many open files"));
+        assertThat(sweep.getWindow(), is((NetworkSweep.INITIAL_WINDOW + 1) / 4));
+        assertThat(inFlight.size(), is(NetworkSweep.INITIAL_WINDOW + 2));
+
+        sweep.cancel();
+        assertFalse(finished.isDone());
+        for (CompletableFuture<ProbeResult> future : new ArrayList<>(inFlight)) {
+            future.complete(new ProbeResult(Outcome.TIMEOUT, 500));
+        }
+        assertTrue(finished.isDone());
+        assertThat(inFlight.size(), is(NetworkSweep.INITIAL_WINDOW + 2));
+    }
+
+    @Test
+    public void sweepWithRealProber() throws Exception {
+        TcpConnectProber realProber = new TcpConnectProber("networkSweepTest");
+        try (ServerSocket open = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+                ServerSocket closed = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            int closedPort = closed.getLocalPort();
+            closed.close();
+
+            NetworkSweep sweep = new NetworkSweep(realProber, List.of("127.0.0.1"), Set.of(),
+                    List.of(open.getLocalPort(), closedPort), 1000, listener);
+            sweep.start().get(5, TimeUnit.SECONDS);
+
+            InOrder inOrder = inOrder(listener);
+            inOrder.verify(listener).hostFound("127.0.0.1");
+            verify(listener).serviceFound("127.0.0.1", open.getLocalPort());
+            verify(listener, never()).serviceFound("127.0.0.1", closedPort);
+        }
+    }
+}
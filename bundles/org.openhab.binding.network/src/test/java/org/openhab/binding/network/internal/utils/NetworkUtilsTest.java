@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link NetworkUtils}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NetworkUtilsTest {
+
+    @Test
+    public void parseArpTable() {
+        List<String> lines = List.of(
+                "IP address       HW type     Flags       HW address            Mask     Device",
+                "192.168.1.1      0x1         0x2         00:11:22:33:44:55     *        eth0",
+                "192.168.1.20     0x1         0x0         00:00:00:00:00:00     *        eth0",
+                "192.168.1.30     0x1         0x6         66:77:88:99:aa:bb     *        eth0",
+                "");
+
+        assertThat(NetworkUtils.parseArpTable(lines), is(Set.of("192.168.1.1", "192.168.1.30")));
+    }
+}
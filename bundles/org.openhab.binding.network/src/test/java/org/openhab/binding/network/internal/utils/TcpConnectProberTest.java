@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the non-blocking {@link TcpConnectProber}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpConnectProberTest {
+    private final TcpConnectProber prober = new TcpConnectProber("tcpProberTest");
+
+    @Test
+    public void openPortIsReachable() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            PingResult result = prober
+                    .connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()), 2000)
+                    .get(5, TimeUnit.SECONDS);
+
+            assertTrue(result.isSuccess());
+            assertTrue(result.getExecutionTimeInMS() < 2000);
+        }
+    }
+
+    @Test
+    public void closedPortIsNotReachable()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        int port;
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = server.getLocalPort();
+        }
+
+        PingResult result = prober.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 2000)
+                .get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void manyConcurrentProbesShareOneThread()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        try (ServerSocket server = new ServerSocket(0, 200, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    server.getLocalPort());
+            int threadsBefore = Thread.activeCount();
+
+            List<CompletableFuture<PingResult>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(prober.connect(address, 2000));
+            }
+            // At most the selector thread has been added
+            assertTrue(Thread.activeCount() <= threadsBefore + 1);
+
+            for (CompletableFuture<PingResult> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+            assertTrue(prober.isRunning());
+        }
+    }
+}
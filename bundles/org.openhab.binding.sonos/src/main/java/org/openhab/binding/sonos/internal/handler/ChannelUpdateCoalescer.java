@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal.handler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ChannelUpdateCoalescer} collects the channels to refresh during a short window and hands them over at
+ * once at its end, each channel only once. This way a burst of UPnP events leads to one refresh per channel.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ChannelUpdateCoalescer {
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final Consumer<List<String>> flushAction;
+
+    // guarded by this
+    private final Set<String> pendingChannelIds = new LinkedHashSet<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private long pendingSince;
+
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final LongAccumulator maxLatencyMillis = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param scheduler the scheduler to run the flush action on
+     * @param windowMillis the time in milliseconds channels are collected after the first one was queued
+     * @param flushAction called with the queued channels in the order they were first queued
+     */
+    ChannelUpdateCoalescer(ScheduledExecutorService scheduler, long windowMillis,
+            Consumer<List<String>> flushAction) {
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+        this.flushAction = flushAction;
+    }
+
+    /**
+     * Queues a channel to be refreshed at the end of the current window. A new window is started if none is open.
+     */
+    synchronized void queue(String channelId) {
+        if (pendingChannelIds.isEmpty()) {
+            pendingSince = System.nanoTime();
+        }
+        pendingChannelIds.add(channelId);
+        if (flushJob == null) {
+            flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        List<String> channelIds;
+        long since;
+        synchronized (this) {
+            channelIds = new ArrayList<>(pendingChannelIds);
+            since = pendingSince;
+            pendingChannelIds.clear();
+            flushJob = null;
+        }
+        if (channelIds.isEmpty()) {
+            return;
+        }
+        flushAction.accept(channelIds);
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - since);
+        batchCount.increment();
+        totalLatencyMillis.add(latency);
+        maxLatencyMillis.accumulate(latency);
+    }
+
+    /**
+     * Drops all queued channels without refreshing them.
+     */
+    synchronized void cancel() {
+        ScheduledFuture<?> job = flushJob;
+        if (job != null) {
+            job.cancel(false);
+        }
+        flushJob = null;
+        pendingChannelIds.clear();
+    }
+
+    long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * @return the average delay in milliseconds between the first queued channel of a window and its refresh
+     */
+    long getAverageLatencyMillis() {
+        long batches = batchCount.sum();
+        return batches > 0 ? totalLatencyMillis.sum() / batches : 0;
+    }
+
+    /**
+     * @return the highest delay in milliseconds between the first queued channel of a window and its refresh
+     */
+    long getMaxLatencyMillis() {
+        return maxLatencyMillis.get();
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal.handler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.sonos.internal.SonosXMLParser;
+import org.openhab.binding.sonos.internal.SonosZoneGroup;
+
+/**
+ * The {@link ZoneGroupStateCache} shares the parsed zone group topology between players. The topology is evented with
+ * the same content to every player of a household, so it is keyed by its content: each household has its own entry
+ * and players of different households do not evict each other's topology. The least recently used topologies are
+ * dropped once more than the given number are held.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ZoneGroupStateCache {
+    private final Map<String, List<SonosZoneGroup>> zoneGroups;
+
+    ZoneGroupStateCache(int maxEntries) {
+        zoneGroups = new LinkedHashMap<>(maxEntries + 1, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SonosZoneGroup>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param zoneGroupState the ZoneGroupState XML evented by a player
+     * @return the zone groups, parsed only once for the same XML
+     */
+    synchronized List<SonosZoneGroup> getZoneGroups(String zoneGroupState) {
+        return zoneGroups.computeIfAbsent(zoneGroupState,
+                xml -> List.copyOf(SonosXMLParser.getZoneGroupFromXML(xml)));
+    }
+}
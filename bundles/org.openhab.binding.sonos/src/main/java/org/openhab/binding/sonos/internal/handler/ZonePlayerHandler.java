@@ -29,8 +29,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -106,6 +109,18 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     private static final String LINEINCONNECTED = "LineInConnected";
     private static final String TOSLINEINCONNECTED = "TOSLinkConnected";
 
+    private static final int BROWSE_PAGE_SIZE = 200;
+
+    /**
+     * Channel refreshes triggered by UPnP events received within this window are merged into one update
+     */
+    private static final long UPDATE_COALESCING_WINDOW_MS = 50;
+
+    /**
+     * Number of parsed zone group topologies kept, one per household is in use at a time
+     */
+    private static final int MAX_CACHED_ZONE_GROUP_STATES = 8;
+
     private static final String SERVICE_DEVICE_PROPERTIES = "DeviceProperties";
     private static final String SERVICE_AV_TRANSPORT = "AVTransport";
     private static final String SERVICE_RENDERING_CONTROL = "RenderingControl";
@@ -198,6 +213,27 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     private @Nullable List<SonosMusicService> musicServices;
 
+    /**
+     * Channels waiting to be refreshed at the end of the current coalescing window
+     */
+    private final ChannelUpdateCoalescer channelUpdates = new ChannelUpdateCoalescer(scheduler,
+            UPDATE_COALESCING_WINDOW_MS, this::flushChannelUpdates);
+
+    /**
+     * Last state sent to each channel, used to drop updates which would not change anything
+     */
+    private final Map<String, State> channelStates = new ConcurrentHashMap<>();
+
+    private final LongAdder soapCallCount = new LongAdder();
+    private final LongAdder channelUpdateCount = new LongAdder();
+    private final LongAdder unchangedChannelUpdateCount = new LongAdder();
+
+    /**
+     * The zone group topology is evented with the same content to every player of the household. The parsed groups
+     * are shared by all players so that coordinator and member lookups do not parse it again and again.
+     */
+    private static final ZoneGroupStateCache ZONE_GROUP_STATES = new ZoneGroupStateCache(MAX_CACHED_ZONE_GROUP_STATES);
+
     private enum LineInType {
         ANALOG,
         DIGITAL,
@@ -224,6 +260,9 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         }
         this.pollingJob = null;
 
+        channelUpdates.cancel();
+        channelStates.clear();
+
         removeSubscription();
         service.unregisterParticipant(this);
     }
@@ -238,6 +277,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         }
 
         configuration = getConfigAs(ZonePlayerConfiguration.class);
+        channelStates.clear();
         String udn = configuration.udn;
         if (udn != null && !udn.isEmpty()) {
             service.registerParticipant(this);
@@ -288,6 +328,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                 if (isLinked(SLEEPTIMER) && isCoordinator()) {
                     updateSleepTimerDuration();
                 }
+
+                logStatistics();
             } catch (Exception e) {
                 logger.debug("Exception during poll: {}", e.getMessage(), e);
             }
@@ -296,6 +338,9 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
+        // the item state may have been changed by the command or be expected back on refresh,
+        // so the next state of this channel has to be sent even if it did not change
+        channelStates.remove(channelUID.getId());
         if (command == RefreshType.REFRESH) {
             updateChannel(channelUID.getId());
         } else {
@@ -524,27 +569,27 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             // update the appropriate channel
             switch (variable) {
                 case "TransportState":
-                    updateChannel(STATE);
-                    updateChannel(CONTROL);
-                    updateChannel(STOP);
+                    scheduleChannelUpdate(STATE);
+                    scheduleChannelUpdate(CONTROL);
+                    scheduleChannelUpdate(STOP);
                     dispatchOnAllGroupMembers(variable, value, service);
                     break;
                 case "CurrentPlayMode":
-                    updateChannel(SHUFFLE);
-                    updateChannel(REPEAT);
+                    scheduleChannelUpdate(SHUFFLE);
+                    scheduleChannelUpdate(REPEAT);
                     dispatchOnAllGroupMembers(variable, value, service);
                     break;
                 case "CurrentLEDState":
-                    updateChannel(LED);
+                    scheduleChannelUpdate(LED);
                     break;
                 case "ZoneName":
-                    updateState(ZONENAME, new StringType(value));
+                    updateChannelState(ZONENAME, new StringType(value));
                     break;
                 case "CurrentZoneName":
-                    updateChannel(ZONENAME);
+                    scheduleChannelUpdate(ZONENAME);
                     break;
                 case "ZoneGroupState":
-                    updateChannel(COORDINATOR);
+                    scheduleChannelUpdate(COORDINATOR);
                     // Update coordinator after a change is made to the grouping of Sonos players
                     updateGroupCoordinator();
                     updateMediaInformation();
@@ -560,124 +605,124 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                     }
                     break;
                 case "LocalGroupUUID":
-                    updateChannel(ZONEGROUPID);
+                    scheduleChannelUpdate(ZONEGROUPID);
                     break;
                 case "GroupCoordinatorIsLocal":
-                    updateChannel(LOCALCOORDINATOR);
+                    scheduleChannelUpdate(LOCALCOORDINATOR);
                     break;
                 case "VolumeMaster":
-                    updateChannel(VOLUME);
+                    scheduleChannelUpdate(VOLUME);
                     break;
                 case "MuteMaster":
-                    updateChannel(MUTE);
+                    scheduleChannelUpdate(MUTE);
                     break;
                 case "Bass":
-                    updateChannel(BASS);
+                    scheduleChannelUpdate(BASS);
                     break;
                 case "Treble":
-                    updateChannel(TREBLE);
+                    scheduleChannelUpdate(TREBLE);
                     break;
                 case "LoudnessMaster":
-                    updateChannel(LOUDNESS);
+                    scheduleChannelUpdate(LOUDNESS);
                     break;
                 case "OutputFixed":
-                    updateChannel(BASS);
-                    updateChannel(TREBLE);
-                    updateChannel(LOUDNESS);
+                    scheduleChannelUpdate(BASS);
+                    scheduleChannelUpdate(TREBLE);
+                    scheduleChannelUpdate(LOUDNESS);
                     break;
                 case "SubEnabled":
-                    updateChannel(SUBWOOFER);
+                    scheduleChannelUpdate(SUBWOOFER);
                     break;
                 case "SubGain":
-                    updateChannel(SUBWOOFERGAIN);
+                    scheduleChannelUpdate(SUBWOOFERGAIN);
                     break;
                 case "SurroundEnabled":
-                    updateChannel(SURROUND);
+                    scheduleChannelUpdate(SURROUND);
                     break;
                 case "SurroundMode":
-                    updateChannel(SURROUNDMUSICMODE);
+                    scheduleChannelUpdate(SURROUNDMUSICMODE);
                     break;
                 case "SurroundLevel":
-                    updateChannel(SURROUNDTVLEVEL);
+                    scheduleChannelUpdate(SURROUNDTVLEVEL);
                     break;
                 case "HTAudioIn":
-                    updateChannel(CODEC);
+                    scheduleChannelUpdate(CODEC);
                     break;
                 case "MusicSurroundLevel":
-                    updateChannel(SURROUNDMUSICLEVEL);
+                    scheduleChannelUpdate(SURROUNDMUSICLEVEL);
                     break;
                 case "HeightChannelLevel":
-                    updateChannel(HEIGHTLEVEL);
+                    scheduleChannelUpdate(HEIGHTLEVEL);
                     break;
                 case "NightMode":
-                    updateChannel(NIGHTMODE);
+                    scheduleChannelUpdate(NIGHTMODE);
                     break;
                 case "DialogLevel":
-                    updateChannel(SPEECHENHANCEMENT);
+                    scheduleChannelUpdate(SPEECHENHANCEMENT);
                     break;
                 case LINEINCONNECTED:
                     if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
-                        updateChannel(LINEIN);
+                        scheduleChannelUpdate(LINEIN);
                     }
                     if (SonosBindingConstants.WITH_ANALOG_LINEIN_THING_TYPES_UIDS
                             .contains(getThing().getThingTypeUID())) {
-                        updateChannel(ANALOGLINEIN);
+                        scheduleChannelUpdate(ANALOGLINEIN);
                     }
                     break;
                 case TOSLINEINCONNECTED:
                     if (SonosBindingConstants.WITH_LINEIN_THING_TYPES_UIDS.contains(getThing().getThingTypeUID())) {
-                        updateChannel(LINEIN);
+                        scheduleChannelUpdate(LINEIN);
                     }
                     if (SonosBindingConstants.WITH_DIGITAL_LINEIN_THING_TYPES_UIDS
                             .contains(getThing().getThingTypeUID())) {
-                        updateChannel(DIGITALLINEIN);
+                        scheduleChannelUpdate(DIGITALLINEIN);
                     }
                     break;
                 case "AlarmRunning":
-                    updateChannel(ALARMRUNNING);
+                    scheduleChannelUpdate(ALARMRUNNING);
                     updateRunningAlarmProperties();
                     break;
                 case "RunningAlarmProperties":
-                    updateChannel(ALARMPROPERTIES);
+                    scheduleChannelUpdate(ALARMPROPERTIES);
                     break;
                 case "CurrentURIFormatted":
-                    updateChannel(CURRENTTRACK);
+                    scheduleChannelUpdate(CURRENTTRACK);
                     break;
                 case "CurrentTitle":
-                    updateChannel(CURRENTTITLE);
+                    scheduleChannelUpdate(CURRENTTITLE);
                     break;
                 case "CurrentArtist":
-                    updateChannel(CURRENTARTIST);
+                    scheduleChannelUpdate(CURRENTARTIST);
                     break;
                 case "CurrentAlbum":
-                    updateChannel(CURRENTALBUM);
+                    scheduleChannelUpdate(CURRENTALBUM);
                     break;
                 case "CurrentURI":
-                    updateChannel(CURRENTTRANSPORTURI);
+                    scheduleChannelUpdate(CURRENTTRANSPORTURI);
                     break;
                 case "CurrentTrackURI":
-                    updateChannel(CURRENTTRACKURI);
+                    scheduleChannelUpdate(CURRENTTRACKURI);
                     break;
                 case "CurrentAlbumArtURI":
-                    updateChannel(CURRENTALBUMARTURL);
+                    scheduleChannelUpdate(CURRENTALBUMARTURL);
                     break;
                 case "CurrentSleepTimerGeneration":
                     if ("0".equals(value)) {
-                        updateState(SLEEPTIMER, new DecimalType(0));
+                        updateChannelState(SLEEPTIMER, new DecimalType(0));
                     }
                     break;
                 case "SleepTimerGeneration":
                     if ("0".equals(value)) {
-                        updateState(SLEEPTIMER, new DecimalType(0));
+                        updateChannelState(SLEEPTIMER, new DecimalType(0));
                     } else {
                         updateSleepTimerDuration();
                     }
                     break;
                 case "RemainingSleepTimerDuration":
-                    updateState(SLEEPTIMER, new DecimalType(sleepStrTimeToSeconds(value)));
+                    updateChannelState(SLEEPTIMER, new DecimalType(sleepStrTimeToSeconds(value)));
                     break;
                 case "CurrentTuneInStationId":
-                    updateChannel(TUNEINSTATIONID);
+                    scheduleChannelUpdate(TUNEINSTATIONID);
                     break;
                 case "SavedQueuesUpdateID": // service ContentDirectoy
                     for (SonosEntry entry : getPlayLists()) {
@@ -704,11 +749,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                     }
                     break;
                 case "MoreInfo":
-                    updateChannel(BATTERYCHARGING);
-                    updateChannel(BATTERYLEVEL);
+                    scheduleChannelUpdate(BATTERYCHARGING);
+                    scheduleChannelUpdate(BATTERYLEVEL);
                     break;
                 case "MicEnabled":
-                    updateChannel(MICROPHONE);
+                    scheduleChannelUpdate(MICROPHONE);
                     break;
                 default:
                     break;
@@ -1017,7 +1062,50 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                 break;
         }
         if (newState != null) {
-            updateState(channelId, newState);
+            updateChannelState(channelId, newState);
+        }
+    }
+
+    /**
+     * Queues the refresh of a channel. All the channels queued during the coalescing window are refreshed at once,
+     * each of them only once and with the latest known values.
+     *
+     * @param channelId the channel to refresh
+     */
+    private void scheduleChannelUpdate(String channelId) {
+        if (!isLinked(channelId)) {
+            return;
+        }
+        channelUpdates.queue(channelId);
+    }
+
+    private void flushChannelUpdates(List<String> channelIds) {
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            return;
+        }
+        for (String channelId : channelIds) {
+            updateChannel(channelId);
+        }
+    }
+
+    /**
+     * Updates the state of a channel unless the same state was already sent to it.
+     */
+    private void updateChannelState(String channelId, State state) {
+        if (state.equals(channelStates.put(channelId, state))) {
+            unchangedChannelUpdateCount.increment();
+            return;
+        }
+        channelUpdateCount.increment();
+        updateState(channelId, state);
+    }
+
+    private void logStatistics() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}: {} SOAP calls, {} channel updates, {} unchanged skipped, {} batches, "
+                    + "update latency avg {} ms max {} ms", getUDN(), soapCallCount.sum(), channelUpdateCount.sum(),
+                    unchangedChannelUpdateCount.sum(), channelUpdates.getBatchCount(),
+                    channelUpdates.getAverageLatencyMillis(), channelUpdates.getMaxLatencyMillis());
         }
     }
 
@@ -1041,14 +1129,14 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                     ZonePlayerHandler memberHandler = getHandlerByName(member);
                     if (ThingStatus.ONLINE.equals(memberHandler.getThing().getStatus())
                             && memberHandler.isLinked(channeldD)) {
-                        memberHandler.updateState(channeldD, state);
+                        memberHandler.updateChannelState(channeldD, state);
                     }
                 } catch (IllegalStateException e) {
                     logger.debug("Cannot update channel for group member ({})", e.getMessage());
                 }
             }
         } else if (ThingStatus.ONLINE.equals(getThing().getStatus()) && isLinked(channeldD)) {
-            updateState(channeldD, state);
+            updateChannelState(channeldD, state);
         }
     }
 
@@ -1128,8 +1216,13 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         }
     }
 
+    private Map<String, String> invokeAction(String serviceId, String actionId, @Nullable Map<String, String> inputs) {
+        soapCallCount.increment();
+        return service.invokeAction(this, serviceId, actionId, inputs);
+    }
+
     private Map<String, String> executeAction(String serviceId, String actionId, @Nullable Map<String, String> inputs) {
-        Map<String, String> result = service.invokeAction(this, serviceId, actionId, inputs);
+        Map<String, String> result = invokeAction(serviceId, actionId, inputs);
         result.forEach((variable, value) -> {
             this.onValueReceived(variable, value, serviceId);
         });
@@ -1169,8 +1262,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     protected void updateRunningAlarmProperties() {
-        Map<String, String> result = service.invokeAction(this, SERVICE_AV_TRANSPORT,
-                ACTION_GET_RUNNING_ALARM_PROPERTIES, null);
+        Map<String, String> result = invokeAction(SERVICE_AV_TRANSPORT, ACTION_GET_RUNNING_ALARM_PROPERTIES, null);
 
         String alarmID = result.get("AlarmID");
         String loggedStartTime = result.get("LoggedStartTime");
@@ -1589,47 +1681,76 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     protected List<SonosEntry> getEntries(String type, String filter) {
+        List<SonosEntry> resultList = new ArrayList<>();
+        browseEntries(type, filter, resultList::add);
+        return resultList;
+    }
+
+    /**
+     * Returns the first entry of the given type having the given title. The entries are browsed page by page
+     * and browsing stops as soon as the entry is found.
+     *
+     * @param type the object id of the container to browse
+     * @param title the title to look for
+     * @return the matching entry or null if there is none
+     */
+    protected @Nullable SonosEntry findEntryByTitle(String type, String title) {
+        List<SonosEntry> found = new ArrayList<>(1);
+        browseEntries(type, "dc:title,res,dc:creator,upnp:artist,upnp:album", entry -> {
+            if (entry.getTitle().equals(title)) {
+                found.add(entry);
+                return false;
+            }
+            return true;
+        });
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Browses the entries of the given type page by page and hands them over to the given consumer. The next page
+     * is only requested when the consumer accepted all entries of the previous one.
+     *
+     * @param type the object id of the container to browse
+     * @param filter the properties to be returned for each entry
+     * @param consumer returns false to stop browsing
+     */
+    protected void browseEntries(String type, String filter, Predicate<SonosEntry> consumer) {
         long startAt = 0;
 
         Map<String, String> inputs = new HashMap<>();
         inputs.put("ObjectID", type);
         inputs.put("BrowseFlag", "BrowseDirectChildren");
         inputs.put("Filter", filter);
-        inputs.put("StartingIndex", Long.toString(startAt));
-        inputs.put("RequestedCount", Integer.toString(200));
+        inputs.put("RequestedCount", Integer.toString(BROWSE_PAGE_SIZE));
         inputs.put("SortCriteria", "");
 
-        Map<String, String> result = service.invokeAction(this, SERVICE_CONTENT_DIRECTORY, "Browse", inputs);
-
-        String initialResult = result.get("Result");
-        if (initialResult == null) {
-            return Collections.emptyList();
-        }
-
-        long totalMatches = getResultEntry(result, "TotalMatches", type, filter);
-        long initialNumberReturned = getResultEntry(result, "NumberReturned", type, filter);
-
-        List<SonosEntry> resultList = SonosXMLParser.getEntriesFromString(initialResult);
-        startAt = startAt + initialNumberReturned;
-
+        long totalMatches = 1;
         while (startAt < totalMatches) {
+            // Execute this action synchronously
             inputs.put("StartingIndex", Long.toString(startAt));
-            result = service.invokeAction(this, SERVICE_CONTENT_DIRECTORY, "Browse", inputs);
+            Map<String, String> result = invokeAction(SERVICE_CONTENT_DIRECTORY, "Browse", inputs);
 
-            // Execute this action synchronously
-            String nextResult = result.get("Result");
-            if (nextResult == null) {
-                break;
+            String pageResult = result.get("Result");
+            if (pageResult == null) {
+                return;
             }
 
+            if (startAt == 0) {
+                totalMatches = getResultEntry(result, "TotalMatches", type, filter);
+            }
             long numberReturned = getResultEntry(result, "NumberReturned", type, filter);
 
-            resultList.addAll(SonosXMLParser.getEntriesFromString(nextResult));
+            for (SonosEntry entry : SonosXMLParser.getEntriesFromString(pageResult)) {
+                if (!consumer.test(entry)) {
+                    return;
+                }
+            }
 
+            if (numberReturned <= 0) {
+                return;
+            }
             startAt = startAt + numberReturned;
         }
-
-        return resultList;
     }
 
     protected long getNbEntries(String type) {
@@ -1641,7 +1762,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         inputs.put("RequestedCount", "1");
         inputs.put("SortCriteria", "");
 
-        Map<String, String> result = service.invokeAction(this, SERVICE_CONTENT_DIRECTORY, "Browse", inputs);
+        Map<String, String> result = invokeAction(SERVICE_CONTENT_DIRECTORY, "Browse", inputs);
 
         return getResultEntry(result, "TotalMatches", type, "dc:title");
     }
@@ -1712,14 +1833,10 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
                         if (queued.getUpnpClass().contains("object.container.playlistContainer")) {
                             // we are playing a real 'saved' playlist
-                            List<SonosEntry> playLists = getPlayLists();
-                            for (SonosEntry someList : playLists) {
-                                if (someList.getTitle().equals(queued.getTitle())) {
-                                    savedState.entry = new SonosEntry(someList.getId(), someList.getTitle(),
-                                            someList.getParentId(), "", "", "", someList.getUpnpClass(),
-                                            someList.getRes());
-                                    break;
-                                }
+                            SonosEntry someList = findEntryByTitle("SQ:", queued.getTitle());
+                            if (someList != null) {
+                                savedState.entry = new SonosEntry(someList.getId(), someList.getTitle(),
+                                        someList.getParentId(), "", "", "", someList.getUpnpClass(), someList.getRes());
                             }
                         } else if (queued.getUpnpClass().contains("object.container")) {
                             // we are playing some other sort of
@@ -1728,27 +1845,16 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                             logger.debug("Save State for a container of type {}", queued.getUpnpClass());
 
                             // save the playlist
-                            String existingList = "";
-                            List<SonosEntry> playLists = getPlayLists();
-                            for (SonosEntry someList : playLists) {
-                                if (someList.getTitle().equals(TITLE_PREFIX + getUDN())) {
-                                    existingList = someList.getId();
-                                    break;
-                                }
-                            }
+                            SonosEntry existingList = findEntryByTitle("SQ:", TITLE_PREFIX + getUDN());
 
-                            saveQueue(TITLE_PREFIX + getUDN(), existingList);
+                            saveQueue(TITLE_PREFIX + getUDN(), existingList != null ? existingList.getId() : "");
 
                             // get all the playlists and a ref to our
                             // saved list
-                            playLists = getPlayLists();
-                            for (SonosEntry someList : playLists) {
-                                if (someList.getTitle().equals(TITLE_PREFIX + getUDN())) {
-                                    savedState.entry = new SonosEntry(someList.getId(), someList.getTitle(),
-                                            someList.getParentId(), "", "", "", someList.getUpnpClass(),
-                                            someList.getRes());
-                                    break;
-                                }
+                            SonosEntry someList = findEntryByTitle("SQ:", TITLE_PREFIX + getUDN());
+                            if (someList != null) {
+                                savedState.entry = new SonosEntry(someList.getId(), someList.getTitle(),
+                                        someList.getParentId(), "", "", "", someList.getUpnpClass(), someList.getRes());
                             }
                         }
                     } else {
@@ -1930,7 +2036,10 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     private Collection<SonosZoneGroup> getZoneGroups() {
         String zoneGroupState = stateMap.get("ZoneGroupState");
-        return zoneGroupState == null ? Collections.emptyList() : SonosXMLParser.getZoneGroupFromXML(zoneGroupState);
+        if (zoneGroupState == null) {
+            return Collections.emptyList();
+        }
+        return ZONE_GROUP_STATES.getZoneGroups(zoneGroupState);
     }
 
     /**
@@ -3009,16 +3118,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     public void playRadio(Command command) {
         if (command instanceof StringType) {
             String station = command.toString();
-            List<SonosEntry> stations = getFavoriteRadios();
-
-            SonosEntry theEntry = null;
             // search for the appropriate radio based on its name (title)
-            for (SonosEntry someStation : stations) {
-                if (someStation.getTitle().equals(station)) {
-                    theEntry = someStation;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntryByTitle("R:0/0", station);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -3074,7 +3175,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     private @Nullable List<SonosMusicService> getAvailableMusicServices() {
         if (musicServices == null) {
-            Map<String, String> result = service.invokeAction(this, "MusicServices", "ListAvailableServices", null);
+            Map<String, String> result = invokeAction("MusicServices", "ListAvailableServices", null);
 
             String serviceList = result.get("AvailableServiceDescriptorList");
             if (serviceList != null) {
@@ -3123,16 +3224,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     public void playFavorite(Command command) {
         if (command instanceof StringType) {
             String favorite = command.toString();
-            List<SonosEntry> favorites = getFavorites();
-
-            SonosEntry theEntry = null;
             // search for the appropriate favorite based on its name (title)
-            for (SonosEntry entry : favorites) {
-                if (entry.getTitle().equals(favorite)) {
-                    theEntry = entry;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntryByTitle("FV:2", favorite);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -3188,16 +3281,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     public void playPlayList(Command command) {
         if (command instanceof StringType) {
             String playlist = command.toString();
-            List<SonosEntry> playlists = getPlayLists();
-
-            SonosEntry theEntry = null;
             // search for the appropriate play list based on its name (title)
-            for (SonosEntry somePlaylist : playlists) {
-                if (somePlaylist.getTitle().equals(playlist)) {
-                    theEntry = somePlaylist;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntryByTitle("SQ:", playlist);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -3315,8 +3400,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      */
     public void setSleepTimer(Command command) {
         if (command instanceof DecimalType decimalCommand) {
-            this.service.invokeAction(this, SERVICE_AV_TRANSPORT, ACTION_CONFIGURE_SLEEP_TIMER, Map.of("InstanceID",
-                    "0", "NewSleepTimerDuration", sleepSecondsToTimeStr(decimalCommand.longValue())));
+            invokeAction(SERVICE_AV_TRANSPORT, ACTION_CONFIGURE_SLEEP_TIMER, Map.of("InstanceID", "0",
+                    "NewSleepTimerDuration", sleepSecondsToTimeStr(decimalCommand.longValue())));
         }
     }
 
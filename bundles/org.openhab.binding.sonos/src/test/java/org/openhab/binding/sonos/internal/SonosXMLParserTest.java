@@ -79,4 +79,42 @@ public class SonosXMLParserTest {
             assertEquals("Paris, France", result.get(2));
         }
     }
+
+    @Test
+    public void getEntriesFromLargeQueue() {
+        StringBuilder xml = new StringBuilder("<DIDL-Lite xmlns:dc=\"http://purl.org/dc/elements/1.1/\" "
+                + "xmlns:upnp=\"urn:schemas-upnp-org:metadata-1-0/upnp/\" "
+                + "xmlns:r=\"urn:schemas-rinconnetworks-com:metadata-1-0/\" "
+                + "xmlns=\"urn:schemas-upnp-org:metadata-1-0/DIDL-Lite/\">");
+        for (int i = 1; i <= 2000; i++) {
+            xml.append("<item id=\"Q:0/").append(i).append("\" parentID=\"Q:0\" restricted=\"true\">")
+                    .append("<res>x-file-cifs://nas/music/track").append(i).append(".flac</res>")
+                    .append("<dc:title>Track ").append(i).append("</dc:title>")
+                    .append("<upnp:class>object.item.audioItem.musicTrack</upnp:class>")
+                    .append("<dc:creator>Artist</dc:creator><upnp:album>Album</upnp:album>")
+                    .append("<upnp:originalTrackNumber>").append(i).append("</upnp:originalTrackNumber>")
+                    .append("<r:resMD>&lt;DIDL-Lite xmlns:dc=&quot;http://purl.org/dc/elements/1.1/&quot; ")
+                    .append("xmlns:upnp=&quot;urn:schemas-upnp-org:metadata-1-0/upnp/&quot;&gt;")
+                    .append("&lt;item id=&quot;R").append(i).append("&quot; parentID=&quot;P&quot;&gt;")
+                    .append("&lt;upnp:class&gt;object.container.playlistContainer&lt;/upnp:class&gt;")
+                    .append("&lt;/item&gt;&lt;/DIDL-Lite&gt;</r:resMD></item>");
+        }
+        xml.append("</DIDL-Lite>");
+
+        // parse twice so that the second run uses the reader pooled by the first one
+        for (int run = 0; run < 2; run++) {
+            List<SonosEntry> entries = SonosXMLParser.getEntriesFromString(xml.toString());
+            assertEquals(2000, entries.size());
+            SonosEntry last = entries.get(1999);
+            assertEquals("Q:0/2000", last.getId());
+            assertEquals("Track 2000", last.getTitle());
+            assertEquals(2000, last.getOriginalTrackNumber());
+            SonosResourceMetaData metaData = last.getResourceMetaData();
+            assertNotNull(metaData);
+            if (metaData != null) {
+                assertEquals("R2000", metaData.getId());
+                assertEquals("object.container.playlistContainer", metaData.getUpnpClass());
+            }
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests {@link ChannelUpdateCoalescer}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class ChannelUpdateCoalescerTest {
+    private static final long WINDOW_MS = 50;
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> future;
+
+    private final List<List<String>> flushes = new ArrayList<>();
+    private @NonNullByDefault({}) ChannelUpdateCoalescer coalescer;
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(future).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        coalescer = new ChannelUpdateCoalescer(scheduler, WINDOW_MS, flushes::add);
+    }
+
+    private Runnable scheduledFlush(int times) {
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(times)).schedule(flush.capture(), eq(WINDOW_MS), eq(TimeUnit.MILLISECONDS));
+        return flush.getValue();
+    }
+
+    @Test
+    public void channelsOfOneWindowAreFlushedOnceEach() {
+        coalescer.queue("volume");
+        coalescer.queue("mute");
+        coalescer.queue("volume");
+        coalescer.queue("state");
+
+        scheduledFlush(1).run();
+
+        assertEquals(List.of(List.of("volume", "mute", "state")), flushes);
+        assertEquals(1, coalescer.getBatchCount());
+    }
+
+    @Test
+    public void channelQueuedAfterTheFlushStartsANewWindow() {
+        coalescer.queue("volume");
+        scheduledFlush(1).run();
+
+        coalescer.queue("volume");
+        scheduledFlush(2).run();
+
+        assertEquals(List.of(List.of("volume"), List.of("volume")), flushes);
+        assertEquals(2, coalescer.getBatchCount());
+    }
+
+    @Test
+    public void cancelDropsQueuedChannels() {
+        coalescer.queue("volume");
+        Runnable flush = scheduledFlush(1);
+
+        coalescer.cancel();
+        flush.run();
+
+        verify(future).cancel(false);
+        assertTrue(flushes.isEmpty());
+        assertEquals(0, coalescer.getBatchCount());
+
+        coalescer.queue("mute");
+        scheduledFlush(2).run();
+        assertEquals(List.of(List.of("mute")), flushes);
+    }
+
+    @Test
+    public void latencyIsMeasuredFromTheFirstQueuedChannel() throws InterruptedException {
+        coalescer.queue("volume");
+        Thread.sleep(20);
+        coalescer.queue("mute");
+
+        scheduledFlush(1).run();
+
+        assertTrue(coalescer.getMaxLatencyMillis() >= 20);
+        assertEquals(coalescer.getMaxLatencyMillis(), coalescer.getAverageLatencyMillis());
+    }
+}
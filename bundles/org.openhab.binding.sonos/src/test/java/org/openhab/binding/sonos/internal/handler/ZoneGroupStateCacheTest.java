@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.sonos.internal.SonosZoneGroup;
+
+/**
+ * Tests {@link ZoneGroupStateCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ZoneGroupStateCacheTest {
+
+    private static String topology(String... players) {
+        StringBuilder xml = new StringBuilder("<ZoneGroupState><ZoneGroups>");
+        for (String player : players) {
+            xml.append("<ZoneGroup Coordinator=\"").append(player).append("\" ID=\"").append(player)
+                    .append(":1\"><ZoneGroupMember UUID=\"").append(player).append("\" ZoneName=\"")
+                    .append(player).append("\"/></ZoneGroup>");
+        }
+        return xml.append("</ZoneGroups></ZoneGroupState>").toString();
+    }
+
+    @Test
+    public void topologyIsParsedOnceForAllPlayers() {
+        ZoneGroupStateCache cache = new ZoneGroupStateCache(2);
+        String xml = topology("RINCON_A", "RINCON_B");
+
+        List<SonosZoneGroup> groups = cache.getZoneGroups(xml);
+
+        assertEquals(2, groups.size());
+        assertEquals("RINCON_A", groups.get(0).getCoordinator());
+        assertSame(groups, cache.getZoneGroups(new String(xml)));
+    }
+
+    @Test
+    public void householdsDoNotEvictEachOther() {
+        ZoneGroupStateCache cache = new ZoneGroupStateCache(2);
+        String firstHousehold = topology("RINCON_A");
+        String secondHousehold = topology("RINCON_B");
+
+        List<SonosZoneGroup> first = cache.getZoneGroups(firstHousehold);
+        List<SonosZoneGroup> second = cache.getZoneGroups(secondHousehold);
+
+        assertSame(first, cache.getZoneGroups(firstHousehold));
+        assertSame(second, cache.getZoneGroups(secondHousehold));
+        assertEquals("RINCON_B", second.get(0).getCoordinator());
+    }
+
+    @Test
+    public void leastRecentlyUsedTopologyIsDropped() {
+        ZoneGroupStateCache cache = new ZoneGroupStateCache(2);
+        String first = topology("RINCON_A");
+        String second = topology("RINCON_B");
+        List<SonosZoneGroup> firstGroups = cache.getZoneGroups(first);
+        List<SonosZoneGroup> secondGroups = cache.getZoneGroups(second);
+        cache.getZoneGroups(first);
+
+        cache.getZoneGroups(topology("RINCON_C"));
+
+        assertSame(firstGroups, cache.getZoneGroups(first));
+        assertNotSame(secondGroups, cache.getZoneGroups(second));
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -97,6 +98,11 @@ public class SysteminfoHandler extends BaseThingHandler {
      */
     private final Set<ChannelUID> lowPriorityChannels = new HashSet<>();
 
+    /**
+     * States last published to the channels. Periodic refreshes only publish states which differ from these.
+     */
+    private final Map<ChannelUID, State> publishedStates = new ConcurrentHashMap<>();
+
     /**
      * Wait time for the creation of Item-Channel links in seconds. This delay is needed, because the Item-Channel
      * links have to be created before the thing state is updated, otherwise item state will not be updated.
@@ -401,19 +407,30 @@ public class SysteminfoHandler extends BaseThingHandler {
         if (!ThingStatus.ONLINE.equals(thing.getStatus())) {
             return;
         }
+        // all channels of this refresh share the information queried from the system
+        systeminfo.startSnapshot();
         Iterator<ChannelUID> iter = channels.iterator();
         while (iter.hasNext()) {
             ChannelUID channeUID = iter.next();
             if (isLinked(channeUID.getId())) {
-                publishDataForChannel(channeUID);
+                publishDataForChannel(channeUID, false);
             }
         }
     }
 
-    private void publishDataForChannel(ChannelUID channelUID) {
+    /**
+     * Publish the current state of a channel.
+     *
+     * @param channelUID the UID of the channel
+     * @param force whether to publish the state even if it equals the state published before
+     */
+    private void publishDataForChannel(ChannelUID channelUID, boolean force) {
         State state = getInfoForChannel(channelUID);
-        String channelID = channelUID.getId();
-        updateState(channelID, state);
+        State publishedState = publishedStates.put(channelUID, state);
+        if (force || !state.equals(publishedState)) {
+            String channelID = channelUID.getId();
+            updateState(channelID, state);
+        }
     }
 
     public Set<ChannelUID> getHighPriorityChannels() {
@@ -727,7 +744,8 @@ public class SysteminfoHandler extends BaseThingHandler {
         if (thing.getStatus().equals(ThingStatus.ONLINE)) {
             if (command instanceof RefreshType) {
                 logger.debug("Refresh command received for channel {} !", channelUID);
-                publishDataForChannel(channelUID);
+                systeminfo.startSnapshot();
+                publishDataForChannel(channelUID, true);
             } else {
                 logger.debug("Unsupported command {} ! Supported commands: REFRESH", command);
             }
@@ -794,7 +812,8 @@ public class SysteminfoHandler extends BaseThingHandler {
         Object newValue = newConfig.get(parameter);
         logger.debug("Channel with UID {} has changed its {} from {} to {}", channel.getUID(), parameter, oldValue,
                 newValue);
-        publishDataForChannel(channel.getUID());
+        systeminfo.startSnapshot();
+        publishDataForChannel(channel.getUID(), true);
     }
 
     @Override
@@ -820,5 +839,6 @@ public class SysteminfoHandler extends BaseThingHandler {
     @Override
     public void dispose() {
         stopScheduledUpdates();
+        publishedStates.clear();
     }
 }
@@ -14,9 +14,12 @@ package org.openhab.binding.systeminfo.internal.model;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.measure.quantity.ElectricPotential;
 import javax.measure.quantity.Temperature;
@@ -93,6 +96,11 @@ public class OSHISysteminfo implements SysteminfoInterface {
     // Map containing previous process state to calculate load by process
     private Map<Integer, OSProcess> processTicks = new HashMap<>();
 
+    // Information queried in the current snapshot, see startSnapshot()
+    private final Set<Object> snapshotUpdatedDevices = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Integer, OSProcess> snapshotProcesses = new HashMap<>();
+    private double @Nullable [] snapshotLoadAverages;
+
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
     /**
@@ -138,14 +146,37 @@ public class OSHISysteminfo implements SysteminfoInterface {
         return devices[index];
     }
 
-    private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
+    private synchronized OSProcess getProcess(int pid) throws DeviceNotFoundException {
+        OSProcess process = snapshotProcesses.get(pid);
         if (process == null) {
-            throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+            process = operatingSystem.getProcess(pid);
+            if (process == null) {
+                throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+            }
+            snapshotProcesses.put(pid, process);
         }
         return process;
     }
 
+    /**
+     * Update the attributes of a device, if this was not done yet in the current snapshot.
+     *
+     * @param device the device, e.g. a file store or network interface
+     * @param update the update of the attributes of the device
+     */
+    private synchronized void updateInSnapshot(Object device, Runnable update) {
+        if (snapshotUpdatedDevices.add(device)) {
+            update.run();
+        }
+    }
+
+    @Override
+    public synchronized void startSnapshot() {
+        snapshotUpdatedDevices.clear();
+        snapshotProcesses.clear();
+        snapshotLoadAverages = null;
+    }
+
     @Override
     public StringType getOsFamily() {
         String osFamily = operatingSystem.getFamily();
@@ -223,7 +254,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageTotal(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        updateInSnapshot(fileStore, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new QuantityType<>(totalSpace, Units.MEBIBYTE);
@@ -232,7 +263,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageAvailable(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        updateInSnapshot(fileStore, fileStore::updateAttributes);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new QuantityType<>(freeSpace, Units.MEBIBYTE);
@@ -241,7 +272,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageUsed(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        updateInSnapshot(fileStore, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -252,7 +283,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable PercentType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        updateInSnapshot(fileStore, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -267,7 +298,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable PercentType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        updateInSnapshot(fileStore, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -304,7 +335,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
         NetworkIF netInterface = getDevice(networks, index);
-        netInterface.updateAttributes();
+        updateInSnapshot(netInterface, netInterface::updateAttributes);
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -369,7 +400,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable QuantityType<Time> getBatteryRemainingTime(int index) throws DeviceNotFoundException {
         PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        updateInSnapshot(powerSource, powerSource::updateAttributes);
         double remainingTimeInSeconds = powerSource.getTimeRemainingEstimated();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -379,7 +410,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public PercentType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
         PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        updateInSnapshot(powerSource, powerSource::updateAttributes);
         double remainingCapacity = powerSource.getRemainingCapacityPercent();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new PercentType(remainingCapacityPercents);
@@ -563,12 +594,21 @@ public class OSHISysteminfo implements SysteminfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        double[] processorLoads = getSystemLoadAverages();
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return result;
     }
 
+    private synchronized double[] getSystemLoadAverages() {
+        double[] loadAverages = snapshotLoadAverages;
+        if (loadAverages == null) {
+            loadAverages = cpu.getSystemLoadAverage(3);
+            snapshotLoadAverages = loadAverages;
+        }
+        return loadAverages;
+    }
+
     @Override
     public QuantityType<Time> getCpuUptime() {
         long seconds = operatingSystem.getSystemUptime();
@@ -591,7 +631,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        updateInSnapshot(network, network::updateAttributes);
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
@@ -599,7 +639,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        updateInSnapshot(network, network::updateAttributes);
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
@@ -607,7 +647,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public QuantityType<DataAmount> getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        updateInSnapshot(network, network::updateAttributes);
         long bytesSent = network.getBytesSent();
         return new QuantityType<>(getSizeInMB(bytesSent), Units.MEBIBYTE);
     }
@@ -615,7 +655,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public QuantityType<DataAmount> getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        updateInSnapshot(network, network::updateAttributes);
         long bytesRecv = network.getBytesRecv();
         return new QuantityType<>(getSizeInMB(bytesRecv), Units.MEBIBYTE);
     }
@@ -40,6 +40,13 @@ public interface SysteminfoInterface {
      */
     void initializeSysteminfo();
 
+    /**
+     * Start a new snapshot of the dynamic information. Until the next call, the information of each device, process
+     * and sensor is queried from the system at most once, so that channels updated together share the queries and get
+     * values of the same point in time.
+     */
+    void startSnapshot();
+
     // Operating system info
     /**
      * Get the Family of the operating system /e.g. Windows, Unix,.../
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.systeminfo.internal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.NetworkIF;
+import oshi.software.os.OSFileStore;
+
+/**
+ * Tests that {@link OSHISysteminfo} queries each device at most once per snapshot.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OSHISysteminfoTest {
+    private @NonNullByDefault({}) OSHISysteminfo systeminfo;
+    private @NonNullByDefault({}) OSFileStore fileStore;
+    private @NonNullByDefault({}) NetworkIF network;
+    private @NonNullByDefault({}) NetworkIF otherNetwork;
+    private @NonNullByDefault({}) CentralProcessor cpu;
+
+    @BeforeEach
+    public void setUp() throws ReflectiveOperationException {
+        fileStore = mock(OSFileStore.class);
+        when(fileStore.getTotalSpace()).thenReturn(4L << 30);
+        when(fileStore.getUsableSpace()).thenReturn(1L << 30);
+        network = mock(NetworkIF.class);
+        otherNetwork = mock(NetworkIF.class);
+        cpu = mock(CentralProcessor.class);
+        when(cpu.getSystemLoadAverage(3)).thenReturn(new double[] { 1.0, 5.0, 15.0 });
+
+        systeminfo = new OSHISysteminfo();
+        setField("fileStores", List.of(fileStore));
+        setField("networks", List.of(network, otherNetwork));
+        setField("cpu", cpu);
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = OSHISysteminfo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(systeminfo, value);
+    }
+
+    @Test
+    public void eachDeviceIsUpdatedOncePerSnapshot() throws DeviceNotFoundException {
+        systeminfo.startSnapshot();
+        systeminfo.getStorageTotal(0);
+        systeminfo.getStorageAvailable(0);
+        systeminfo.getStorageUsed(0);
+        systeminfo.getStorageUsedPercent(0);
+        systeminfo.getNetworkPacketsReceived(0);
+        systeminfo.getNetworkPacketsSent(0);
+        systeminfo.getNetworkDataReceived(1);
+
+        verify(fileStore, times(1)).updateAttributes();
+        verify(network, times(1)).updateAttributes();
+        verify(otherNetwork, times(1)).updateAttributes();
+
+        systeminfo.startSnapshot();
+        systeminfo.getStorageAvailable(0);
+        systeminfo.getNetworkDataSent(0);
+        systeminfo.getNetworkDataReceived(0);
+
+        verify(fileStore, times(2)).updateAttributes();
+        verify(network, times(2)).updateAttributes();
+        verify(otherNetwork, times(1)).updateAttributes();
+    }
+
+    @Test
+    public void loadAveragesAreQueriedOncePerSnapshot() {
+        systeminfo.startSnapshot();
+        assertEquals(new DecimalType(1.0), systeminfo.getCpuLoad1());
+        assertEquals(new DecimalType(5.0), systeminfo.getCpuLoad5());
+        assertEquals(new DecimalType(15.0), systeminfo.getCpuLoad15());
+
+        verify(cpu, times(1)).getSystemLoadAverage(3);
+
+        systeminfo.startSnapshot();
+        systeminfo.getCpuLoad15();
+
+        verify(cpu, times(2)).getSystemLoadAverage(3);
+    }
+}
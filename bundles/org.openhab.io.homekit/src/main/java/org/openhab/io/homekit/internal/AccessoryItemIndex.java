@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Keeps track of the items each root accessory was created from, and the reverse index, so that a change of an item
+ * only rebuilds the accessories it is part of.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class AccessoryItemIndex {
+    private final Map<String, Set<String>> accessoryItems = new HashMap<>();
+    private final Map<String, Set<String>> itemAccessories = new HashMap<>();
+
+    /**
+     * Sets the items an accessory was created from, replacing the items known before.
+     */
+    synchronized void track(String accessoryName, Set<String> itemNames) {
+        untrack(accessoryName);
+        Set<String> items = Set.copyOf(itemNames);
+        accessoryItems.put(accessoryName, items);
+        items.forEach(name -> itemAccessories.computeIfAbsent(name, k -> new HashSet<>()).add(accessoryName));
+    }
+
+    /**
+     * Forgets the items of an accessory.
+     */
+    synchronized void untrack(String accessoryName) {
+        Set<String> items = accessoryItems.remove(accessoryName);
+        if (items != null) {
+            items.forEach(name -> itemAccessories.computeIfPresent(name, (k, accessories) -> {
+                accessories.remove(accessoryName);
+                return accessories.isEmpty() ? null : accessories;
+            }));
+        }
+    }
+
+    /**
+     * Returns whether the item is part of any accessory.
+     */
+    synchronized boolean isTracked(String itemName) {
+        return itemAccessories.containsKey(itemName);
+    }
+
+    /**
+     * Returns the names of the accessories the item is part of.
+     */
+    synchronized Set<String> getAccessories(String itemName) {
+        Set<String> accessories = itemAccessories.get(itemName);
+        return accessories != null ? Set.copyOf(accessories) : Set.of();
+    }
+
+    synchronized void clear() {
+        accessoryItems.clear();
+        itemAccessories.clear();
+    }
+}
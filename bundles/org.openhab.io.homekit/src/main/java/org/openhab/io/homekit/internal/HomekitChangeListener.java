@@ -24,8 +24,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -75,7 +77,13 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private int instance;
     private List<String> priorDummies = new ArrayList<>();
 
-    private final Set<String> pendingUpdates = new HashSet<>();
+    /**
+     * Names of the items and accessory groups to rebuild. Registry callbacks only add to it without taking the
+     * listener's lock, so they never wait for a running {@link #applyUpdates()}.
+     */
+    private final Set<String> pendingUpdates = ConcurrentHashMap.newKeySet();
+
+    private final AccessoryItemIndex accessoryItemIndex = new AccessoryItemIndex();
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
@@ -198,8 +206,12 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         return metadataRegistry.get(new MetadataKey(HomekitAccessoryFactory.METADATA_KEY, item.getUID())) != null;
     }
 
+    private boolean isRelevant(Item item) {
+        return accessoryItemIndex.isTracked(item.getName()) || hasHomeKitMetadata(item);
+    }
+
     @Override
-    public synchronized void added(Item item) {
+    public void added(Item item) {
         if (hasHomeKitMetadata(item)) {
             markDirty(item);
         }
@@ -216,9 +228,13 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      *
      * @param item The item that has been changed or removed.
      */
-    private synchronized void markDirty(Item item) {
+    private void markDirty(Item item) {
         logger.trace("Mark dirty item {}", item.getName());
         pendingUpdates.add(item.getName());
+        /*
+         * Accessories created from this item, including those of groups the item is no longer member of.
+         */
+        pendingUpdates.addAll(accessoryItemIndex.getAccessories(item.getName()));
         /*
          * If findMyAccessoryGroups fails because the accessory group has already been deleted, then we can count on a
          * later update telling us that the accessory group was removed.
@@ -237,8 +253,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public synchronized void removed(Item item) {
-        if (hasHomeKitMetadata(item)) {
+    public void removed(Item item) {
+        if (isRelevant(item)) {
             markDirty(item);
         }
     }
@@ -270,6 +286,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                     logger.info("Pruning dummy accessory {}.", name);
                     knownAccessories.remove(name);
                     accessoryRegistry.remove(name);
+                    accessoryItemIndex.untrack(name);
                     removed = true;
                 } catch (ExecutionException | InterruptedException e) {
                     // will never happen; it's a always completed future
@@ -282,25 +299,37 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     private synchronized void applyUpdates() {
+        // take the pending names out first; names marked dirty meanwhile are left for the next debounced run
+        final List<String> names = new ArrayList<>(pendingUpdates);
+        pendingUpdates.removeAll(names);
+        if (names.isEmpty()) {
+            return;
+        }
         logger.trace("Apply updates");
+        final long start = System.nanoTime();
 
         HomekitRoot bridge = accessoryRegistry.getBridge();
         if (bridge != null) {
             bridge.batchUpdate();
         }
 
+        int rebuilt = 0;
         try {
             boolean changed = false;
-            for (final String name : pendingUpdates) {
+            for (final String name : names) {
                 String oldValue = knownAccessories.get(name);
+                boolean existed = accessoryRegistry.getAllAccessories().containsKey(name);
                 accessoryRegistry.remove(name);
+                accessoryItemIndex.untrack(name);
                 logger.trace(" Add items {}", name);
                 getItemOptional(name).ifPresent(this::createRootAccessories);
+                if (existed || accessoryRegistry.getAllAccessories().containsKey(name)) {
+                    rebuilt++;
+                }
                 if (accessoryChanged(name, oldValue)) {
                     changed = true;
                 }
             }
-            pendingUpdates.clear();
             if (checkMissingAccessories() || changed) {
                 makeNewConfigurationRevision();
             }
@@ -310,6 +339,22 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                 bridge.completeUpdateBatch();
             }
         }
+        logger.debug("Rebuilt {} HomeKit accessories for {} changed items in instance {} in {} ms.", rebuilt,
+                names.size(), instance, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void trackItems(String accessoryName, Item item) {
+        final Set<String> items = new HashSet<>();
+        collectItems(item, items);
+        accessoryItemIndex.track(accessoryName, items);
+    }
+
+    private void collectItems(Item item, Set<String> items) {
+        if (items.add(item.getName()) && item instanceof GroupItem groupItem) {
+            // only members with HomeKit metadata contribute characteristics or linked services
+            groupItem.getMembers().stream().filter(this::hasHomeKitMetadata)
+                    .forEach(member -> collectItems(member, items));
+        }
     }
 
     private boolean accessoryChanged(String name, @Nullable String oldValue) {
@@ -323,8 +368,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     @Override
     public void updated(Item oldElement, Item element) {
-        markDirty(oldElement);
-        markDirty(element);
+        if (isRelevant(oldElement) || isRelevant(element)) {
+            markDirty(oldElement);
+            markDirty(element);
+        }
     }
 
     public int getLastAccessoryCount() {
@@ -333,6 +380,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        accessoryItemIndex.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
@@ -497,6 +545,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                     });
             knownAccessories.put(taggedItem.getName(), accessory.toJson());
             accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            trackItems(taggedItem.getName(), item);
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}", taggedItem);
         }
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AccessoryItemIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AccessoryItemIndexTest {
+    private final AccessoryItemIndex index = new AccessoryItemIndex();
+
+    @Test
+    public void testItemsOfSeveralAccessories() {
+        index.track("gLight", Set.of("gLight", "Light_Switch", "Light_Brightness"));
+        index.track("gFan", Set.of("gFan", "Light_Switch"));
+
+        assertEquals(Set.of("gLight", "gFan"), index.getAccessories("Light_Switch"));
+        assertEquals(Set.of("gLight"), index.getAccessories("Light_Brightness"));
+        assertTrue(index.isTracked("gFan"));
+        assertFalse(index.isTracked("Other"));
+        assertEquals(Set.of(), index.getAccessories("Other"));
+    }
+
+    @Test
+    public void testTrackReplacesItems() {
+        index.track("gLight", Set.of("gLight", "Light_Switch", "Light_Brightness"));
+        index.track("gLight", Set.of("gLight", "Light_Switch"));
+
+        assertEquals(Set.of("gLight"), index.getAccessories("Light_Switch"));
+        assertFalse(index.isTracked("Light_Brightness"));
+    }
+
+    @Test
+    public void testUntrack() {
+        index.track("gLight", Set.of("gLight", "Light_Switch"));
+        index.track("gFan", Set.of("gFan", "Light_Switch"));
+        index.untrack("gLight");
+
+        assertEquals(Set.of("gFan"), index.getAccessories("Light_Switch"));
+        assertFalse(index.isTracked("gLight"));
+
+        index.untrack("gFan");
+        assertFalse(index.isTracked("Light_Switch"));
+
+        // unknown accessories are ignored
+        index.untrack("gFan");
+    }
+
+    @Test
+    public void testClear() {
+        index.track("gLight", Set.of("gLight", "Light_Switch"));
+        index.clear();
+
+        assertFalse(index.isTracked("gLight"));
+        assertFalse(index.isTracked("Light_Switch"));
+        assertEquals(Set.of(), index.getAccessories("Light_Switch"));
+
+        // tracking works as before after a clear
+        index.track("gLight", Set.of("gLight"));
+        assertEquals(Set.of("gLight"), index.getAccessories("gLight"));
+    }
+
+    @Test
+    public void testReturnedAccessoriesAreACopy() {
+        index.track("gLight", Set.of("Light_Switch"));
+        Set<String> accessories = index.getAccessories("Light_Switch");
+        index.untrack("gLight");
+
+        assertEquals(Set.of("gLight"), accessories);
+    }
+}
@@ -16,9 +16,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,7 +36,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.JinjavaConfig;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
@@ -47,8 +57,26 @@ public class JinjaTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
+    /**
+     * Upper bound for the number of parsed templates kept in the cache. Templates normally come from static
+     * configuration (e.g. Home Assistant discovery), so the limit is only a safeguard against unbounded growth; the
+     * least recently used template is evicted first.
+     */
+    static final int MAX_CACHED_TEMPLATES = 1000;
+
     private final JinjavaConfig config = JinjavaConfig.newBuilder().withFailOnUnknownTokens(true).build();
     private final Jinjava jinjava = new Jinjava(config);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, CachedTemplate> templateCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedTemplate> eldest) {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+    private volatile @Nullable ParsedValue lastValue;
 
     /**
      * Transforms the input <code>value</code> by Jinja template.
@@ -65,23 +93,115 @@ public class JinjaTransformationService implements TransformationService {
         logger.debug("about to transform '{}' by the function '{}'", value, template);
 
         bindings.put("value", value);
+        ParsedValue parsedValue = parseValue(value);
+        JsonNode json = parsedValue.json;
+        if (json != null) {
+            // every rendering gets its own copy, templates may modify it
+            bindings.put("value_json", toObject(json));
+        }
 
+        CachedTemplate cachedTemplate = getTemplate(template);
+        long start = System.nanoTime();
         try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
+            transformationResult = cachedTemplate != null ? render(cachedTemplate, bindings)
+                    : jinjava.render(template, bindings);
+        } catch (InterpretException e) {
+            throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
+        } finally {
+            if (cachedTemplate != null) {
+                cachedTemplate.recordRender(System.nanoTime() - start);
+            }
+        }
+
+        logger.debug("transformation resulted in '{}'", transformationResult);
+
+        return transformationResult;
+    }
+
+    /**
+     * Returns the parsed JSON tree of the given value. The result of the last parse is kept, so that several
+     * templates evaluated against the same payload (e.g. the channels of one MQTT state topic) only parse it once.
+     * The tree is shared between renderings and must not be modified.
+     */
+    private ParsedValue parseValue(String value) {
+        ParsedValue parsedValue = lastValue;
+        if (parsedValue != null && parsedValue.value.equals(value)) {
+            return parsedValue;
+        }
+        try {
+            parsedValue = new ParsedValue(value, objectMapper.readTree(value));
         } catch (IOException e) {
             // ok, then value_json is null...
+            parsedValue = new ParsedValue(value, null);
+        }
+        lastValue = parsedValue;
+        return parsedValue;
+    }
+
+    /**
+     * Returns the parsed template tree for the given template text, parsing it on first use.
+     *
+     * @return the cached template or <code>null</code> if the template could not be parsed without errors. In that
+     *         case it is rendered the regular way, so that the errors are reported as before.
+     */
+    private @Nullable CachedTemplate getTemplate(String template) {
+        CachedTemplate cachedTemplate;
+        synchronized (templateCache) {
+            cachedTemplate = templateCache.get(template);
+        }
+        if (cachedTemplate != null) {
+            return cachedTemplate;
         }
 
+        JinjavaInterpreter interpreter = newInterpreter(Map.of());
+        JinjavaInterpreter.pushCurrent(interpreter);
         try {
-            transformationResult = jinjava.render(template, bindings);
-        } catch (FatalTemplateErrorsException e) {
-            throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
+            Node root = interpreter.parse(template);
+            if (!interpreter.getErrorsCopy().isEmpty()) {
+                return null;
+            }
+            cachedTemplate = new CachedTemplate(template, root);
+            synchronized (templateCache) {
+                CachedTemplate previous = templateCache.putIfAbsent(template, cachedTemplate);
+                return previous != null ? previous : cachedTemplate;
+            }
+        } catch (InterpretException e) {
+            return null;
+        } finally {
+            JinjavaInterpreter.popCurrent();
         }
+    }
 
-        logger.debug("transformation resulted in '{}'", transformationResult);
+    private String render(CachedTemplate cachedTemplate, Map<String, @Nullable Object> bindings) {
+        JinjavaInterpreter interpreter = newInterpreter(bindings);
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            String result = interpreter.render(cachedTemplate.root);
+            List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                    .filter(error -> error.getSeverity() == ErrorType.FATAL).collect(Collectors.toList());
+            if (!fatalErrors.isEmpty()) {
+                throw new FatalTemplateErrorsException(cachedTemplate.template, fatalErrors);
+            }
+            return result;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
 
-        return transformationResult;
+    private JinjavaInterpreter newInterpreter(Map<String, @Nullable Object> bindings) {
+        Context context = new Context(jinjava.getGlobalContextCopy(), bindings, config.getDisabled());
+        return new JinjavaInterpreter(jinjava, context, config);
+    }
+
+    /**
+     * Returns how often the given template was rendered from its cached tree.
+     */
+    long getRenderCount(String template) {
+        CachedTemplate cachedTemplate;
+        synchronized (templateCache) {
+            cachedTemplate = templateCache.get(template);
+        }
+        return cachedTemplate != null ? cachedTemplate.renderCount.sum() : 0;
     }
 
     private static @Nullable Object toObject(JsonNode node) {
@@ -113,4 +233,39 @@ public class JinjaTransformationService implements TransformationService {
                 return null;
         }
     }
+
+    private static class ParsedValue {
+        private final String value;
+        private final @Nullable JsonNode json;
+
+        private ParsedValue(String value, @Nullable JsonNode json) {
+            this.value = value;
+            this.json = json;
+        }
+    }
+
+    private class CachedTemplate {
+        private final String template;
+        private final Node root;
+        private final LongAdder renderCount = new LongAdder();
+        private final LongAdder renderNanos = new LongAdder();
+        private final AtomicLong maxRenderNanos = new AtomicLong();
+
+        private CachedTemplate(String template, Node root) {
+            this.template = template;
+            this.root = root;
+        }
+
+        private void recordRender(long nanos) {
+            renderCount.increment();
+            renderNanos.add(nanos);
+            maxRenderNanos.accumulateAndGet(nanos, Math::max);
+            if (logger.isTraceEnabled()) {
+                long count = renderCount.sum();
+                logger.trace("template '{}' rendered in {} us (count: {}, avg: {} us, max: {} us)", template,
+                        nanos / 1000, count, renderNanos.sum() / count / 1000,
+                        maxRenderNanos.get() / 1000);
+            }
+        }
+    }
 }
@@ -115,4 +115,50 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplateIsReused() throws TransformationException {
+        String template = "{{ value_json.string }}";
+
+        assertEquals("world", processor.transform(template, "{\"string\": \"world\"}"));
+        assertEquals("moon", processor.transform(template, "{\"string\": \"moon\"}"));
+        assertEquals("Hello moon!", processor.transform("Hello {{ value_json.string }}!", "{\"string\": \"moon\"}"));
+
+        assertEquals(2, processor.getRenderCount(template));
+    }
+
+    @Test
+    public void testCachedTemplateStillReportsErrors() throws TransformationException {
+        String template = "{{ value_json.string }}";
+
+        assertEquals("world", processor.transform(template, "{\"string\": \"world\"}"));
+        assertThrows(TransformationException.class, () -> processor.transform(template, "{\"other\": \"world\"}"));
+        assertThrows(TransformationException.class, () -> processor.transform(template, "no json"));
+    }
+
+    @Test
+    public void testTemplateCanModifyJsonValue() throws TransformationException {
+        String template = "{% do value_json.items.append(3) %}{{ value_json.items|length }}";
+        String json = "{\"items\": [1, 2]}";
+
+        // every rendering gets its own copy of the parsed value
+        assertEquals("3", processor.transform(template, json));
+        assertEquals("3", processor.transform(template, json));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTemplateIsEvicted() throws TransformationException {
+        String used = "{{ value }}";
+        String unused = "unused {{ value }}";
+
+        processor.transform(unused, "x");
+        processor.transform(used, "x");
+        for (int i = 0; i < JinjaTransformationService.MAX_CACHED_TEMPLATES; i++) {
+            processor.transform(used, "x");
+            processor.transform("template " + i + " {{ value }}", "x");
+        }
+
+        assertEquals(JinjaTransformationService.MAX_CACHED_TEMPLATES + 1, processor.getRenderCount(used));
+        assertEquals(0, processor.getRenderCount(unused));
+    }
 }
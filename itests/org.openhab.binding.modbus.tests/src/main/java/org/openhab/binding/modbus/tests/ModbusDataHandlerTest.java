@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -874,6 +875,134 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
                 ThingStatus.ONLINE);
     }
 
+    private final class CountingTransformation implements TransformationService {
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public String transform(String function, String source) throws TransformationException {
+            invocations.incrementAndGet();
+            return source;
+        }
+    }
+
+    private ModbusDataThingHandler createRegisterReader(ModbusReadRequestBlueprint request,
+            Configuration dataConfig) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+        doReturn(3).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+        dataConfig.put("readStart", "0");
+        dataConfig.put("readValueType", "int16");
+
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig), bundleContext);
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        // The REFRESH commands sent by the core for the new links make the handler forget the last read data
+        waitForAssert(
+                () -> verify((ModbusPollerThingHandler) poller.getHandler(), times(CHANNEL_TO_ACCEPTED_TYPE.size()))
+                        .refresh());
+        return dataHandler;
+    }
+
+    private List<State> getStateUpdates(ModbusDataThingHandler handler, String channel) {
+        List<State> updates = getStateUpdates(getItemName(new ChannelUID(handler.getThing().getUID(), channel)));
+        return updates == null ? List.of() : updates;
+    }
+
+    @Test
+    public void testUnchangedRegistersAreNotProcessedAgain() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readTransform", "COUNT(x)");
+        dataConfig.put("updateUnchangedValuesEveryMillis", 60000L);
+        ModbusDataThingHandler dataHandler = createRegisterReader(request, dataConfig);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 9, 9)));
+        int invocations = transformation.invocations.get();
+        assertThat(invocations, is(not(equalTo(0))));
+
+        // Other registers of the poll changed, the register of this thing did not
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 7, 7)));
+        assertEquals(invocations, transformation.invocations.get());
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(6, 7, 7)));
+        assertEquals(2 * invocations, transformation.invocations.get());
+
+        waitForAssert(() -> {
+            assertEquals(List.of(new DecimalType(5), new DecimalType(6)),
+                    getStateUpdates(dataHandler, CHANNEL_NUMBER));
+            // the timestamp is not throttled by default
+            assertEquals(3, getStateUpdates(dataHandler, CHANNEL_LAST_READ_SUCCESS).size());
+        });
+    }
+
+    @Test
+    public void testUnchangedRegistersAreProcessedAgainAfterUpdateUnchangedValuesEveryMillis()
+            throws InterruptedException {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readTransform", "COUNT(x)");
+        dataConfig.put("updateUnchangedValuesEveryMillis", 100L);
+        ModbusDataThingHandler dataHandler = createRegisterReader(request, dataConfig);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        int invocations = transformation.invocations.get();
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        assertEquals(invocations, transformation.invocations.get());
+
+        Thread.sleep(150);
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        assertEquals(2 * invocations, transformation.invocations.get());
+
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), new DecimalType(5)),
+                getStateUpdates(dataHandler, CHANNEL_NUMBER)));
+    }
+
+    @Test
+    public void testReadErrorMakesUnchangedRegistersBeProcessedAgain() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readTransform", "COUNT(x)");
+        dataConfig.put("updateUnchangedValuesEveryMillis", 60000L);
+        ModbusDataThingHandler dataHandler = createRegisterReader(request, dataConfig);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+        int invocations = transformation.invocations.get();
+        dataHandler.handleReadError(new AsyncModbusFailure<>(request, new Exception("fooerror")));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(5, 0, 0)));
+
+        assertEquals(2 * invocations, transformation.invocations.get());
+    }
+
+    @Test
+    public void testTimestampUpdatesAreThrottled() {
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("updateTimestampsEveryMillis", 60000L);
+        ModbusDataThingHandler dataHandler = createRegisterReader(request, dataConfig);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 0, 0)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(2, 0, 0)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(2, 0, 0)));
+
+        waitForAssert(() -> {
+            assertEquals(List.of(new DecimalType(1), new DecimalType(2)),
+                    getStateUpdates(dataHandler, CHANNEL_NUMBER));
+            assertEquals(1, getStateUpdates(dataHandler, CHANNEL_LAST_READ_SUCCESS).size());
+        });
+    }
+
     @Test
     public void testRefreshOnData() throws InterruptedException {
         ModbusReadFunctionCode functionCode = ModbusReadFunctionCode.READ_COILS;
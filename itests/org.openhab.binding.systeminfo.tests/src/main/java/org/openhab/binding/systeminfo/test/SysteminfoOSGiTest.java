@@ -16,6 +16,7 @@ import static java.lang.Thread.sleep;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.*;
 
@@ -23,6 +24,7 @@ import java.math.BigDecimal;
 import java.net.UnknownHostException;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Set;
 
 import javax.measure.quantity.ElectricPotential;
 import javax.measure.quantity.Temperature;
@@ -34,6 +36,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -50,10 +53,13 @@ import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryService;
 import org.openhab.core.config.discovery.inbox.Inbox;
 import org.openhab.core.config.discovery.inbox.InboxPredicates;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.i18n.UnitProvider;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.ItemStateEvent;
 import org.openhab.core.library.dimension.DataAmount;
 import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.library.items.StringItem;
@@ -1090,6 +1096,47 @@ public class SysteminfoOSGiTest extends JavaOSGiTest {
         assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, mockedProcessLoad);
     }
 
+    private long countStateEvents(EventSubscriber eventSubscriber) {
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(eventSubscriber, atLeast(0)).receive(captor.capture());
+        return captor.getAllValues().stream().filter(ItemStateEvent.class::isInstance).map(ItemStateEvent.class::cast)
+                .filter(event -> DEFAULT_TEST_ITEM_NAME.equals(event.getItemName())).count();
+    }
+
+    private long countInvocations(String methodName) {
+        return mockingDetails(mockedSystemInfo).getInvocations().stream()
+                .filter(invocation -> methodName.equals(invocation.getMethod().getName())).count();
+    }
+
+    @Test
+    public void assertUnchangedStateIsNotPublishedAgain() throws InterruptedException {
+        String acceptedItemType = "Number";
+        PercentType mockedCpuLoadValue = new PercentType(9);
+        when(mockedSystemInfo.getSystemCpuLoad()).thenReturn(mockedCpuLoadValue);
+        EventSubscriber eventSubscriber = mock(EventSubscriber.class);
+        when(eventSubscriber.getSubscribedEventTypes()).thenReturn(Set.of(ItemStateEvent.TYPE));
+        registerService(eventSubscriber);
+
+        initializeThingWithChannel(DEFAULT_TEST_CHANNEL_ID, acceptedItemType);
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, mockedCpuLoadValue);
+        long stateEvents = countStateEvents(eventSubscriber);
+        long queries = countInvocations("getSystemCpuLoad");
+
+        // a few more refreshes of the channel with the same value
+        waitForAssert(() -> assertThat(countInvocations("getSystemCpuLoad"), is(greaterThanOrEqualTo(queries + 2))),
+                DEFAULT_TEST_INTERVAL_HIGH * 5000, DFL_SLEEP_TIME);
+        assertThat(countStateEvents(eventSubscriber), is(equalTo(stateEvents)));
+        // the channel is the only one, so each refresh starts one snapshot for one query
+        assertThat(countInvocations("startSnapshot"), is(greaterThanOrEqualTo(countInvocations("getSystemCpuLoad"))));
+
+        PercentType changedCpuLoadValue = new PercentType(10);
+        when(mockedSystemInfo.getSystemCpuLoad()).thenReturn(changedCpuLoadValue);
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, changedCpuLoadValue);
+        waitForAssert(() -> assertThat(countStateEvents(eventSubscriber), is(equalTo(stateEvents + 1))));
+
+        unregisterService(eventSubscriber);
+    }
+
     @Test
     public void testThingHandlesChannelPriorityChange() {
         String priorityKey = "priority";